@@ -0,0 +1,97 @@
+#!/usr/bin/env bash
+
+# Licensed to the Apache Software Foundation (ASF) under one
+# or more contributor license agreements.  See the NOTICE file
+# distributed with this work for additional information
+# regarding copyright ownership.  The ASF licenses this file
+# to you under the Apache License, Version 2.0 (the
+# "License"); you may not use this file except in compliance
+# with the License.  You may obtain a copy of the License at
+#
+#    http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing,
+# software distributed under the License is distributed on an
+# "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+# KIND, either express or implied.  See the License for the
+# specific language governing permissions and limitations
+# under the License.
+
+# -----------------------------------------------------------------------------
+# Measures the startup time of a Maven distribution with and without a class
+# data sharing archive (see MAVEN_CDS in bin/mvn).
+#
+# For both "mvn -v" and a no-op "mvn validate" build of a single module project
+# generated in a temporary directory, the script reports the average wall clock
+# time of a number of invocations, first with the archive disabled, then after
+# training it. The archive is trained into a temporary file, so the one of the
+# user, if any, is neither used nor modified.
+#
+# Usage: bash apache-maven/src/test/scripts/benchmark-mvn-startup.sh <maven-home> [iterations]
+#
+# The Maven home is an unpacked distribution, e.g. the one built into
+# apache-maven/target/maven-<version>-bin/apache-maven-<version>. The number of
+# iterations defaults to 10. Bash is required for its time keyword, which
+# reports sub-second durations.
+# -----------------------------------------------------------------------------
+
+set -e
+
+if [ -z "$1" ] || [ ! -x "$1/bin/mvn" ]; then
+  echo "Usage: $0 <maven-home> [iterations]" >&2
+  exit 1
+fi
+
+maven_home=`cd "$1" && pwd`
+iterations="${2:-10}"
+
+work_dir=`mktemp -d "${TMPDIR:-/tmp}/mvn-startup.XXXXXX"`
+trap 'rm -rf "$work_dir"' EXIT INT TERM
+
+project_dir="$work_dir/project"
+mkdir -p "$project_dir/.mvn"
+cat > "$project_dir/pom.xml" <<'POM'
+<project xmlns="http://maven.apache.org/POM/4.1.0">
+  <groupId>org.apache.maven.benchmark</groupId>
+  <artifactId>startup</artifactId>
+  <version>1.0</version>
+  <packaging>pom</packaging>
+</project>
+POM
+
+MAVEN_CDS_ARCHIVE="$work_dir/maven.jsa"
+MAVEN_SKIP_RC=1
+export MAVEN_CDS_ARCHIVE MAVEN_SKIP_RC
+
+# measure <label> <mvn arguments...>
+# prints the average time of an invocation, in milliseconds
+measure() {
+  label="$1"
+  shift
+  TIMEFORMAT=%R
+  elapsed=`cd "$project_dir" && { time (
+    for ((i = 0; i < iterations; i++)); do
+      "$maven_home/bin/mvn" "$@" > /dev/null 2>&1 || exit 1
+    done
+  ) ; } 2>&1`
+  average=`awk -v elapsed="$elapsed" -v n="$iterations" 'BEGIN { printf "%d", elapsed * 1000 / n }'`
+  printf '%-32s %6s ms\n' "$label" "$average"
+}
+
+echo "Average over $iterations invocations of $maven_home"
+
+MAVEN_CDS=off
+export MAVEN_CDS
+measure "mvn -v (no archive)" -v
+measure "mvn validate (no archive)" -q -o validate
+
+MAVEN_CDS=train
+( cd "$project_dir" && "$maven_home/bin/mvn" -q -o validate > /dev/null )
+if [ ! -f "$MAVEN_CDS_ARCHIVE" ]; then
+  echo "The class data sharing archive was not created" >&2
+  exit 1
+fi
+
+unset MAVEN_CDS
+measure "mvn -v (archive)" -v
+measure "mvn validate (archive)" -q -o validate
@@ -482,6 +482,98 @@ public final class Constants {
     @Config(type = "java.lang.Integer", defaultValue = "cores/2 + 1")
     public static final String MAVEN_MODEL_BUILDER_PARALLELISM = "maven.modelBuilder.parallelism";
 
+    /**
+     * User property for running build steps and model building on virtual threads instead of a fixed pool of
+     * platform threads. Steps blocked on I/O (e.g. artifact downloads) then no longer hold a thread, while mojo
+     * executions remain limited by the degree of concurrency given with {@code -T}.
+     * Requires Java 21 or later, the property is ignored with a warning otherwise.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_VIRTUAL_THREADS = "maven.virtualThreads";
+
+    /**
+     * User property for releasing the memory held by each project of the reactor (resolved dependencies, plugin
+     * artifacts, execution project and mojo executions) as soon as the project and all the projects depending on it
+     * have been built. Projects running aggregating mojos or reports are considered as depending on all the projects
+     * of the reactor. Only supported by the concurrent builder. Plugins accessing the dependencies of other reactor
+     * projects at the end of the build, from a project that does not depend on them, may not see them.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_BUILDER_RELEASE_PROJECTS = "maven.builder.releaseProjects";
+
+    /**
+     * User property for notifying event spies, and the listeners registered on the session, asynchronously instead
+     * of on the thread firing the event, so that slow spies do not slow down the build. Each spy is given its own
+     * thread and bounded queue, events are delivered in the order they have been fired, and pending events are
+     * delivered before the end of the session.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_EVENT_SPIES_ASYNC = "maven.eventSpies.async";
+
+    /**
+     * User property for the number of events that can be queued for each event spy when they are notified
+     * asynchronously.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Integer", defaultValue = "1024")
+    public static final String MAVEN_EVENT_SPIES_QUEUE_SIZE = "maven.eventSpies.queueSize";
+
+    /**
+     * User property for the behavior when the queue of an asynchronous event spy is full: {@code block} waits for
+     * the spy to catch up, {@code drop} discards the event, {@code dropRepositoryEvents} discards repository
+     * events (artifact and metadata resolution progress) but waits for the spy for other events.
+     *
+     * @since 4.1.0
+     */
+    @Config(defaultValue = "block")
+    public static final String MAVEN_EVENT_SPIES_OVERFLOW = "maven.eventSpies.overflow";
+
+    /**
+     * User property for the directory where the metrics of the build are written at the end of the session, as
+     * {@code metrics.prom} in the OpenMetrics text format and {@code metrics.json}. A relative path is resolved
+     * against the top directory. Metrics are not exported when this property is not set.
+     *
+     * @since 4.1.0
+     */
+    @Config
+    public static final String MAVEN_METRICS_OUTPUT = "maven.metrics.output";
+
+    /**
+     * System property for indexing the directories of the JAR files of plugin, extension and project class realms,
+     * so that looking up a class or resource which is not in a realm does not search all its JAR files.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "true", source = Config.Source.SYSTEM_PROPERTIES)
+    public static final String MAVEN_CLASS_REALM_INDEX = "maven.classRealm.index";
+
+    /**
+     * User property for how artifacts are installed in the local repository: {@code copy} copies them, {@code link}
+     * creates hard links to the files produced by the build where the file system supports it, and copies them
+     * otherwise. Linked files are not duplicated on disk, but they change if the build later modifies its output
+     * files in place. POM files are always copied.
+     *
+     * @since 4.1.0
+     */
+    @Config(defaultValue = "copy")
+    public static final String MAVEN_INSTALL_MODE = "maven.install.mode";
+
+    /**
+     * User property for printing the time spent in each step of the startup of the CLI tools, from the validation
+     * of the request to the building of the settings and toolchains, before the build starts.
+     *
+     * @since 4.1.0
+     */
+    @Config(type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MAVEN_STARTUP_TIMING = "maven.startup.timing";
+
     /**
      * User property for enabling/disabling the consumer POM feature.
      *
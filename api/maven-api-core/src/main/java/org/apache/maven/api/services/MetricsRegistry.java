@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.api.services;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.apache.maven.api.Service;
+import org.apache.maven.api.annotations.Experimental;
+import org.apache.maven.api.annotations.Nonnull;
+import org.apache.maven.api.annotations.ThreadSafe;
+
+/**
+ * Registry of the metrics collected during a session.
+ * <p>
+ * Maven records counters, gauges and timers for model building, dependency resolution, artifact transfers,
+ * caches, plugin realms and mojo executions, and plugins or extensions may record their own. A metric is
+ * identified by its name and labels: asking twice for the same metric returns the same instance, so that metrics
+ * may be looked up when needed instead of being kept around. Names should follow the OpenMetrics conventions,
+ * i.e. lower case words separated by underscores, prefixed with the name of the component recording them.
+ * <p>
+ * Metrics are collected for every session. They can be exported at the end of the session by setting the
+ * {@code maven.metrics.output} property.
+ *
+ * @since 4.1.0
+ */
+@Experimental
+@ThreadSafe
+public interface MetricsRegistry extends Service {
+
+    /**
+     * Returns the counter with the given name and labels, creating it if needed.
+     *
+     * @param name the name of the counter
+     * @param description a description of the counter
+     * @param labels the labels of the counter, may be empty
+     * @return the counter, never {@code null}
+     * @throws IllegalArgumentException if a metric of another type is registered with the same name
+     */
+    @Nonnull
+    Counter counter(@Nonnull String name, @Nonnull String description, @Nonnull Map<String, String> labels);
+
+    /**
+     * Returns the counter with the given name, creating it if needed.
+     *
+     * @param name the name of the counter
+     * @param description a description of the counter
+     * @return the counter, never {@code null}
+     */
+    @Nonnull
+    default Counter counter(@Nonnull String name, @Nonnull String description) {
+        return counter(name, description, Map.of());
+    }
+
+    /**
+     * Returns the timer with the given name and labels, creating it if needed.
+     *
+     * @param name the name of the timer
+     * @param description a description of the timer
+     * @param labels the labels of the timer, may be empty
+     * @return the timer, never {@code null}
+     * @throws IllegalArgumentException if a metric of another type is registered with the same name
+     */
+    @Nonnull
+    Timer timer(@Nonnull String name, @Nonnull String description, @Nonnull Map<String, String> labels);
+
+    /**
+     * Returns the timer with the given name, creating it if needed.
+     *
+     * @param name the name of the timer
+     * @param description a description of the timer
+     * @return the timer, never {@code null}
+     */
+    @Nonnull
+    default Timer timer(@Nonnull String name, @Nonnull String description) {
+        return timer(name, description, Map.of());
+    }
+
+    /**
+     * Registers a gauge, whose value is computed when the metrics are read. If a gauge with the same name and
+     * labels is already registered, it is kept and the given supplier is ignored.
+     *
+     * @param name the name of the gauge
+     * @param description a description of the gauge
+     * @param labels the labels of the gauge, may be empty
+     * @param value computes the value of the gauge
+     * @return the gauge, never {@code null}
+     * @throws IllegalArgumentException if a metric of another type is registered with the same name
+     */
+    @Nonnull
+    Gauge gauge(
+            @Nonnull String name,
+            @Nonnull String description,
+            @Nonnull Map<String, String> labels,
+            @Nonnull LongSupplier value);
+
+    /**
+     * Registers a gauge without labels.
+     *
+     * @param name the name of the gauge
+     * @param description a description of the gauge
+     * @param value computes the value of the gauge
+     * @return the gauge, never {@code null}
+     */
+    @Nonnull
+    default Gauge gauge(@Nonnull String name, @Nonnull String description, @Nonnull LongSupplier value) {
+        return gauge(name, description, Map.of(), value);
+    }
+
+    /**
+     * Returns the metrics registered so far, sorted by name and labels.
+     *
+     * @return the metrics, never {@code null}
+     */
+    @Nonnull
+    Collection<Metric> getMetrics();
+
+    /**
+     * A metric.
+     */
+    interface Metric {
+
+        /**
+         * {@return the name of the metric}
+         */
+        @Nonnull
+        String name();
+
+        /**
+         * {@return the description of the metric}
+         */
+        @Nonnull
+        String description();
+
+        /**
+         * {@return the labels of the metric}
+         */
+        @Nonnull
+        Map<String, String> labels();
+    }
+
+    /**
+     * A monotonically increasing count.
+     */
+    interface Counter extends Metric {
+
+        /**
+         * Adds one to the count.
+         */
+        default void increment() {
+            add(1);
+        }
+
+        /**
+         * Adds the given amount to the count.
+         *
+         * @param amount the amount to add, must not be negative
+         */
+        void add(long amount);
+
+        /**
+         * {@return the current count}
+         */
+        long count();
+    }
+
+    /**
+     * A value sampled when the metrics are read.
+     */
+    interface Gauge extends Metric {
+
+        /**
+         * {@return the current value}
+         */
+        long value();
+    }
+
+    /**
+     * Records the durations of an operation, as a count, a total, a maximum and a histogram.
+     */
+    interface Timer extends Metric {
+
+        /**
+         * Records a duration.
+         *
+         * @param nanos the duration in nanoseconds
+         */
+        void record(long nanos);
+
+        /**
+         * Runs the given operation and records its duration, whether it succeeds or fails.
+         *
+         * @param operation the operation
+         * @param <T> the type of the result
+         * @return the result of the operation
+         */
+        default <T> T record(@Nonnull Supplier<T> operation) {
+            long start = System.nanoTime();
+            try {
+                return operation.get();
+            } finally {
+                record(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * {@return the number of recorded durations}
+         */
+        long count();
+
+        /**
+         * {@return the sum of the recorded durations}
+         */
+        @Nonnull
+        Duration total();
+
+        /**
+         * {@return the longest recorded duration}
+         */
+        @Nonnull
+        Duration max();
+
+        /**
+         * Returns the histogram of the recorded durations, as the cumulative number of durations lower than or equal
+         * to each bucket bound. Durations above the last bound are only accounted for in {@link #count()}.
+         *
+         * @return the cumulative counts, keyed by the upper bound of the buckets
+         */
+        @Nonnull
+        SortedMap<Duration, Long> histogram();
+    }
+}
@@ -69,7 +69,17 @@ enum RequestType {
         /**
          * The request is for building a model from a dependency POM file from a downloaded artifact.
          */
-        CONSUMER_DEPENDENCY
+        CONSUMER_DEPENDENCY,
+        /**
+         * The request is for building the model of a dependency POM file from a downloaded artifact, as needed
+         * to read its artifact descriptor. The build plugins, plugin management, build extensions and reporting
+         * plugins of the POM, its parents and their profiles are dropped before inheritance, so that they are
+         * neither merged nor interpolated. The other values of the build and reporting sections, such as the
+         * build directory or final name, are kept, as they can be referenced by properties or system paths.
+         *
+         * @since 4.1.0
+         */
+        CONSUMER_DESCRIPTOR
     }
 
     /**
@@ -18,10 +18,18 @@
  */
 package org.apache.maven.api.services;
 
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.apache.maven.api.Service;
 import org.apache.maven.api.annotations.Experimental;
@@ -140,6 +148,52 @@ default PathMatcher createIncludeOnlyMatcher(@Nonnull Path baseDirectory, Collec
     @Nonnull
     PathMatcher deriveDirectoryMatcher(@Nonnull PathMatcher fileMatcher);
 
+    /**
+     * Returns the files in the given directory and its sub-directories which are accepted by the given matcher.
+     * The sub-directories rejected by the {@linkplain #deriveDirectoryMatcher(PathMatcher) directory matcher}
+     * are not entered. Implementations may walk the tree in parallel and return the files as they are found,
+     * in which case the order of the files is unspecified.
+     * <p>
+     * Symbolic links are not followed. If the given directory does not exist, the returned stream is empty.
+     * The returned stream should be closed after use, for instance with a try-with-resources statement,
+     * in order to stop the walk if the stream is not fully consumed. If an I/O error occurs after this method
+     * returned, it is thrown as an {@link java.io.UncheckedIOException} by the stream.
+     *
+     * @param baseDirectory the directory to walk
+     * @param fileMatcher a matcher, usually created by one of the other methods of this interface
+     * @return the files accepted by the matcher, resolved against {@code baseDirectory}
+     * @throws NullPointerException if baseDirectory or fileMatcher is null
+     * @throws IOException if an error occurred while walking the tree
+     * @since 4.1.0
+     */
+    @Nonnull
+    default Stream<Path> scan(@Nonnull Path baseDirectory, @Nonnull PathMatcher fileMatcher) throws IOException {
+        Objects.requireNonNull(baseDirectory, "baseDirectory cannot be null");
+        Objects.requireNonNull(fileMatcher, "fileMatcher cannot be null");
+        if (!Files.isDirectory(baseDirectory)) {
+            return Stream.empty();
+        }
+        PathMatcher directoryMatcher = deriveDirectoryMatcher(fileMatcher);
+        List<Path> files = new ArrayList<>();
+        Files.walkFileTree(baseDirectory, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                return dir.equals(baseDirectory) || directoryMatcher.matches(dir)
+                        ? FileVisitResult.CONTINUE
+                        : FileVisitResult.SKIP_SUBTREE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (fileMatcher.matches(file)) {
+                    files.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return files.stream();
+    }
+
     /**
      * Returns the path matcher that unconditionally returns {@code true} for all files.
      * It should be the matcher returned by the other methods of this interface when the
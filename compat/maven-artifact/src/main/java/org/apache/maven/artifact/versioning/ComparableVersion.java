@@ -23,7 +23,6 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -68,11 +67,14 @@ public class ComparableVersion implements Comparable<ComparableVersion> {
 
     private static final int MAX_LONGITEM_LENGTH = 18;
 
-    private String value;
+    /**
+     * Parsed versions, shared by all the instances created for the same version string.
+     */
+    private static final VersionCache<ParsedVersion> CACHE = new VersionCache<>();
 
-    private String canonical;
+    private String value;
 
-    private ListItem items;
+    private ParsedVersion parsed;
 
     private interface Item {
         int INT_ITEM = 3;
@@ -313,6 +315,12 @@ private static class StringItem implements Item {
 
         private final String value;
 
+        /**
+         * The {@link #comparableQualifier(String) comparable qualifier} of the value, computed once so that
+         * comparisons do not allocate.
+         */
+        private final String comparable;
+
         StringItem(String value, boolean followedByDigit) {
             if (followedByDigit && value.length() == 1) {
                 // a1 = alpha-1, b1 = beta-1, m1 = milestone-1
@@ -330,6 +338,7 @@ private static class StringItem implements Item {
                 }
             }
             this.value = ALIASES.getProperty(value, value);
+            this.comparable = comparableQualifier(this.value);
         }
 
         @Override
@@ -371,7 +380,7 @@ public static String comparableQualifier(String qualifier) {
         public int compareTo(Item item) {
             if (item == null) {
                 // 1-rc < 1, 1-ga > 1
-                return comparableQualifier(value).compareTo(RELEASE_VERSION_INDEX);
+                return comparable.compareTo(RELEASE_VERSION_INDEX);
             }
             switch (item.getType()) {
                 case INT_ITEM:
@@ -380,7 +389,7 @@ public int compareTo(Item item) {
                     return -1; // 1.any < 1.1 ?
 
                 case STRING_ITEM:
-                    return comparableQualifier(value).compareTo(comparableQualifier(((StringItem) item).value));
+                    return comparable.compareTo(((StringItem) item).comparable);
 
                 case COMBINATION_ITEM:
                     int result = this.compareTo(((CombinationItem) item).getStringPart());
@@ -561,8 +570,8 @@ public int compareTo(Item item) {
                     return 0; // 1-0 = 1- (normalize) = 1
                 }
                 // Compare the entire list of items with null - not just the first one, MNG-6964
-                for (Item i : this) {
-                    int result = i.compareTo(null);
+                for (int i = 0; i < size(); i++) {
+                    int result = get(i).compareTo(null);
                     if (result != 0) {
                         return result;
                     }
@@ -581,12 +590,12 @@ public int compareTo(Item item) {
                     return 1; // 1-1 > 1-sp
 
                 case LIST_ITEM:
-                    Iterator<Item> left = iterator();
-                    Iterator<Item> right = ((ListItem) item).iterator();
+                    ListItem other = (ListItem) item;
+                    int length = Math.max(size(), other.size());
 
-                    while (left.hasNext() || right.hasNext()) {
-                        Item l = left.hasNext() ? left.next() : null;
-                        Item r = right.hasNext() ? right.next() : null;
+                    for (int i = 0; i < length; i++) {
+                        Item l = i < size() ? get(i) : null;
+                        Item r = i < other.size() ? other.get(i) : null;
 
                         // if this is shorter, then invert the compare and mul with -1
                         int result = l == null ? (r == null ? 0 : -1 * r.compareTo(l)) : l.compareTo(r);
@@ -636,15 +645,56 @@ private String toListString() {
         }
     }
 
+    /**
+     * The immutable result of parsing a version string.
+     */
+    private static final class ParsedVersion {
+        private final ListItem items;
+
+        private String canonical;
+
+        private int hash;
+
+        ParsedVersion(ListItem items) {
+            this.items = items;
+        }
+
+        String getCanonical() {
+            String c = canonical;
+            if (c == null) {
+                c = items.toString();
+                canonical = c;
+            }
+            return c;
+        }
+
+        int getHash() {
+            int h = hash;
+            if (h == 0) {
+                h = items.hashCode();
+                hash = h;
+            }
+            return h;
+        }
+    }
+
     public ComparableVersion(String version) {
         parseVersion(version);
     }
 
-    @SuppressWarnings("checkstyle:innerassignment")
     public final void parseVersion(String version) {
         this.value = version;
 
-        items = new ListItem();
+        ParsedVersion cached = CACHE.get(version);
+        if (cached == null) {
+            cached = CACHE.intern(version, new ParsedVersion(parse(version)));
+        }
+        this.parsed = cached;
+    }
+
+    @SuppressWarnings("checkstyle:innerassignment")
+    private static ListItem parse(String version) {
+        ListItem items = new ListItem();
 
         version = version.toLowerCase(Locale.ENGLISH);
 
@@ -745,6 +795,8 @@ public final void parseVersion(String version) {
             list = (ListItem) stack.pop();
             list.normalize();
         }
+
+        return items;
     }
 
     private static Item parseItem(boolean isDigit, String buf) {
@@ -783,7 +835,7 @@ private static String stripLeadingZeroes(String buf) {
 
     @Override
     public int compareTo(ComparableVersion o) {
-        return items.compareTo(o.items);
+        return parsed.items.compareTo(o.parsed.items);
     }
 
     @Override
@@ -792,20 +844,18 @@ public String toString() {
     }
 
     public String getCanonical() {
-        if (canonical == null) {
-            canonical = items.toString();
-        }
-        return canonical;
+        return parsed.getCanonical();
     }
 
     @Override
     public boolean equals(Object o) {
-        return o instanceof ComparableVersion comparableVersion && items.equals(comparableVersion.items);
+        return o instanceof ComparableVersion comparableVersion
+                && (parsed == comparableVersion.parsed || parsed.items.equals(comparableVersion.parsed.items));
     }
 
     @Override
     public int hashCode() {
-        return items.hashCode();
+        return parsed.getHash();
     }
 
     // CHECKSTYLE_OFF: LineLength
@@ -846,7 +896,7 @@ public static void main(String... args) {
             }
 
             System.out.println(
-                    (i++) + ". " + version + " -> " + c.getCanonical() + "; tokens: " + c.items.toListString());
+                    (i++) + ". " + version + " -> " + c.getCanonical() + "; tokens: " + c.parsed.items.toListString());
 
             prev = c;
         }
@@ -23,6 +23,23 @@
  *
  */
 public class DefaultArtifactVersion implements ArtifactVersion {
+    /**
+     * Parsed versions, shared by all the instances created for the same version string.
+     */
+    private static final VersionCache<ParsedVersion> CACHE = new VersionCache<>();
+
+    /**
+     * The immutable result of parsing a version string. The comparable version can be shared, as it is never
+     * exposed nor modified.
+     */
+    private record ParsedVersion(
+            ComparableVersion comparable,
+            Integer majorVersion,
+            Integer minorVersion,
+            Integer incrementalVersion,
+            Integer buildNumber,
+            String qualifier) {}
+
     private Integer majorVersion;
 
     private Integer minorVersion;
@@ -93,7 +110,25 @@ public String getQualifier() {
 
     @Override
     public final void parseVersion(String version) {
-        comparable = new ComparableVersion(version);
+        ParsedVersion parsed = CACHE.get(version);
+        if (parsed == null) {
+            parsed = CACHE.intern(version, parse(version));
+        }
+        comparable = parsed.comparable();
+        majorVersion = parsed.majorVersion();
+        minorVersion = parsed.minorVersion();
+        incrementalVersion = parsed.incrementalVersion();
+        buildNumber = parsed.buildNumber();
+        qualifier = parsed.qualifier();
+    }
+
+    private static ParsedVersion parse(String version) {
+        ComparableVersion comparable = new ComparableVersion(version);
+        Integer majorVersion = null;
+        Integer minorVersion = null;
+        Integer incrementalVersion = null;
+        Integer buildNumber = null;
+        String qualifier = null;
 
         int index = version.indexOf('-');
 
@@ -169,6 +204,9 @@ public final void parseVersion(String version) {
                 buildNumber = null;
             }
         }
+
+        return new ParsedVersion(
+                comparable, majorVersion, minorVersion, incrementalVersion, buildNumber, qualifier);
     }
 
     private static boolean isDigits(String cs) {
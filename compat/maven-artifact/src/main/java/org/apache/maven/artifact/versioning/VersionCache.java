@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.artifact.versioning;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A concurrent cache of values parsed from version strings, used to intern versions and version ranges.
+ * <p>
+ * Values are weakly referenced, so that they are released once no version or range uses them anymore, and
+ * lookups do not take any lock. Values are expected to be immutable, as they are shared between all callers.
+ *
+ * @param <V> the type of cached values
+ */
+final class VersionCache<V> {
+
+    private final ConcurrentMap<String, ValueReference<V>> cache = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+    /**
+     * Returns the value cached for the given key, or {@code null} if none.
+     */
+    V get(String key) {
+        ValueReference<V> ref = cache.get(key);
+        return ref != null ? ref.get() : null;
+    }
+
+    /**
+     * Caches the given value unless another one is already cached for the given key, and returns the cached value.
+     */
+    V intern(String key, V value) {
+        expungeStaleEntries();
+        ValueReference<V> ref = new ValueReference<>(key, value, queue);
+        while (true) {
+            ValueReference<V> existing = cache.putIfAbsent(key, ref);
+            if (existing == null) {
+                return value;
+            }
+            V existingValue = existing.get();
+            if (existingValue != null) {
+                return existingValue;
+            }
+            if (cache.replace(key, existing, ref)) {
+                return value;
+            }
+        }
+    }
+
+    int size() {
+        expungeStaleEntries();
+        return cache.size();
+    }
+
+    @SuppressWarnings("checkstyle:innerassignment")
+    private void expungeStaleEntries() {
+        ValueReference<?> ref;
+        while ((ref = (ValueReference<?>) queue.poll()) != null) {
+            cache.remove(ref.key, ref);
+        }
+    }
+
+    private static final class ValueReference<V> extends WeakReference<V> {
+        private final String key;
+
+        ValueReference(String key, V value, ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -22,9 +22,7 @@
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
 
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.artifact.DefaultArtifact;
@@ -34,9 +32,9 @@
  *
  */
 public class VersionRange {
-    private static final Map<String, VersionRange> CACHE_SPEC = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final VersionCache<VersionRange> CACHE_SPEC = new VersionCache<>();
 
-    private static final Map<String, VersionRange> CACHE_VERSION = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final VersionCache<VersionRange> CACHE_VERSION = new VersionCache<>();
 
     private final ArtifactVersion recommendedVersion;
 
@@ -153,9 +151,7 @@ public static VersionRange createFromVersionSpec(String spec) throws InvalidVers
             }
         }
 
-        cached = new VersionRange(version, restrictions);
-        CACHE_SPEC.put(spec, cached);
-        return cached;
+        return CACHE_SPEC.intern(spec, new VersionRange(version, restrictions));
     }
 
     private static Restriction parseRestriction(String spec) throws InvalidVersionSpecificationException {
@@ -209,8 +205,7 @@ public static VersionRange createFromVersion(String version) {
         VersionRange cached = CACHE_VERSION.get(version);
         if (cached == null) {
             List<Restriction> restrictions = Collections.emptyList();
-            cached = new VersionRange(new DefaultArtifactVersion(version), restrictions);
-            CACHE_VERSION.put(version, cached);
+            cached = CACHE_VERSION.intern(version, new VersionRange(new DefaultArtifactVersion(version), restrictions));
         }
         return cached;
     }
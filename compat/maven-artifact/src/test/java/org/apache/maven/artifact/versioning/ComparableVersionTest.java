@@ -458,6 +458,20 @@ void testReuse() {
         assertEquals(c1, c2, "reused instance should be equivalent to new instance");
     }
 
+    @Test
+    void testSameParsedVersionKeepsOwnValue() {
+        ComparableVersion lower = new ComparableVersion("1.0-rc1");
+        ComparableVersion upper = new ComparableVersion("1.0-RC1");
+        ComparableVersion again = new ComparableVersion("1.0-RC1");
+
+        assertEquals("1.0-rc1", lower.toString());
+        assertEquals("1.0-RC1", upper.toString());
+        assertEquals(lower, upper);
+        assertEquals(upper, again);
+        assertEquals(upper.hashCode(), again.hashCode());
+        assertEquals(upper.getCanonical(), again.getCanonical());
+    }
+
     /**
      * Test <a href="https://issues.apache.org/jira/browse/MNG-7644">MNG-7644</a> edge cases
      * 1.0.0.RC1 &lt; 1.0.0-RC2 and more generally:
@@ -22,6 +22,7 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -172,6 +173,19 @@ void testSnapshotVsReleases() {
         assertVersionOlder("1.0-rc-1", "1.0-SNAPSHOT");
     }
 
+    @Test
+    void testReuse() {
+        DefaultArtifactVersion version = new DefaultArtifactVersion("1.2.3-alpha-1");
+        version.parseVersion("2");
+
+        assertEquals(2, version.getMajorVersion());
+        assertEquals(0, version.getMinorVersion());
+        assertEquals(0, version.getIncrementalVersion());
+        assertNull(version.getQualifier());
+        assertEquals(newArtifactVersion("2"), version);
+        assertEquals("2", version.toString());
+    }
+
     @Test
     void testHashCode() {
         ArtifactVersion v1 = newArtifactVersion("1");
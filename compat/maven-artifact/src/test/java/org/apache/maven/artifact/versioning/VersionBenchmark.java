@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.artifact.versioning;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmarks of version and version range parsing and comparison under multithreaded load, as done by
+ * plugins like enforcer, versions or dependency which query these APIs for each artifact of the build.
+ * <p>
+ * To run this benchmark: {@code mvn test-compile -pl compat/maven-artifact} and run the main method of this class.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@Threads(8)
+public class VersionBenchmark {
+
+    private static final String[] VERSIONS = {
+        "1", "1.0", "1.0.1", "1.2.3-SNAPSHOT", "2.0-alpha-1", "2.0-beta-2", "2.0-rc1", "2.0-RC2", "2.0", "2.0.1-sp1",
+        "3.9.9", "4.0.0-rc-3", "1.0.0.Final", "5.10.2", "33.2.1-jre", "1.2-alpha-1-20050205.060708-1", "12345678901",
+        "1.0-20250101.123456-7"
+    };
+
+    private static final String[] RANGES = {
+        "[1.0,2.0)", "[1.0,)", "(,1.0],[1.2,)", "[2.0-alpha-1,2.0]", "[3.9.9]", "(4.0.0-rc-3,5)", "[1.0.0.Final,)"
+    };
+
+    private ComparableVersion[] comparableVersions;
+
+    private DefaultArtifactVersion[] artifactVersions;
+
+    @Setup
+    public void setup() {
+        comparableVersions = new ComparableVersion[VERSIONS.length];
+        artifactVersions = new DefaultArtifactVersion[VERSIONS.length];
+        for (int i = 0; i < VERSIONS.length; i++) {
+            comparableVersions[i] = new ComparableVersion(VERSIONS[i]);
+            artifactVersions[i] = new DefaultArtifactVersion(VERSIONS[i]);
+        }
+    }
+
+    @Benchmark
+    public void parseComparableVersion(Blackhole bh) {
+        bh.consume(new ComparableVersion(VERSIONS[ThreadLocalRandom.current().nextInt(VERSIONS.length)]));
+    }
+
+    @Benchmark
+    public void parseArtifactVersion(Blackhole bh) {
+        bh.consume(new DefaultArtifactVersion(VERSIONS[ThreadLocalRandom.current().nextInt(VERSIONS.length)]));
+    }
+
+    @Benchmark
+    public void parseVersionRange(Blackhole bh) throws InvalidVersionSpecificationException {
+        bh.consume(VersionRange.createFromVersionSpec(RANGES[ThreadLocalRandom.current().nextInt(RANGES.length)]));
+    }
+
+    @Benchmark
+    public void createFromVersion(Blackhole bh) {
+        bh.consume(VersionRange.createFromVersion(VERSIONS[ThreadLocalRandom.current().nextInt(VERSIONS.length)]));
+    }
+
+    @Benchmark
+    public void compareComparableVersions(Blackhole bh) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ComparableVersion left = comparableVersions[random.nextInt(comparableVersions.length)];
+        ComparableVersion right = comparableVersions[random.nextInt(comparableVersions.length)];
+        bh.consume(left.compareTo(right));
+    }
+
+    @Benchmark
+    public void compareArtifactVersions(Blackhole bh) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        DefaultArtifactVersion left = artifactVersions[random.nextInt(artifactVersions.length)];
+        DefaultArtifactVersion right = artifactVersions[random.nextInt(artifactVersions.length)];
+        bh.consume(left.compareTo(right));
+    }
+
+    @Benchmark
+    public void containsVersion(Blackhole bh) throws InvalidVersionSpecificationException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        VersionRange range = VersionRange.createFromVersionSpec(RANGES[random.nextInt(RANGES.length)]);
+        bh.consume(range.containsVersion(artifactVersions[random.nextInt(artifactVersions.length)]));
+    }
+
+    /**
+     * Main method to run the benchmark.
+     *
+     * @param args command line arguments
+     * @throws RunnerException if the benchmark fails
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(VersionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opts).run();
+    }
+}
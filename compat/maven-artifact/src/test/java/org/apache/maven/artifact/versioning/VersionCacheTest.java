@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.artifact.versioning;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Test VersionCache.
+ */
+class VersionCacheTest {
+
+    @Test
+    void testIntern() {
+        VersionCache<Object> cache = new VersionCache<>();
+        Object first = new Object();
+        Object second = new Object();
+
+        assertNull(cache.get("1.0"));
+        assertSame(first, cache.intern("1.0", first));
+        assertSame(first, cache.intern("1.0", second), "first value should be kept");
+        assertSame(first, cache.get("1.0"));
+        assertSame(second, cache.intern("2.0", second));
+        assertEquals(2, cache.size());
+    }
+}
@@ -22,6 +22,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -107,6 +108,9 @@ public LookupContext(InvokerRequest invokerRequest, boolean containerCapsuleMana
 
     public final List<AutoCloseable> closeables = Collections.synchronizedList(new ArrayList<>());
 
+    // the nanoseconds spent in each startup step, in order, see LookupInvoker#step
+    public final Map<String, Long> startupTimings = Collections.synchronizedMap(new LinkedHashMap<>());
+
     @Override
     public void close() throws InvokerException {
         List<Exception> causes = null;
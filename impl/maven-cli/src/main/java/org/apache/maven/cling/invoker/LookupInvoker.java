@@ -35,6 +35,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
@@ -150,25 +151,62 @@ public final int invoke(InvokerRequest invokerRequest) {
     }
 
     protected int doInvoke(C context) throws Exception {
-        validate(context);
-        pushCoreProperties(context);
-        pushUserProperties(context);
-        setupGuiceClassLoading(context);
-        configureLogging(context);
-        createTerminal(context);
-        activateLogging(context);
+        step(context, "validate", this::validate);
+        step(context, "pushCoreProperties", this::pushCoreProperties);
+        step(context, "pushUserProperties", this::pushUserProperties);
+        step(context, "setupGuiceClassLoading", this::setupGuiceClassLoading);
+        step(context, "configureLogging", this::configureLogging);
+        step(context, "createTerminal", this::createTerminal);
+        step(context, "activateLogging", this::activateLogging);
         helpOrVersionAndMayExit(context);
-        preCommands(context);
-        container(context);
-        postContainer(context);
-        pushUserProperties(context); // after PropertyContributor SPI
-        lookup(context);
-        init(context);
-        postCommands(context);
-        settings(context);
+        step(context, "preCommands", this::preCommands);
+        step(context, "container", this::container);
+        step(context, "postContainer", this::postContainer);
+        step(context, "pushUserProperties", this::pushUserProperties); // after PropertyContributor SPI
+        step(context, "lookup", this::lookup);
+        step(context, "init", this::init);
+        step(context, "postCommands", this::postCommands);
+        step(context, "settings", this::settings);
+        logStartupTimings(context);
         return execute(context);
     }
 
+    /**
+     * A step of the startup of the invoker.
+     */
+    @FunctionalInterface
+    protected interface Step<C> {
+        void run(C context) throws Exception;
+    }
+
+    /**
+     * Runs a startup step, adding the time it took to {@link LookupContext#startupTimings}.
+     */
+    protected void step(C context, String name, Step<C> step) throws Exception {
+        long start = System.nanoTime();
+        try {
+            step.run(context);
+        } finally {
+            context.startupTimings.merge(name, System.nanoTime() - start, Long::sum);
+        }
+    }
+
+    /**
+     * Logs the time spent in each startup step, if {@link Constants#MAVEN_STARTUP_TIMING} is set.
+     */
+    protected void logStartupTimings(C context) {
+        if (!Boolean.parseBoolean(context.protoSession.getEffectiveProperties().get(Constants.MAVEN_STARTUP_TIMING))) {
+            return;
+        }
+        Map<String, Long> timings;
+        synchronized (context.startupTimings) {
+            timings = new LinkedHashMap<>(context.startupTimings);
+        }
+        context.logger.info("Startup timings:");
+        timings.forEach((name, nanos) ->
+                context.logger.info(String.format("  %-24s %6d ms", name, TimeUnit.NANOSECONDS.toMillis(nanos))));
+    }
+
     protected InvokerException.ExitException handleException(C context, Exception e) {
         printErrors(
                 context,
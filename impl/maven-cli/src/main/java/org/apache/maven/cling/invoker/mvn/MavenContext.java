@@ -18,6 +18,8 @@
  */
 package org.apache.maven.cling.invoker.mvn;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.apache.maven.Maven;
 import org.apache.maven.api.cli.InvokerRequest;
 import org.apache.maven.api.cli.mvn.MavenOptions;
@@ -32,6 +34,8 @@ public MavenContext(InvokerRequest invokerRequest, boolean containerCapsuleManag
 
     public SimplexTransferListener simplexTransferListener;
     public Maven maven;
+    // the toolchains built while building the settings, see MavenInvoker#settings
+    public CompletableFuture<MavenInvoker.ToolchainsBuild> toolchainsBuild;
 
     @Override
     public void doCloseContainer() throws Exception {
@@ -26,6 +26,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -134,7 +136,56 @@ protected void postCommands(MavenContext context) throws Exception {
         }
     }
 
-    protected void toolchains(MavenContext context, MavenExecutionRequest request) throws Exception {
+    /**
+     * The toolchains read by {@link #buildToolchains(MavenContext)}.
+     */
+    public record ToolchainsBuild(
+            Path installationToolchainsFile,
+            Path userToolchainsFile,
+            ToolchainsBuilderRequest request,
+            ToolchainsBuilderResult result) {}
+
+    /**
+     * Builds the toolchains while the settings are built, as they do not depend on each other.
+     * The result is consumed by {@link #toolchains(MavenContext, MavenExecutionRequest)}, that fires the events
+     * in the same order as if the toolchains were built there.
+     */
+    @Override
+    protected void settings(MavenContext context) throws Exception {
+        if (context.effectiveSettings != null) {
+            return;
+        }
+        startToolchainsBuild(context);
+        try {
+            super.settings(context);
+        } finally {
+            // failures are reported by toolchains()
+            context.toolchainsBuild.handle((r, e) -> null).join();
+        }
+    }
+
+    /**
+     * Starts building the toolchains in the background, in {@link MavenContext#toolchainsBuild}.
+     */
+    protected void startToolchainsBuild(MavenContext context) {
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        context.toolchainsBuild = CompletableFuture.supplyAsync(() -> {
+            Thread thread = Thread.currentThread();
+            ClassLoader previous = thread.getContextClassLoader();
+            thread.setContextClassLoader(tccl);
+            long start = System.nanoTime();
+            try {
+                return buildToolchains(context);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                context.startupTimings.put("toolchains (parallel)", System.nanoTime() - start);
+                thread.setContextClassLoader(previous);
+            }
+        });
+    }
+
+    protected ToolchainsBuild buildToolchains(MavenContext context) throws Exception {
         Path userToolchainsFile = null;
         if (context.options().altUserToolchains().isPresent()) {
             userToolchainsFile =
@@ -171,10 +222,6 @@ protected void toolchains(MavenContext context, MavenExecutionRequest request) t
             }
         }
 
-        request.setInstallationToolchainsFile(
-                installationToolchainsFile != null ? installationToolchainsFile.toFile() : null);
-        request.setUserToolchainsFile(userToolchainsFile != null ? userToolchainsFile.toFile() : null);
-
         ToolchainsBuilderRequest toolchainsRequest = ToolchainsBuilderRequest.builder()
                 .session(context.protoSession)
                 .installationToolchainsSource(
@@ -187,13 +234,41 @@ protected void toolchains(MavenContext context, MavenExecutionRequest request) t
                                 : null)
                 .build();
 
-        context.eventSpyDispatcher.onEvent(toolchainsRequest);
+        ToolchainsBuilderResult toolchainsResult =
+                context.lookup.lookup(ToolchainsBuilder.class).build(toolchainsRequest);
+
+        return new ToolchainsBuild(installationToolchainsFile, userToolchainsFile, toolchainsRequest, toolchainsResult);
+    }
+
+    protected void toolchains(MavenContext context, MavenExecutionRequest request) throws Exception {
+        ToolchainsBuild build;
+        if (context.toolchainsBuild != null) {
+            try {
+                build = context.toolchainsBuild.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Exception cause) {
+                    throw cause;
+                }
+                throw e;
+            } finally {
+                context.toolchainsBuild = null;
+            }
+        } else {
+            build = buildToolchains(context);
+        }
+        Path installationToolchainsFile = build.installationToolchainsFile();
+        Path userToolchainsFile = build.userToolchainsFile();
+
+        request.setInstallationToolchainsFile(
+                installationToolchainsFile != null ? installationToolchainsFile.toFile() : null);
+        request.setUserToolchainsFile(userToolchainsFile != null ? userToolchainsFile.toFile() : null);
+
+        context.eventSpyDispatcher.onEvent(build.request());
 
         context.logger.debug("Reading installation toolchains from '" + installationToolchainsFile + "'");
         context.logger.debug("Reading user toolchains from '" + userToolchainsFile + "'");
 
-        ToolchainsBuilderResult toolchainsResult =
-                context.lookup.lookup(ToolchainsBuilder.class).build(toolchainsRequest);
+        ToolchainsBuilderResult toolchainsResult = build.result();
 
         context.eventSpyDispatcher.onEvent(toolchainsResult);
 
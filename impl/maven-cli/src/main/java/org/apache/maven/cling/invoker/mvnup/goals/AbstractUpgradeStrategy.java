@@ -211,7 +211,7 @@ public static Set<Coordinates> computeAllArtifactCoordinates(UpgradeContext cont
         return new HashSet<>(coordinatesByGAV.values());
     }
 
-    protected Session getSession() {
+    protected synchronized Session getSession() {
         if (session == null) {
             session = createMaven4Session();
         }
@@ -19,11 +19,16 @@
 package org.apache.maven.cling.invoker.mvnup.goals;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import eu.maveniverse.domtrip.Document;
@@ -644,49 +649,106 @@ private PluginAnalysisResults analyzePluginsUsingEffectiveModels(
         Map<Path, Set<String>> managementResult = new HashMap<>();
         Map<Path, Set<String>> directOverrideResult = new HashMap<>();
         Map<String, PluginUpgrade> pluginUpgrades = getPluginUpgradesAsMap();
+        Path commonRoot = findCommonRoot(pomMap.keySet());
+        Map<Path, CompletableFuture<Model>> effectiveModels = new ConcurrentHashMap<>();
+
+        // Effective models are built concurrently, as each POM is analyzed on its own, while the results
+        // are merged and logged afterwards in the POM order so that the output stays deterministic
+        List<PomAnalysis> analyses = pomMap.keySet().parallelStream()
+                .map(pomPath -> analyzePom(pomPath, pomMap, tempDir, commonRoot, pluginUpgrades, effectiveModels))
+                .toList();
+
+        for (PomAnalysis pomAnalysis : analyses) {
+            pomAnalysis.debugMessages().forEach(context::debug);
+            if (pomAnalysis.failure() != null) {
+                context.warning("Failed to analyze effective model for " + pomAnalysis.pomPath() + ": "
+                        + pomAnalysis.failure().getMessage());
+                continue;
+            }
 
-        for (Map.Entry<Path, Document> entry : pomMap.entrySet()) {
-            Path originalPomPath = entry.getKey();
-
-            try {
-                // Find the corresponding temp POM path
-                Path commonRoot = findCommonRoot(pomMap.keySet());
-                Path relativePath = commonRoot.relativize(originalPomPath);
-                Path tempPomPath = tempDir.resolve(relativePath);
-
-                // Build effective model using Maven 4 API
-                PluginAnalysis analysis = analyzeEffectiveModelForPlugins(context, tempPomPath, pluginUpgrades);
-
-                // Determine where to add plugin management (last local parent)
-                Path targetPom =
-                        findLastLocalParentForPluginManagement(context, tempPomPath, pomMap, tempDir, commonRoot);
-
-                if (targetPom != null) {
-                    managementResult
-                            .computeIfAbsent(targetPom, k -> new HashSet<>())
-                            .addAll(analysis.needsManagement());
-                    directOverrideResult
-                            .computeIfAbsent(targetPom, k -> new HashSet<>())
-                            .addAll(analysis.needsDirectOverride());
-
-                    if (!analysis.needsManagement().isEmpty()) {
-                        context.debug("Will add plugin management to " + targetPom + " for plugins: "
-                                + analysis.needsManagement());
-                    }
-                    if (!analysis.needsDirectOverride().isEmpty()) {
-                        context.debug("Will add direct plugin overrides to " + targetPom + " for plugins: "
-                                + analysis.needsDirectOverride());
-                    }
+            PluginAnalysis analysis = pomAnalysis.analysis();
+            Path targetPom = pomAnalysis.targetPom();
+            if (targetPom != null) {
+                managementResult
+                        .computeIfAbsent(targetPom, k -> new HashSet<>())
+                        .addAll(analysis.needsManagement());
+                directOverrideResult
+                        .computeIfAbsent(targetPom, k -> new HashSet<>())
+                        .addAll(analysis.needsDirectOverride());
+
+                if (!analysis.needsManagement().isEmpty()) {
+                    context.debug("Will add plugin management to " + targetPom + " for plugins: "
+                            + analysis.needsManagement());
+                }
+                if (!analysis.needsDirectOverride().isEmpty()) {
+                    context.debug("Will add direct plugin overrides to " + targetPom + " for plugins: "
+                            + analysis.needsDirectOverride());
                 }
-
-            } catch (Exception e) {
-                context.warning("Failed to analyze effective model for " + originalPomPath + ": " + e.getMessage());
             }
         }
 
         return new PluginAnalysisResults(managementResult, directOverrideResult);
     }
 
+    /**
+     * Analyzes the plugins of a single POM. As this runs concurrently, nothing is logged: debug messages are
+     * collected and failures are returned instead.
+     */
+    private PomAnalysis analyzePom(
+            Path originalPomPath,
+            Map<Path, Document> pomMap,
+            Path tempDir,
+            Path commonRoot,
+            Map<String, PluginUpgrade> pluginUpgrades,
+            Map<Path, CompletableFuture<Model>> effectiveModels) {
+        List<String> debugMessages = new ArrayList<>();
+        try {
+            // Find the corresponding temp POM path
+            Path relativePath = commonRoot.relativize(originalPomPath);
+            Path tempPomPath = tempDir.resolve(relativePath);
+
+            // Build effective model using Maven 4 API
+            Model effectiveModel = getEffectiveModel(tempPomPath, effectiveModels);
+            PluginAnalysis analysis =
+                    analyzePluginsFromEffectiveModel(debugMessages::add, effectiveModel, pluginUpgrades);
+
+            // Determine where to add plugin management (last local parent)
+            Path targetPom = findLastLocalParentForPluginManagement(
+                    debugMessages::add, effectiveModel, tempPomPath, pomMap, tempDir, commonRoot, effectiveModels);
+
+            return new PomAnalysis(originalPomPath, analysis, targetPom, debugMessages, null);
+        } catch (Exception e) {
+            return new PomAnalysis(originalPomPath, null, null, debugMessages, e);
+        }
+    }
+
+    /**
+     * Gets the effective model of a temp POM, which is built only once even if it is the parent of many POMs:
+     * concurrent callers wait for the model being built by the first one.
+     */
+    private Model getEffectiveModel(Path tempPomPath, Map<Path, CompletableFuture<Model>> effectiveModels) {
+        CompletableFuture<Model> future = new CompletableFuture<>();
+        CompletableFuture<Model> existing = effectiveModels.putIfAbsent(tempPomPath, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+        try {
+            Model model = buildEffectiveModel(tempPomPath);
+            future.complete(model);
+            return model;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
     /**
      * Converts PluginUpgradeInfo map to PluginUpgrade map for compatibility.
      */
@@ -696,19 +758,13 @@ private Map<String, PluginUpgrade> getPluginUpgradesAsMap() {
                         upgrade -> upgrade.groupId() + ":" + upgrade.artifactId(), upgrade -> upgrade));
     }
 
-    private PluginAnalysis analyzeEffectiveModelForPlugins(
-            UpgradeContext context, Path tempPomPath, Map<String, PluginUpgrade> pluginUpgrades) {
-        Model effectiveModel = buildEffectiveModel(tempPomPath);
-        return analyzePluginsFromEffectiveModel(context, effectiveModel, pluginUpgrades);
-    }
-
     /**
      * Analyzes plugins from the effective model and determines which ones need upgrades. Separates plugins into those
      * overridable via pluginManagement and those requiring a direct build/plugins entry (because the version is set
      * explicitly in an inherited parent's build/plugins, not via pluginManagement).
      */
     private PluginAnalysis analyzePluginsFromEffectiveModel(
-            UpgradeContext context, Model effectiveModel, Map<String, PluginUpgrade> pluginUpgrades) {
+            Consumer<String> debug, Model effectiveModel, Map<String, PluginUpgrade> pluginUpgrades) {
         Set<String> needsManagement = new HashSet<>();
         Set<String> needsDirectOverride = new HashSet<>();
 
@@ -738,11 +794,11 @@ private PluginAnalysis analyzePluginsFromEffectiveModel(
                             // the parent sets an explicit version in build/plugins that
                             // pluginManagement alone cannot override
                             needsDirectOverride.add(pluginKey);
-                            context.debug("Plugin " + pluginKey + " version " + effectiveVersion
+                            debug.accept("Plugin " + pluginKey + " version " + effectiveVersion
                                     + " has explicit version in inherited build/plugins"
                                     + " — needs direct override to " + upgrade.minVersion());
                         } else {
-                            context.debug("Plugin " + pluginKey + " version " + effectiveVersion
+                            debug.accept("Plugin " + pluginKey + " version " + effectiveVersion
                                     + " is managed via pluginManagement — needs upgrade to " + upgrade.minVersion());
                         }
                     }
@@ -758,7 +814,7 @@ private PluginAnalysis analyzePluginsFromEffectiveModel(
                         String effectiveVersion = plugin.getVersion();
                         if (isVersionBelow(effectiveVersion, upgrade.minVersion())) {
                             needsManagement.add(pluginKey);
-                            context.debug("Managed plugin " + pluginKey + " version " + effectiveVersion
+                            debug.accept("Managed plugin " + pluginKey + " version " + effectiveVersion
                                     + " needs upgrade to " + upgrade.minVersion());
                         }
                     }
@@ -790,9 +846,13 @@ private String getPluginKey(Plugin plugin) {
      * that's the target.
      */
     private Path findLastLocalParentForPluginManagement(
-            UpgradeContext context, Path tempPomPath, Map<Path, Document> pomMap, Path tempDir, Path commonRoot) {
-
-        Model effectiveModel = buildEffectiveModel(tempPomPath);
+            Consumer<String> debug,
+            Model effectiveModel,
+            Path tempPomPath,
+            Map<Path, Document> pomMap,
+            Path tempDir,
+            Path commonRoot,
+            Map<Path, CompletableFuture<Model>> effectiveModels) {
 
         // Convert the temp path back to the original path
         Path relativePath = tempDir.relativize(tempPomPath);
@@ -813,14 +873,14 @@ private Path findLastLocalParentForPluginManagement(
                 lastLocalParent = parentPath;
 
                 Path parentTempPath = tempDir.resolve(commonRoot.relativize(parentPath));
-                currentModel = buildEffectiveModel(parentTempPath);
+                currentModel = getEffectiveModel(parentTempPath, effectiveModels);
             } else {
                 // Parent is external, stop here
                 break;
             }
         }
 
-        context.debug("Last local parent for " + currentOriginalPath + " is " + lastLocalParent);
+        debug.accept("Last local parent for " + currentOriginalPath + " is " + lastLocalParent);
         return lastLocalParent;
     }
 
@@ -1025,6 +1085,9 @@ private void collectPluginKeysFromElement(Element pluginsElement, Set<String> ke
 
     private record PluginAnalysis(Set<String> needsManagement, Set<String> needsDirectOverride) {}
 
+    private record PomAnalysis(
+            Path pomPath, PluginAnalysis analysis, Path targetPom, List<String> debugMessages, Exception failure) {}
+
     private record PluginAnalysisResults(
             Map<Path, Set<String>> pluginsNeedingManagement, Map<Path, Set<String>> pluginsNeedingDirectOverride) {}
 
@@ -21,9 +21,13 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import eu.maveniverse.domtrip.Document;
 import eu.maveniverse.domtrip.DomTripException;
@@ -50,26 +54,35 @@ private PomDiscovery() {
     /**
      * Discovers and loads all POM files starting from the given directory.
      *
+     * <p>The POMs are loaded concurrently, but the returned map is ordered as the modules are declared,
+     * depth first, so that the upgrade output does not depend on the loading timing.
+     *
      * @param startDirectory the directory to start discovery from
      * @return a map of Path to Document for all discovered POM files
      * @throws IOException if there's an error reading files
      * @throws DomTripException if there's an error parsing XML
      */
     public static Map<Path, Document> discoverPoms(Path startDirectory) throws IOException, DomTripException {
-        Map<Path, Document> pomMap = new HashMap<>();
-
         // Find and load the root POM
         Path rootPomPath = startDirectory.resolve(POM_XML);
         if (!Files.exists(rootPomPath)) {
             throw new IOException("No pom.xml found in directory: " + startDirectory);
         }
 
-        Document rootPom = loadPom(rootPomPath);
-        pomMap.put(rootPomPath, rootPom);
-
-        // Recursively discover modules
-        discoverModules(startDirectory, rootPom, pomMap);
-
+        // Load the POMs concurrently, then walk them in declaration order
+        Map<Path, CompletableFuture<Document>> loads = new ConcurrentHashMap<>();
+        load(startDirectory, rootPomPath, loads);
+        Map<Path, Document> pomMap = new LinkedHashMap<>();
+        try {
+            collect(startDirectory, rootPomPath, loads, pomMap);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            } else if (e.getCause() instanceof DomTripException domTripException) {
+                throw domTripException;
+            }
+            throw e;
+        }
         return pomMap;
     }
 
@@ -87,46 +100,81 @@ private static Document loadPom(Path pomPath) throws IOException, DomTripExcepti
     }
 
     /**
-     * Recursively discovers module POMs from the given parent POM.
+     * Starts loading the given POM, unless it is already loaded. Once loaded, the loading of the module POMs it
+     * declares is started before the returned future completes, so that all of them are registered when it does.
      *
      * @param baseDirectory the base directory for resolving module paths
-     * @param parentPom the parent POM document
-     * @param pomMap the map to store discovered POMs
-     * @throws IOException if there's an error reading files
-     * @throws DomTripException if there's an error parsing XML
+     * @param pomPath the path of the POM to load
+     * @param loads the POM loads, by POM path
      */
-    private static void discoverModules(Path baseDirectory, Document parentPom, Map<Path, Document> pomMap)
-            throws IOException, DomTripException {
+    private static void load(Path baseDirectory, Path pomPath, Map<Path, CompletableFuture<Document>> loads) {
+        loads.computeIfAbsent(pomPath, path -> CompletableFuture.supplyAsync(() -> {
+            Document pom;
+            try {
+                pom = loadPom(path);
+            } catch (IOException | DomTripException e) {
+                throw new CompletionException(e);
+            }
+            for (Path moduleDirectory : moduleDirectories(baseDirectory, pom)) {
+                Path modulePomPath = moduleDirectory.resolve(POM_XML);
+                if (Files.exists(modulePomPath)) {
+                    load(moduleDirectory, modulePomPath, loads);
+                }
+            }
+            return pom;
+        }));
+    }
 
-        Element rootElement = parentPom.root();
+    /**
+     * Adds the given POM and, depth first in declaration order, its module POMs to the map. A POM declared by
+     * several modules is kept at the position of its first declaration.
+     *
+     * @param baseDirectory the base directory for resolving module paths
+     * @param pomPath the path of the POM, already being loaded
+     * @param loads the POM loads, by POM path
+     * @param pomMap the discovered POMs
+     */
+    private static void collect(
+            Path baseDirectory,
+            Path pomPath,
+            Map<Path, CompletableFuture<Document>> loads,
+            Map<Path, Document> pomMap) {
+        Document pom = loads.get(pomPath).join();
+        pomMap.put(pomPath, pom);
+        for (Path moduleDirectory : moduleDirectories(baseDirectory, pom)) {
+            Path modulePomPath = moduleDirectory.resolve(POM_XML);
+            if (loads.containsKey(modulePomPath) && !pomMap.containsKey(modulePomPath)) {
+                collect(moduleDirectory, modulePomPath, loads, pomMap);
+            }
+        }
+    }
+
+    /**
+     * Lists the module directories declared by the given POM.
+     *
+     * @param baseDirectory the base directory for resolving module paths
+     * @param pom the POM document
+     * @return the module directories, in declaration order
+     */
+    private static List<Path> moduleDirectories(Path baseDirectory, Document pom) {
+        Element rootElement = pom.root();
         if (rootElement == null) {
-            return;
+            return List.of();
         }
 
         // Find modules element
         Element modulesElement = rootElement.childElement(MODULES).orElse(null);
         if (modulesElement == null) {
-            return;
+            return List.of();
         }
 
-        // Process each module
-        List<Element> moduleElements = modulesElement.childElements(MODULE).toList();
-        for (Element moduleElement : moduleElements) {
+        List<Path> moduleDirectories = new ArrayList<>();
+        for (Element moduleElement : modulesElement.childElements(MODULE).toList()) {
             String moduleName = moduleElement.textContentTrimmed();
-            if (moduleName.isEmpty()) {
-                continue;
-            }
-
-            Path moduleDirectory = baseDirectory.resolve(moduleName);
-            Path modulePomPath = moduleDirectory.resolve(POM_XML);
-
-            if (Files.exists(modulePomPath) && !pomMap.containsKey(modulePomPath)) {
-                Document modulePom = loadPom(modulePomPath);
-                pomMap.put(modulePomPath, modulePom);
-
-                // Recursively discover sub-modules
-                discoverModules(moduleDirectory, modulePom, pomMap);
+            if (!moduleName.isEmpty()) {
+                moduleDirectories.add(baseDirectory.resolve(moduleName));
             }
         }
+        return moduleDirectories;
     }
 }
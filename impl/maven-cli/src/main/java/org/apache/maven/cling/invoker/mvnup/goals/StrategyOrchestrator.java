@@ -19,8 +19,10 @@
 package org.apache.maven.cling.invoker.mvnup.goals;
 
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import eu.maveniverse.domtrip.Document;
 import org.apache.maven.api.cli.mvnup.UpgradeOptions;
@@ -37,6 +39,9 @@
  *
  * <p>Determines which strategies to apply based on options and executes them in priority order.
  * The DI container automatically sorts the injected strategies by their @Priority annotations.
+ * Strategies are executed one after the other, as they modify the same documents and later strategies
+ * (such as inference) rely on the changes of earlier ones; strategies may still process the documents
+ * concurrently internally. The time spent in each strategy is logged at debug level after the overall results.
  */
 @Named("strategy-orchestrator")
 @Singleton
@@ -82,10 +87,12 @@ public UpgradeResult executeStrategies(UpgradeContext context, Map<Path, Documen
         context.println();
 
         // Execute each applicable strategy
+        Map<UpgradeStrategy, Long> timings = new LinkedHashMap<>();
         for (UpgradeStrategy strategy : applicableStrategies) {
             context.info("=== " + strategy.getDescription() + " ===");
             context.indent();
 
+            long start = System.nanoTime();
             try {
                 UpgradeResult strategyResult = strategy.apply(context, pomMap);
                 overallResult = overallResult.merge(strategyResult);
@@ -99,6 +106,7 @@ public UpgradeResult executeStrategies(UpgradeContext context, Map<Path, Documen
                 UpgradeResult errorResult = new UpgradeResult(pomMap.keySet(), java.util.Set.of(), pomMap.keySet());
                 overallResult = overallResult.merge(errorResult);
             } finally {
+                timings.put(strategy, System.nanoTime() - start);
                 context.unindent();
                 context.println();
             }
@@ -106,6 +114,7 @@ public UpgradeResult executeStrategies(UpgradeContext context, Map<Path, Documen
 
         // Log overall results
         logOverallResult(context, overallResult);
+        logTimings(context, timings);
 
         return overallResult;
     }
@@ -168,6 +177,19 @@ private void logStrategyResult(UpgradeContext context, UpgradeStrategy strategy,
         }
     }
 
+    /**
+     * Logs the time spent in each strategy, in execution order.
+     */
+    private void logTimings(UpgradeContext context, Map<UpgradeStrategy, Long> timings) {
+        context.debug("=== Timings ===");
+        context.indent();
+        for (Map.Entry<UpgradeStrategy, Long> entry : timings.entrySet()) {
+            context.debug(entry.getKey().getDescription() + ": "
+                    + TimeUnit.NANOSECONDS.toMillis(entry.getValue()) + " ms");
+        }
+        context.unindent();
+    }
+
     /**
      * Logs the overall result of all strategy executions.
      */
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.cling.invoker.mvn;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.cli.InvokerRequest;
+import org.apache.maven.api.cli.Logger;
+import org.apache.maven.api.cli.ParserRequest;
+import org.apache.maven.api.cli.mvn.MavenOptions;
+import org.apache.maven.api.services.Lookup;
+import org.apache.maven.api.services.ProblemCollector;
+import org.apache.maven.api.services.ToolchainsBuilder;
+import org.apache.maven.api.services.ToolchainsBuilderRequest;
+import org.apache.maven.api.services.ToolchainsBuilderResult;
+import org.apache.maven.api.toolchain.PersistedToolchains;
+import org.apache.maven.eventspy.internal.EventSpyDispatcher;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the startup steps of {@link MavenInvoker} that do not need a container.
+ */
+class MavenInvokerStartupTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testStartupTimingsAreLoggedWhenEnabled() {
+        MavenContext context = createContext(Map.of(Constants.MAVEN_STARTUP_TIMING, "true"), mock(MavenOptions.class));
+        context.startupTimings.put("settings", 2_000_000L);
+
+        new TestInvoker().logStartupTimings(context);
+
+        verify(context.logger).info("Startup timings:");
+        verify(context.logger).info(startsWith("  settings "));
+    }
+
+    @Test
+    void testStartupTimingsAreNotLoggedByDefault() {
+        MavenContext context = createContext(Map.of(), mock(MavenOptions.class));
+        context.startupTimings.put("settings", 2_000_000L);
+
+        new TestInvoker().logStartupTimings(context);
+
+        verify(context.logger, never()).info(anyString());
+    }
+
+    @Test
+    void testToolchainsErrorSurfaces() {
+        MavenOptions options = mock(MavenOptions.class);
+        when(options.altUserToolchains()).thenReturn(Optional.of("missing-toolchains.xml"));
+        when(options.altInstallationToolchains()).thenReturn(Optional.empty());
+        MavenContext context = createContext(Map.of(), options);
+        context.eventSpyDispatcher = mock(EventSpyDispatcher.class);
+
+        TestInvoker invoker = new TestInvoker();
+        invoker.startToolchainsBuild(context);
+        FileNotFoundException e = assertThrows(
+                FileNotFoundException.class, () -> invoker.toolchains(context, new DefaultMavenExecutionRequest()));
+
+        assertTrue(e.getMessage().contains("missing-toolchains.xml"), e.getMessage());
+        assertNull(context.toolchainsBuild);
+        assertTrue(context.startupTimings.containsKey("toolchains (parallel)"));
+        verify(context.eventSpyDispatcher, never()).onEvent(any());
+    }
+
+    @Test
+    void testToolchainsAreBuiltInTheBackground() throws Exception {
+        Path userToolchains = Files.writeString(tempDir.resolve("toolchains.xml"), "<toolchains/>");
+        MavenOptions options = mock(MavenOptions.class);
+        when(options.altUserToolchains()).thenReturn(Optional.of(userToolchains.toString()));
+        when(options.altInstallationToolchains()).thenReturn(Optional.empty());
+        MavenContext context = createContext(Map.of(), options);
+        context.eventSpyDispatcher = mock(EventSpyDispatcher.class);
+
+        PersistedToolchains toolchains = PersistedToolchains.newInstance();
+        ProblemCollector<?> problems = mock(ProblemCollector.class);
+        ToolchainsBuilderResult result = mock(ToolchainsBuilderResult.class);
+        when(result.getEffectiveToolchains()).thenReturn(toolchains);
+        when(result.getProblems()).thenAnswer(i -> problems);
+        ToolchainsBuilder builder = mock(ToolchainsBuilder.class);
+        when(builder.build(any(ToolchainsBuilderRequest.class))).thenReturn(result);
+        context.lookup = mock(Lookup.class);
+        when(context.lookup.lookup(ToolchainsBuilder.class)).thenReturn(builder);
+
+        TestInvoker invoker = new TestInvoker();
+        invoker.startToolchainsBuild(context);
+        DefaultMavenExecutionRequest request = new DefaultMavenExecutionRequest();
+        invoker.toolchains(context, request);
+
+        assertEquals(userToolchains.toFile(), request.getUserToolchainsFile());
+        assertSame(toolchains, context.effectiveToolchains);
+        assertNull(context.toolchainsBuild);
+        InOrder events = inOrder(context.eventSpyDispatcher);
+        events.verify(context.eventSpyDispatcher).onEvent(any(ToolchainsBuilderRequest.class));
+        events.verify(context.eventSpyDispatcher).onEvent(result);
+    }
+
+    private MavenContext createContext(Map<String, String> userProperties, MavenOptions options) {
+        InvokerRequest invokerRequest = mock(InvokerRequest.class);
+        when(invokerRequest.cwd()).thenReturn(tempDir);
+        when(invokerRequest.installationDirectory()).thenReturn(tempDir);
+        when(invokerRequest.userHomeDirectory()).thenReturn(tempDir);
+        when(invokerRequest.topDirectory()).thenReturn(tempDir);
+        when(invokerRequest.rootDirectory()).thenReturn(Optional.empty());
+        when(invokerRequest.userProperties()).thenReturn(userProperties);
+        when(invokerRequest.systemProperties()).thenReturn(Map.of());
+        ParserRequest parserRequest = mock(ParserRequest.class);
+        when(parserRequest.logger()).thenReturn(mock(Logger.class));
+        when(invokerRequest.parserRequest()).thenReturn(parserRequest);
+        return new MavenContext(invokerRequest, false, options);
+    }
+
+    private static class TestInvoker extends MavenInvoker {
+        TestInvoker() {
+            super(mock(Lookup.class), null);
+        }
+
+        @Override
+        protected void logStartupTimings(MavenContext context) {
+            super.logStartupTimings(context);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.cling.invoker.mvnup.goals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import eu.maveniverse.domtrip.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the {@link PomDiscovery} class.
+ */
+@DisplayName("PomDiscovery")
+class PomDiscoveryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("should discover modules in declaration order")
+    void shouldDiscoverModulesInDeclarationOrder() throws Exception {
+        writePom(tempDir, "root", "b", "a", "missing");
+        writePom(tempDir.resolve("b"), "b", "c", "d");
+        writePom(tempDir.resolve("b/c"), "c");
+        writePom(tempDir.resolve("b/d"), "d");
+        writePom(tempDir.resolve("a"), "a");
+
+        Map<Path, Document> pomMap = PomDiscovery.discoverPoms(tempDir);
+
+        assertEquals(
+                List.of(
+                        tempDir.resolve("pom.xml"),
+                        tempDir.resolve("b/pom.xml"),
+                        tempDir.resolve("b/c/pom.xml"),
+                        tempDir.resolve("b/d/pom.xml"),
+                        tempDir.resolve("a/pom.xml")),
+                List.copyOf(pomMap.keySet()));
+    }
+
+    @Test
+    @DisplayName("should keep a module declared twice at its first declaration")
+    void shouldKeepModuleDeclaredTwiceAtFirstDeclaration() throws Exception {
+        writePom(tempDir, "root", "b", "a", "b/c");
+        writePom(tempDir.resolve("b"), "b", "c");
+        writePom(tempDir.resolve("b/c"), "c");
+        writePom(tempDir.resolve("a"), "a");
+
+        // the module is loaded concurrently by both declarations, the order must not depend on which one wins
+        for (int i = 0; i < 20; i++) {
+            Map<Path, Document> pomMap = PomDiscovery.discoverPoms(tempDir);
+
+            assertEquals(
+                    List.of(
+                            tempDir.resolve("pom.xml"),
+                            tempDir.resolve("b/pom.xml"),
+                            tempDir.resolve("b/c/pom.xml"),
+                            tempDir.resolve("a/pom.xml")),
+                    List.copyOf(pomMap.keySet()));
+        }
+    }
+
+    @Test
+    @DisplayName("should fail without root POM")
+    void shouldFailWithoutRootPom() {
+        assertThrows(IOException.class, () -> PomDiscovery.discoverPoms(tempDir));
+    }
+
+    private static void writePom(Path directory, String artifactId, String... modules) throws IOException {
+        StringBuilder pom = new StringBuilder();
+        pom.append("<project>\n  <modelVersion>4.0.0</modelVersion>\n");
+        pom.append("  <groupId>test</groupId>\n  <artifactId>").append(artifactId).append("</artifactId>\n");
+        pom.append("  <version>1.0</version>\n");
+        if (modules.length > 0) {
+            pom.append("  <modules>\n");
+            for (String module : modules) {
+                pom.append("    <module>").append(module).append("</module>\n");
+            }
+            pom.append("  </modules>\n");
+        }
+        pom.append("</project>\n");
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("pom.xml"), pom.toString());
+    }
+}
@@ -37,6 +37,7 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -87,6 +88,25 @@ void shouldExecuteAllApplicableStrategies() throws Exception {
             }
         }
 
+        @Test
+        @DisplayName("should log strategy timings at debug level")
+        void shouldLogTimingsAtDebugLevel() throws Exception {
+            UpgradeContext context = createMockContext();
+            Map<Path, Document> pomMap = Map.of(Paths.get("pom.xml"), mock(Document.class));
+            when(mockStrategies.get(0).isApplicable(context)).thenReturn(true);
+            when(mockStrategies.get(0).getDescription()).thenReturn("First strategy");
+            when(mockStrategies.get(0).apply(Mockito.eq(context), Mockito.any()))
+                    .thenReturn(UpgradeResult.empty());
+
+            orchestrator.executeStrategies(context, pomMap);
+
+            verify(context.logger).debug(Mockito.endsWith("=== Timings ==="));
+            verify(context.logger).debug(Mockito.matches(".*First strategy: \\d+ ms"));
+            verify(context.logger, never()).debug(Mockito.contains("Completed in"));
+            verify(context.logger, never()).info(Mockito.contains("Timings"));
+            verify(context.logger, never()).info(Mockito.matches(".*First strategy: \\d+ ms"));
+        }
+
         @Test
         @DisplayName("should skip non-applicable strategies")
         void shouldSkipNonApplicableStrategies() throws Exception {
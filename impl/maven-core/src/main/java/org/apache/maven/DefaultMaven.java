@@ -24,6 +24,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -38,6 +39,7 @@
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.MonotonicClock;
 import org.apache.maven.api.Session;
 import org.apache.maven.api.model.Model;
@@ -59,6 +61,8 @@
 import org.apache.maven.execution.ProjectDependencyGraph;
 import org.apache.maven.graph.GraphBuilder;
 import org.apache.maven.graph.ProjectSelector;
+import org.apache.maven.impl.metrics.MetricsExporter;
+import org.apache.maven.impl.metrics.SessionMetrics;
 import org.apache.maven.internal.impl.DefaultSessionFactory;
 import org.apache.maven.internal.impl.InternalMavenSession;
 import org.apache.maven.lifecycle.LifecycleExecutionException;
@@ -223,12 +227,34 @@ private MavenExecutionResult doExecute(MavenExecutionRequest request) {
 
             legacySupport.setSession(session);
 
-            return doExecute(request, session, result, chainedWorkspaceReader);
+            try {
+                return doExecute(request, session, result, chainedWorkspaceReader);
+            } finally {
+                exportMetrics(session);
+            }
         } finally {
             sessionScope.exit();
         }
     }
 
+    private void exportMetrics(MavenSession session) {
+        String output = session.getUserProperties().getProperty(Constants.MAVEN_METRICS_OUTPUT);
+        if (output == null) {
+            output = session.getSystemProperties().getProperty(Constants.MAVEN_METRICS_OUTPUT);
+        }
+        if (output == null || output.isBlank()) {
+            return;
+        }
+        Path top = session.getTopDirectory();
+        Path directory = top != null ? top.resolve(output.trim()) : Path.of(output.trim());
+        try {
+            MetricsExporter.export(SessionMetrics.of(session.getRepositorySession()).getMetrics(), directory);
+            logger.debug("Build metrics written to {}", directory);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to write build metrics to {}: {}", directory, e.getMessage(), e);
+        }
+    }
+
     private MavenExecutionResult doExecute(
             MavenExecutionRequest request,
             MavenSession session,
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.classrealm;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+
+/**
+ * Index of the directories of the JAR files of a class realm, used as the filter of a
+ * {@link org.codehaus.plexus.classworlds.realm.FilteredClassRealm} so that looking up a class or resource that is
+ * not in the realm, such as a JDK class or a class imported from another realm, does not go through all its JARs.
+ * <p>
+ * The directories of a JAR file are read once per JVM, and shared by all the realms using the same file. A realm is
+ * only filtered when all its URLs are JAR files without a {@code Class-Path} manifest attribute, as the class loader
+ * would otherwise look into files this index does not know about, and it stops being filtered if URLs are added to
+ * it once indexed.
+ *
+ * @since 4.1.0
+ */
+final class ClassRealmIndex implements Predicate<String> {
+
+    private static final String VERSIONS = "META-INF/versions/";
+
+    private static final Map<JarKey, Optional<Set<String>>> JARS = new ConcurrentHashMap<>();
+
+    record JarKey(Path path, long size, long lastModified) {}
+
+    private volatile Set<String> directories;
+
+    private ClassRealm realm;
+
+    private int urls;
+
+    private final LongAdder skipped = new LongAdder();
+
+    /**
+     * Indexes the URLs of the given realm, and starts filtering its lookups if they can all be indexed.
+     *
+     * @param realm the realm using this index as its filter
+     * @return {@code true} if the lookups of the realm are filtered
+     */
+    boolean index(ClassRealm realm) {
+        URL[] realmUrls = realm.getURLs();
+        Set<String> all = new HashSet<>();
+        for (URL url : realmUrls) {
+            Optional<Set<String>> jar = directories(url);
+            if (jar.isEmpty()) {
+                return false;
+            }
+            all.addAll(jar.get());
+        }
+        this.realm = realm;
+        this.urls = realmUrls.length;
+        this.directories = all;
+        return true;
+    }
+
+    /**
+     * {@return the number of lookups that have been skipped}
+     */
+    long getSkipped() {
+        return skipped.sum();
+    }
+
+    @Override
+    public boolean test(String name) {
+        Set<String> dirs = directories;
+        if (dirs == null) {
+            return true;
+        }
+        String path = name.endsWith("/") ? name.substring(0, name.length() - 1) : name;
+        int slash = path.lastIndexOf('/');
+        if (dirs.contains(slash > 0 ? path.substring(0, slash) : "") || dirs.contains(path)) {
+            return true;
+        }
+        if (realm.getURLs().length != urls) {
+            // URLs have been added since the realm has been indexed
+            directories = null;
+            return true;
+        }
+        skipped.increment();
+        return false;
+    }
+
+    /**
+     * Returns the directories of the given JAR file, or nothing if the URL cannot be indexed.
+     */
+    static Optional<Set<String>> directories(URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return Optional.empty();
+        }
+        try {
+            Path path = Path.of(url.toURI());
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return Optional.empty();
+            }
+            JarKey key = new JarKey(path, attributes.size(), attributes.lastModifiedTime().toMillis());
+            return JARS.computeIfAbsent(key, k -> read(k.path()));
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Set<String>> read(Path path) {
+        try (JarFile jar = new JarFile(path.toFile(), false)) {
+            Manifest manifest = jar.getManifest();
+            if (manifest != null && manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH) != null) {
+                return Optional.empty();
+            }
+            Set<String> dirs = new HashSet<>();
+            for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements(); ) {
+                String name = entries.nextElement().getName();
+                add(dirs, name);
+                if (name.startsWith(VERSIONS)) {
+                    // entries of multi-release JARs are also looked up without their version prefix
+                    int slash = name.indexOf('/', VERSIONS.length());
+                    if (slash > 0) {
+                        add(dirs, name.substring(slash + 1));
+                    }
+                }
+            }
+            return Optional.of(Collections.unmodifiableSet(dirs));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void add(Set<String> dirs, String entry) {
+        String path = entry.endsWith("/") ? entry.substring(0, entry.length() - 1) : entry;
+        int slash = entry.endsWith("/") ? path.length() : path.lastIndexOf('/');
+        if (slash <= 0) {
+            dirs.add("");
+            return;
+        }
+        // add the directory and its parents, stopping at the first one already known
+        String dir = path.substring(0, slash);
+        while (dirs.add(dir)) {
+            slash = dir.lastIndexOf('/');
+            if (slash <= 0) {
+                break;
+            }
+            dir = dir.substring(0, slash);
+        }
+    }
+
+    @Override
+    public String toString() {
+        Set<String> dirs = directories;
+        return dirs != null ? dirs.size() + " directories, " + skipped.sum() + " lookup(s) skipped" : "not indexed";
+    }
+}
@@ -35,6 +35,7 @@
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.artifact.ArtifactUtils;
 import org.apache.maven.classrealm.ClassRealmRequest.RealmType;
 import org.apache.maven.extension.internal.CoreExports;
@@ -92,6 +93,12 @@ public class DefaultClassRealmManager implements ClassRealmManager {
 
     private final Set<String> providedArtifactsV4;
 
+    /**
+     * Whether the realms holding artifacts are filtered with a {@link ClassRealmIndex}.
+     */
+    private final boolean indexRealms =
+            Boolean.parseBoolean(System.getProperty(Constants.MAVEN_CLASS_REALM_INDEX, Boolean.TRUE.toString()));
+
     @Inject
     public DefaultClassRealmManager(
             CoreRealm coreRealm, List<ClassRealmManagerDelegate> delegates, CoreExports exports) {
@@ -121,7 +128,7 @@ public DefaultClassRealmManager(
                 .collect(Collectors.toSet());
     }
 
-    private ClassRealm newRealm(String id) {
+    private ClassRealm newRealm(String id, ClassRealmIndex index) {
         synchronized (world) {
             String realmId = id;
 
@@ -129,7 +136,8 @@ private ClassRealm newRealm(String id) {
 
             while (true) {
                 try {
-                    ClassRealm classRealm = world.newRealm(realmId, null);
+                    ClassRealm classRealm =
+                            index != null ? world.newRealm(realmId, null, index) : world.newRealm(realmId, null);
 
                     logger.debug("Created new class realm {}", realmId);
 
@@ -195,7 +203,8 @@ private ClassRealm createRealm(
             foreignImports = new TreeMap<>();
         }
 
-        ClassRealm classRealm = newRealm(baseRealmId);
+        ClassRealmIndex index = indexRealms && !constituents.isEmpty() ? new ClassRealmIndex() : null;
+        ClassRealm classRealm = newRealm(baseRealmId, index);
 
         if (parent != null) {
             classRealm.setParentClassLoader(parent);
@@ -207,6 +216,10 @@ private ClassRealm createRealm(
 
         populateRealm(classRealm, constituents);
 
+        if (index != null && !index.index(classRealm)) {
+            logger.debug("Class realm {} cannot be indexed, lookups are not filtered", classRealm.getId());
+        }
+
         return classRealm;
     }
 
@@ -18,17 +18,21 @@
  */
 package org.apache.maven.configuration.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
-import com.google.inject.TypeLiteral;
 import org.codehaus.plexus.component.configurator.ComponentConfigurationException;
 import org.codehaus.plexus.component.configurator.ConfigurationListener;
 import org.codehaus.plexus.component.configurator.converters.ConfigurationConverter;
@@ -43,14 +47,22 @@
 /**
  * Optimized version of CompositeBeanHelper with caching for improved performance.
  * This implementation caches method and field lookups to avoid repeated reflection operations.
+ * <p>
+ * For each (bean class, property name, value type) the resolved setter or field is compiled once into an injector
+ * holding a {@link MethodHandle} or {@link VarHandle} and the pre-computed generic type information of the property,
+ * so that configuring the same mojo class over and over only costs a map lookup, the value conversion and a direct
+ * handle invocation. When the value cannot be passed to the handle as is (e.g. it needs a widening primitive
+ * conversion), or the member is not accessible through a handle, the injector falls back to plain reflection.
+ * <p>
+ * The caches are attached to the bean classes through a {@link ClassValue}, so they do not keep the classes of
+ * discarded plugin realms reachable.
  */
 public final class EnhancedCompositeBeanHelper {
 
-    // Cache for method lookups: Class -> PropertyName -> MethodInfo
-    private static final ConcurrentMap<Class<?>, Map<String, MethodInfo>> METHOD_CACHE = new ConcurrentHashMap<>();
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
 
-    // Cache for field lookups: Class -> FieldName -> Field
-    private static final ConcurrentMap<Class<?>, Map<String, Field>> FIELD_CACHE = new ConcurrentHashMap<>();
+    // Cache of the members of each bean class, replaced by clearCaches()
+    private static volatile ClassValue<BeanMembers> members = new BeanMembersValue();
 
     private final ConverterLookup lookup;
     private final ClassLoader loader;
@@ -58,9 +70,37 @@ public final class EnhancedCompositeBeanHelper {
     private final ConfigurationListener listener;
 
     /**
-     * Holds information about a method including its parameter type.
+     * Holds information about a method including its parameter type and a handle to invoke it, if accessible.
      */
-    private record MethodInfo(Method method, Type parameterType) {}
+    private record MethodInfo(
+            Method method, Class<?> rawType, Type parameterType, Type[] typeArguments, MethodHandle handle) {}
+
+    /**
+     * Holds information about a field including its type and a handle to set it, if accessible.
+     */
+    private record FieldInfo(Field field, Class<?> rawType, Type fieldType, Type[] typeArguments, VarHandle handle) {}
+
+    private record PropertyKey(String propertyName, Class<?> valueType) {}
+
+    /**
+     * The resolved setter (or adder) and field for a property, either of them may be {@code null}.
+     */
+    private record PropertyInjector(MethodInfo method, FieldInfo field) {}
+
+    /**
+     * The cached members of a bean class: setters and adders by name, fields by name, and compiled injectors.
+     */
+    private record BeanMembers(
+            Map<String, MethodInfo> methods,
+            Map<String, FieldInfo> fields,
+            ConcurrentMap<PropertyKey, PropertyInjector> injectors) {}
+
+    private static final class BeanMembersValue extends ClassValue<BeanMembers> {
+        @Override
+        protected BeanMembers computeValue(Class<?> beanType) {
+            return new BeanMembers(buildMethodCache(beanType), buildFieldCache(beanType), new ConcurrentHashMap<>());
+        }
+    }
 
     public EnhancedCompositeBeanHelper(
             ConverterLookup lookup, ClassLoader loader, ExpressionEvaluator evaluator, ConfigurationListener listener) {
@@ -82,8 +122,7 @@ public void setDefault(Object bean, Object defaultValue, PlexusConfiguration con
         MethodInfo setterInfo = findCachedMethod(beanType, "", null);
         if (setterInfo == null) {
             // Look for any method named "set" with one parameter
-            Map<String, MethodInfo> classMethodCache = METHOD_CACHE.computeIfAbsent(beanType, this::buildMethodCache);
-            setterInfo = classMethodCache.get("set");
+            setterInfo = members.get(beanType).methods.get("set");
         }
 
         if (setterInfo == null) {
@@ -91,14 +130,14 @@ public void setDefault(Object bean, Object defaultValue, PlexusConfiguration con
         }
 
         Object value = defaultValue;
-        TypeLiteral<?> paramType = TypeLiteral.get(setterInfo.parameterType);
 
-        if (!paramType.getRawType().isInstance(value)) {
+        if (!setterInfo.rawType.isInstance(value)) {
             if (configuration.getChildCount() > 0) {
                 throw new ComponentConfigurationException(
                         "Basic element '" + configuration.getName() + "' must not contain child elements");
             }
-            value = convertProperty(beanType, paramType.getRawType(), paramType.getType(), configuration);
+            value = convertProperty(
+                    beanType, setterInfo.rawType, setterInfo.parameterType, setterInfo.typeArguments, configuration);
         }
 
         if (value != null) {
@@ -106,7 +145,7 @@ public void setDefault(Object bean, Object defaultValue, PlexusConfiguration con
                 if (listener != null) {
                     listener.notifyFieldChangeUsingSetter("", value, bean);
                 }
-                setterInfo.method.invoke(bean, value);
+                invoke(setterInfo, bean, value);
             } catch (IllegalAccessException | InvocationTargetException | LinkageError e) {
                 throw new ComponentConfigurationException(configuration, "Cannot set default", e);
             }
@@ -121,16 +160,28 @@ public void setProperty(Object bean, String propertyName, Class<?> valueType, Pl
 
         Class<?> beanType = bean.getClass();
 
+        ConcurrentMap<PropertyKey, PropertyInjector> injectors = members.get(beanType).injectors;
+        PropertyInjector injector = injectors.computeIfAbsent(
+                new PropertyKey(propertyName, valueType),
+                k -> new PropertyInjector(
+                        findCachedMethod(beanType, propertyName, valueType), findCachedField(beanType, propertyName)));
+
         // Try setter/adder methods first
-        MethodInfo methodInfo = findCachedMethod(beanType, propertyName, valueType);
+        MethodInfo methodInfo = injector.method;
         if (methodInfo != null) {
             try {
-                Object value = convertPropertyForMethod(beanType, methodInfo, valueType, configuration);
+                Object value = convertProperty(
+                        beanType,
+                        valueType,
+                        methodInfo.rawType,
+                        methodInfo.parameterType,
+                        methodInfo.typeArguments,
+                        configuration);
                 if (value != null) {
                     if (listener != null) {
                         listener.notifyFieldChangeUsingSetter(propertyName, value, bean);
                     }
-                    methodInfo.method.invoke(bean, value);
+                    invoke(methodInfo, bean, value);
                     return;
                 }
             } catch (IllegalAccessException | InvocationTargetException | LinkageError e) {
@@ -139,15 +190,21 @@ public void setProperty(Object bean, String propertyName, Class<?> valueType, Pl
         }
 
         // Try field access
-        Field field = findCachedField(beanType, propertyName);
-        if (field != null) {
+        FieldInfo fieldInfo = injector.field;
+        if (fieldInfo != null) {
             try {
-                Object value = convertPropertyForField(beanType, field, valueType, configuration);
+                Object value = convertProperty(
+                        beanType,
+                        valueType,
+                        fieldInfo.rawType,
+                        fieldInfo.fieldType,
+                        fieldInfo.typeArguments,
+                        configuration);
                 if (value != null) {
                     if (listener != null) {
                         listener.notifyFieldChangeUsingReflection(propertyName, value, bean);
                     }
-                    setFieldValue(bean, field, value);
+                    setFieldValue(bean, fieldInfo, value);
                     return;
                 }
             } catch (IllegalAccessException | LinkageError e) {
@@ -156,7 +213,7 @@ public void setProperty(Object bean, String propertyName, Class<?> valueType, Pl
         }
 
         // If we get here, we couldn't set the property
-        if (methodInfo == null && field == null) {
+        if (methodInfo == null && fieldInfo == null) {
             throw new ComponentConfigurationException(
                     configuration, "Cannot find '" + propertyName + "' in " + beanType);
         }
@@ -166,19 +223,19 @@ public void setProperty(Object bean, String propertyName, Class<?> valueType, Pl
      * Find method using cache for improved performance.
      */
     private MethodInfo findCachedMethod(Class<?> beanType, String propertyName, Class<?> valueType) {
-        Map<String, MethodInfo> classMethodCache = METHOD_CACHE.computeIfAbsent(beanType, this::buildMethodCache);
+        Map<String, MethodInfo> classMethodCache = members.get(beanType).methods;
 
         String title = Character.toTitleCase(propertyName.charAt(0)) + propertyName.substring(1);
 
         // Try setter first
         MethodInfo setter = classMethodCache.get("set" + title);
-        if (setter != null && isMethodCompatible(setter.method, valueType)) {
+        if (setter != null && isMethodCompatible(setter, valueType)) {
             return setter;
         }
 
         // Try adder
         MethodInfo adder = classMethodCache.get("add" + title);
-        if (adder != null && isMethodCompatible(adder.method, valueType)) {
+        if (adder != null && isMethodCompatible(adder, valueType)) {
             return adder;
         }
 
@@ -189,104 +246,126 @@ private MethodInfo findCachedMethod(Class<?> beanType, String propertyName, Clas
     /**
      * Build method cache for a class.
      */
-    private Map<String, MethodInfo> buildMethodCache(Class<?> beanType) {
+    private static Map<String, MethodInfo> buildMethodCache(Class<?> beanType) {
         Map<String, MethodInfo> methodMap = new HashMap<>();
 
         for (Method method : beanType.getMethods()) {
-            if (!Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 1) {
-                Type[] paramTypes = method.getGenericParameterTypes();
-                methodMap.putIfAbsent(method.getName(), new MethodInfo(method, paramTypes[0]));
+            if (!Modifier.isStatic(method.getModifiers())
+                    && method.getParameterCount() == 1
+                    && !methodMap.containsKey(method.getName())) {
+                Type paramType = method.getGenericParameterTypes()[0];
+                MethodHandle handle = null; // use reflection
+                if (!throwsCheckedExceptions(method)) {
+                    try {
+                        handle = MethodHandles.lookup().unreflect(method).asType(SETTER_TYPE);
+                    } catch (IllegalAccessException | RuntimeException e) {
+                        // use reflection
+                    }
+                }
+                methodMap.put(
+                        method.getName(),
+                        new MethodInfo(
+                                method, method.getParameterTypes()[0], paramType, typeArguments(paramType), handle));
             }
         }
 
         return methodMap;
     }
 
+    private static boolean throwsCheckedExceptions(Method method) {
+        for (Class<?> exceptionType : method.getExceptionTypes()) {
+            if (!RuntimeException.class.isAssignableFrom(exceptionType)
+                    && !Error.class.isAssignableFrom(exceptionType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Check if method is compatible with value type.
      */
-    private boolean isMethodCompatible(Method method, Class<?> valueType) {
+    private boolean isMethodCompatible(MethodInfo method, Class<?> valueType) {
         if (valueType == null) {
             return true;
         }
-        return method.getParameterTypes()[0].isAssignableFrom(valueType);
+        return method.rawType.isAssignableFrom(valueType);
     }
 
     /**
      * Find field using cache for improved performance.
      */
-    private Field findCachedField(Class<?> beanType, String fieldName) {
-        Map<String, Field> classFieldCache = FIELD_CACHE.computeIfAbsent(beanType, this::buildFieldCache);
-        return classFieldCache.get(fieldName);
+    private FieldInfo findCachedField(Class<?> beanType, String fieldName) {
+        return members.get(beanType).fields.get(fieldName);
     }
 
     /**
      * Build field cache for a class.
      */
-    private Map<String, Field> buildFieldCache(Class<?> beanType) {
-        Map<String, Field> fieldMap = new HashMap<>();
+    private static Map<String, FieldInfo> buildFieldCache(Class<?> beanType) {
+        Map<String, FieldInfo> fieldMap = new HashMap<>();
 
         for (Object member : new DeclaredMembers(beanType, View.FIELDS)) {
             Field field = (Field) member;
             if (!Modifier.isStatic(field.getModifiers())) {
-                fieldMap.put(field.getName(), field);
+                Type fieldType = field.getGenericType();
+                VarHandle handle = null; // use reflection
+                if (!Modifier.isFinal(field.getModifiers())) {
+                    try {
+                        handle = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                                .unreflectVarHandle(field);
+                    } catch (IllegalAccessException | RuntimeException e) {
+                        // use reflection
+                    }
+                }
+                fieldMap.put(
+                        field.getName(),
+                        new FieldInfo(field, field.getType(), fieldType, typeArguments(fieldType), handle));
             }
         }
 
         return fieldMap;
     }
 
-    /**
-     * Convert property value for method parameter.
-     */
-    private Object convertPropertyForMethod(
-            Class<?> beanType, MethodInfo methodInfo, Class<?> valueType, PlexusConfiguration configuration)
-            throws ComponentConfigurationException {
-
-        TypeLiteral<?> paramType = TypeLiteral.get(methodInfo.parameterType);
-        return convertProperty(beanType, valueType, configuration, paramType);
-    }
-
-    /**
-     * Convert property value for field.
-     */
-    private Object convertPropertyForField(
-            Class<?> beanType, Field field, Class<?> valueType, PlexusConfiguration configuration)
-            throws ComponentConfigurationException {
-
-        TypeLiteral<?> fieldType = TypeLiteral.get(field.getGenericType());
-        return convertProperty(beanType, valueType, configuration, fieldType);
+    private static Type[] typeArguments(Type genericType) {
+        return genericType instanceof Class ? null : TypeArguments.get(genericType);
     }
 
     private Object convertProperty(
-            Class<?> beanType, Class<?> valueType, PlexusConfiguration configuration, TypeLiteral<?> paramType)
+            Class<?> beanType,
+            Class<?> valueType,
+            Class<?> rawPropertyType,
+            Type genericPropertyType,
+            Type[] typeArguments,
+            PlexusConfiguration configuration)
             throws ComponentConfigurationException {
-        Class<?> rawPropertyType = paramType.getRawType();
-
         if (valueType != null && rawPropertyType.isAssignableFrom(valueType)) {
             rawPropertyType = valueType; // pick more specific type
         }
 
-        return convertProperty(beanType, rawPropertyType, paramType.getType(), configuration);
+        return convertProperty(beanType, rawPropertyType, genericPropertyType, typeArguments, configuration);
     }
 
     /**
      * Convert property using appropriate converter.
      */
     private Object convertProperty(
-            Class<?> beanType, Class<?> rawPropertyType, Type genericPropertyType, PlexusConfiguration configuration)
+            Class<?> beanType,
+            Class<?> rawPropertyType,
+            Type genericPropertyType,
+            Type[] typeArguments,
+            PlexusConfiguration configuration)
             throws ComponentConfigurationException {
 
         ConfigurationConverter converter = lookup.lookupConverterForType(rawPropertyType);
 
-        if (!(genericPropertyType instanceof Class) && converter instanceof ParameterizedConfigurationConverter) {
-            Type[] propertyTypeArgs = TypeArguments.get(genericPropertyType);
+        if (typeArguments != null && converter instanceof ParameterizedConfigurationConverter) {
             return ((ParameterizedConfigurationConverter) converter)
                     .fromConfiguration(
                             lookup,
                             configuration,
                             rawPropertyType,
-                            propertyTypeArgs,
+                            typeArguments,
                             beanType,
                             loader,
                             evaluator,
@@ -298,20 +377,61 @@ private Object convertProperty(
     }
 
     /**
-     * Set field value with cached accessibility.
+     * Invokes the setter through its handle when the value can be passed as is, otherwise through reflection which
+     * also handles widening conversions and reports mismatches with an {@link IllegalArgumentException}.
+     * Either way, an exception thrown by the setter is reported as an {@link InvocationTargetException} and an
+     * error is rethrown as is.
+     */
+    private static void invoke(MethodInfo methodInfo, Object bean, Object value)
+            throws IllegalAccessException, InvocationTargetException {
+        if (methodInfo.handle != null && wrap(methodInfo.rawType).isInstance(value)) {
+            try {
+                methodInfo.handle.invokeExact(bean, value);
+            } catch (RuntimeException e) {
+                // reported like Method.invoke does
+                throw new InvocationTargetException(e);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                // only setters without checked exceptions have a handle
+                throw new UndeclaredThrowableException(t);
+            }
+        } else {
+            try {
+                methodInfo.method.invoke(bean, value);
+            } catch (InvocationTargetException e) {
+                // errors are not masked, as on the handle path
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Set field value through its handle, falling back to reflection.
      */
-    private void setFieldValue(Object bean, Field field, Object value) throws IllegalAccessException {
+    private static void setFieldValue(Object bean, FieldInfo fieldInfo, Object value) throws IllegalAccessException {
+        if (fieldInfo.handle != null && wrap(fieldInfo.rawType).isInstance(value)) {
+            fieldInfo.handle.set(bean, value);
+            return;
+        }
+        Field field = fieldInfo.field;
         if (!field.canAccess(bean)) {
             field.setAccessible(true);
         }
         field.set(bean, value);
     }
 
+    private static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
     /**
      * Clear all caches. Useful for testing or memory management.
      */
     public static void clearCaches() {
-        METHOD_CACHE.clear();
-        FIELD_CACHE.clear();
+        members = new BeanMembersValue();
     }
 }
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.eventspy.internal;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.maven.eventspy.EventSpy;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.RepositoryEvent;
+
+/**
+ * Notifies an event spy from a dedicated thread, so that the threads of the build only have to queue the events.
+ * <p>
+ * Events are delivered by a single thread in the order they have been queued, so the events of a project are
+ * received in the same order as with synchronous notifications. {@link ExecutionEvent}s are copied when queued,
+ * as their current project is read from the session and would otherwise be the one of the session at delivery time.
+ * <p>
+ * Events fired by the spy itself while handling an event, for instance repository events of the artifacts it resolves,
+ * are delivered immediately, as the spy would otherwise wait for its own queue. If the spy fails with an error other
+ * than a {@link LinkageError}, such as a {@link StackOverflowError}, it is not notified anymore: the events are
+ * discarded so that the build does not wait for it.
+ *
+ * @since 4.1.0
+ */
+final class AsyncEventSpy implements EventSpy {
+
+    /**
+     * What to do with an event when the queue is full.
+     */
+    enum Overflow {
+        /**
+         * Wait for the spy to catch up.
+         */
+        BLOCK,
+        /**
+         * Discard the event.
+         */
+        DROP,
+        /**
+         * Discard repository events, which are only progress notifications, and wait for the spy for other events.
+         */
+        DROP_REPOSITORY_EVENTS;
+
+        static Overflow of(String value) {
+            if (value == null || value.isBlank()) {
+                return BLOCK;
+            }
+            String name = value.trim().replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+            try {
+                return valueOf(name);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                        "Invalid event spy overflow '" + value + "', expected block, drop or dropRepositoryEvents");
+            }
+        }
+    }
+
+    /**
+     * Reports the failures of the delegate.
+     */
+    interface ErrorHandler {
+        void onError(String action, Throwable error, EventSpy spy);
+    }
+
+    private static final Object CLOSE = new Object();
+
+    private final EventSpy delegate;
+
+    private final BlockingQueue<Object> queue;
+
+    private final Overflow overflow;
+
+    private final ErrorHandler errorHandler;
+
+    private final Thread thread;
+
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean closed;
+
+    private volatile boolean failed;
+
+    AsyncEventSpy(EventSpy delegate, int capacity, Overflow overflow, ErrorHandler errorHandler) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflow = overflow;
+        this.errorHandler = errorHandler;
+        this.thread = new Thread(this::run, "maven-event-spy-" + delegate.getClass().getSimpleName());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    EventSpy getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Returns the number of events discarded because the queue was full.
+     */
+    long getDropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void init(Context context) throws Exception {
+        delegate.init(context);
+    }
+
+    @Override
+    public void onEvent(Object event) throws Exception {
+        if (closed || failed) {
+            return;
+        }
+        if (Thread.currentThread() == thread) {
+            // fired by the spy while handling an event
+            delegate.onEvent(event);
+            return;
+        }
+        Object queued = event instanceof ExecutionEvent executionEvent ? new Snapshot(executionEvent) : event;
+        if (overflow == Overflow.BLOCK
+                || overflow == Overflow.DROP_REPOSITORY_EVENTS && !(event instanceof RepositoryEvent)) {
+            queue.put(queued);
+        } else if (!queue.offer(queued)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Waits until the events queued so far have been delivered.
+     */
+    void flush() throws InterruptedException {
+        if (closed || failed || Thread.currentThread() == thread) {
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        queue.put(latch);
+        latch.await();
+    }
+
+    /**
+     * Delivers the pending events, stops the thread and closes the delegate.
+     */
+    @Override
+    public void close() throws Exception {
+        if (!closed) {
+            closed = true;
+            queue.put(CLOSE);
+            thread.join();
+        }
+        delegate.close();
+    }
+
+    private void run() {
+        while (true) {
+            Object event;
+            try {
+                event = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (event == CLOSE) {
+                return;
+            } else if (event instanceof CountDownLatch latch) {
+                latch.countDown();
+            } else if (!failed) {
+                try {
+                    delegate.onEvent(event);
+                } catch (Exception | LinkageError e) {
+                    errorHandler.onError("notify", e, delegate);
+                } catch (Throwable e) {
+                    // keep draining the queue, so that the threads of the build do not wait for a dead spy
+                    failed = true;
+                    errorHandler.onError("notify", e, delegate);
+                }
+            }
+        }
+    }
+
+    /**
+     * An execution event whose values are captured when it is queued.
+     */
+    static final class Snapshot implements ExecutionEvent {
+
+        private final Type type;
+
+        private final MavenSession session;
+
+        private final MavenProject project;
+
+        private final MojoExecution mojoExecution;
+
+        private final Exception exception;
+
+        Snapshot(ExecutionEvent event) {
+            this.type = event.getType();
+            this.session = event.getSession();
+            this.project = event.getProject();
+            this.mojoExecution = event.getMojoExecution();
+            this.exception = event.getException();
+        }
+
+        @Override
+        public Type getType() {
+            return type;
+        }
+
+        @Override
+        public MavenSession getSession() {
+            return session;
+        }
+
+        @Override
+        public MavenProject getProject() {
+            return project;
+        }
+
+        @Override
+        public MojoExecution getMojoExecution() {
+            return mojoExecution;
+        }
+
+        @Override
+        public Exception getException() {
+            return exception;
+        }
+
+        @Override
+        public String toString() {
+            return type + " " + project;
+        }
+    }
+}
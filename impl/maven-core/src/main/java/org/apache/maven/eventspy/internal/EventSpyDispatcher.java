@@ -24,8 +24,12 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.eventspy.EventSpy;
+import org.apache.maven.execution.ExecutionEvent;
 import org.apache.maven.execution.ExecutionListener;
 import org.eclipse.aether.RepositoryListener;
 import org.slf4j.Logger;
@@ -33,19 +37,28 @@
 
 /**
  * Dispatches callbacks to all registered EventSpies.
+ * <p>
+ * When {@link Constants#MAVEN_EVENT_SPIES_ASYNC} is set, each spy is notified from its own thread through a bounded
+ * queue, see {@link AsyncEventSpy}. The events queued so far are delivered before the session end is reported, and
+ * before the spies are closed.
  * @since 3.0.2
  */
 @Named
 @Singleton
 public class EventSpyDispatcher {
+    private static final int DEFAULT_QUEUE_SIZE = 1024;
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final List<EventSpy> eventSpies;
 
+    private volatile List<EventSpy> targets;
+
     @Inject
     public EventSpyDispatcher(List<EventSpy> eventSpies) {
         // make copy to get rid of needless overhead for dynamic lookups
         this.eventSpies = new ArrayList<>(eventSpies);
+        this.targets = this.eventSpies;
     }
 
     public ExecutionListener chainListener(ExecutionListener listener) {
@@ -73,35 +86,104 @@ public void init(EventSpy.Context context) {
                 logError("initialize", e, eventSpy);
             }
         }
+        Map<String, Object> data = context.getData();
+        if (Boolean.parseBoolean(getProperty(data, Constants.MAVEN_EVENT_SPIES_ASYNC, "false"))) {
+            int capacity = getQueueSize(getProperty(data, Constants.MAVEN_EVENT_SPIES_QUEUE_SIZE, null));
+            AsyncEventSpy.Overflow overflow;
+            try {
+                overflow = AsyncEventSpy.Overflow.of(getProperty(data, Constants.MAVEN_EVENT_SPIES_OVERFLOW, null));
+            } catch (IllegalArgumentException e) {
+                logger.warn("{}, using block", e.getMessage());
+                overflow = AsyncEventSpy.Overflow.BLOCK;
+            }
+            List<EventSpy> asyncSpies = new ArrayList<>(eventSpies.size());
+            for (EventSpy eventSpy : eventSpies) {
+                asyncSpies.add(new AsyncEventSpy(eventSpy, capacity, overflow, this::logError));
+            }
+            targets = asyncSpies;
+        }
     }
 
     public void onEvent(Object event) {
         if (eventSpies.isEmpty()) {
             return;
         }
-        for (EventSpy eventSpy : eventSpies) {
+        List<EventSpy> targets = this.targets;
+        for (EventSpy eventSpy : targets) {
             try {
                 eventSpy.onEvent(event);
             } catch (Exception | LinkageError e) {
                 logError("notify", e, eventSpy);
             }
         }
+        if (event instanceof ExecutionEvent executionEvent
+                && executionEvent.getType() == ExecutionEvent.Type.SessionEnded) {
+            for (EventSpy eventSpy : targets) {
+                if (eventSpy instanceof AsyncEventSpy asyncSpy) {
+                    try {
+                        asyncSpy.flush();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
     }
 
     public void close() {
         if (eventSpies.isEmpty()) {
             return;
         }
-        for (EventSpy eventSpy : eventSpies) {
+        for (EventSpy eventSpy : targets) {
             try {
                 eventSpy.close();
             } catch (Exception | LinkageError e) {
                 logError("close", e, eventSpy);
             }
+            if (eventSpy instanceof AsyncEventSpy asyncSpy && asyncSpy.getDropped() > 0) {
+                logger.warn(
+                        "Dropped {} event(s) for spy {} as its queue was full",
+                        asyncSpy.getDropped(),
+                        asyncSpy.getDelegate().getClass().getName());
+            }
         }
     }
 
+    private int getQueueSize(String value) {
+        if (value != null) {
+            try {
+                int size = Integer.parseInt(value.trim());
+                if (size > 0) {
+                    return size;
+                }
+            } catch (NumberFormatException e) {
+                // reported below
+            }
+            logger.warn(
+                    "Invalid {} '{}', expected a positive number, using {}",
+                    Constants.MAVEN_EVENT_SPIES_QUEUE_SIZE,
+                    value,
+                    DEFAULT_QUEUE_SIZE);
+        }
+        return DEFAULT_QUEUE_SIZE;
+    }
+
+    private static String getProperty(Map<String, Object> data, String key, String defaultValue) {
+        if (data != null) {
+            for (String name : List.of("userProperties", "systemProperties")) {
+                if (data.get(name) instanceof Properties properties && properties.getProperty(key) != null) {
+                    return properties.getProperty(key);
+                }
+            }
+        }
+        return defaultValue;
+    }
+
     private void logError(String action, Throwable e, EventSpy spy) {
+        if (spy instanceof AsyncEventSpy asyncSpy) {
+            spy = asyncSpy.getDelegate();
+        }
         String msg = "Failed to " + action + " spy " + spy.getClass().getName() + ": " + e.getMessage();
 
         if (logger.isDebugEnabled()) {
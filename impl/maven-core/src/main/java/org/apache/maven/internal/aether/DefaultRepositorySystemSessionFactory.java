@@ -38,6 +38,7 @@
 import org.apache.maven.api.xml.XmlNode;
 import org.apache.maven.eventspy.internal.EventSpyDispatcher;
 import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.impl.metrics.MetricsTransferListener;
 import org.apache.maven.impl.resolver.MavenSessionBuilderSupplier;
 import org.apache.maven.impl.resolver.type.TypeRegistryAdapter;
 import org.apache.maven.internal.xml.XmlPlexusConfiguration;
@@ -57,6 +58,7 @@
 import org.eclipse.aether.repository.RepositoryPolicy;
 import org.eclipse.aether.resolution.ResolutionErrorPolicy;
 import org.eclipse.aether.util.listener.ChainedRepositoryListener;
+import org.eclipse.aether.util.listener.ChainedTransferListener;
 import org.eclipse.aether.util.repository.AuthenticationBuilder;
 import org.eclipse.aether.util.repository.ChainedLocalRepositoryManager;
 import org.eclipse.aether.util.repository.DefaultAuthenticationSelector;
@@ -340,14 +342,17 @@ public SessionBuilder newRepositorySessionBuilder(MavenExecutionRequest request)
 
         sessionBuilder.setIgnoreArtifactDescriptorRepositories(request.isIgnoreTransitiveRepositories());
 
-        sessionBuilder.setTransferListener(request.getTransferListener());
+        sessionBuilder.setTransferListener(
+                ChainedTransferListener.newInstance(request.getTransferListener(), new MetricsTransferListener()));
 
         RepositoryListener repositoryListener = eventSpyDispatcher.chainListener(new LoggingRepositoryListener(logger));
 
         boolean recordReverseTree = Boolean.parseBoolean(
                 mergedProps.getOrDefault(Constants.MAVEN_REPO_LOCAL_RECORD_REVERSE_TREE, Boolean.FALSE.toString()));
         if (recordReverseTree) {
-            repositoryListener = new ChainedRepositoryListener(repositoryListener, new ReverseTreeRepositoryListener());
+            ReverseTreeRepositoryListener reverseTreeListener = new ReverseTreeRepositoryListener();
+            sessionBuilder.addOnSessionEndedHandler(reverseTreeListener::close);
+            repositoryListener = new ChainedRepositoryListener(repositoryListener, reverseTreeListener);
         }
         sessionBuilder.setRepositoryListener(repositoryListener);
 
@@ -19,10 +19,6 @@
 package org.apache.maven.internal.aether;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -49,10 +45,15 @@
 /**
  * A class building reverse tree using {@link CollectStepData} trace data provided in {@link RepositoryEvent}
  * events fired during collection.
+ * <p>
+ * The tracking files are written in the background by a {@link TrackingJournal}, so that recording the tree does not
+ * slow down the resolution. The listener shall be {@linkplain #close() closed} at the end of the session.
  *
  * @since 3.9.0
  */
-class ReverseTreeRepositoryListener extends AbstractRepositoryListener {
+class ReverseTreeRepositoryListener extends AbstractRepositoryListener implements AutoCloseable {
+    private final TrackingJournal journal = new TrackingJournal();
+
     @Override
     public void artifactResolved(RepositoryEvent event) {
         requireNonNull(event, "event cannot be null");
@@ -107,7 +108,7 @@ public void artifactResolved(RepositoryEvent event) {
             ext = ".plugin";
             baseName = plugin.getGroupId() + "_" + plugin.getArtifactId() + "_" + plugin.getVersion();
             trackingFile = trackingDir.resolve(baseName + ext);
-            if (Files.exists(trackingFile)) {
+            if (journal.isRecorded(trackingFile)) {
                 return;
             }
 
@@ -130,7 +131,7 @@ public void artifactResolved(RepositoryEvent event) {
             baseName = ArtifactIdUtils.toId(collectStepTrace.getPath().get(0).getArtifact())
                     .replace(":", "_");
             trackingFile = trackingDir.resolve(baseName + ext);
-            if (Files.exists(trackingFile)) {
+            if (journal.isRecorded(trackingFile)) {
                 return;
             }
 
@@ -156,35 +157,37 @@ public void artifactResolved(RepositoryEvent event) {
         if (trackingFile == null) {
             return; // parent or imported bom ?
         }
-        try {
-            Files.createDirectories(trackingDir);
-
-            trackingData.add("");
-            if (!missing) {
-                if (event.getRepository() != null) {
-                    trackingData.add("Repository: " + event.getRepository());
+        trackingData.add("");
+        if (!missing) {
+            if (event.getRepository() != null) {
+                trackingData.add("Repository: " + event.getRepository());
+            }
+        } else {
+            List<RemoteRepository> repositories = new ArrayList<>();
+            if (artifactRequest != null && artifactRequest.getRepositories() != null) {
+                repositories.addAll(artifactRequest.getRepositories());
+            } else if (artifactDescriptorRequest != null && artifactDescriptorRequest.getRepositories() != null) {
+                repositories.addAll(artifactDescriptorRequest.getRepositories());
+            }
+            if (!repositories.isEmpty()) {
+                trackingData.add("Configured repositories:");
+                for (RemoteRepository r : repositories) {
+                    trackingData.add(" - " + r.getId() + " : " + r.getUrl());
                 }
             } else {
-                List<RemoteRepository> repositories = new ArrayList<>();
-                if (artifactRequest != null && artifactRequest.getRepositories() != null) {
-                    repositories.addAll(artifactRequest.getRepositories());
-                } else if (artifactDescriptorRequest != null && artifactDescriptorRequest.getRepositories() != null) {
-                    repositories.addAll(artifactDescriptorRequest.getRepositories());
-                }
-                if (!repositories.isEmpty()) {
-                    trackingData.add("Configured repositories:");
-                    for (RemoteRepository r : repositories) {
-                        trackingData.add(" - " + r.getId() + " : " + r.getUrl());
-                    }
-                } else {
-                    trackingData.add("No repositories configured");
-                }
+                trackingData.add("No repositories configured");
             }
-
-            Files.write(trackingFile, trackingData, StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
         }
+
+        journal.record(trackingFile, trackingData);
+    }
+
+    /**
+     * Writes the pending tracking files.
+     */
+    @Override
+    public void close() {
+        journal.close();
     }
 
     /**
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.aether;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Journal of the tracking files written by {@link ReverseTreeRepositoryListener}.
+ * <p>
+ * Records are queued in memory and written by a background thread, so that the resolver threads do not wait for
+ * the file system. Only the first record of each tracking file is kept, and it is written only if the file does not
+ * exist yet, as tracking files are never updated. The writer processes the queued records in batches, creating
+ * each tracking directory once. {@link #close()} writes the pending records and stops the writer, and is called at
+ * the end of the repository session.
+ */
+final class TrackingJournal implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrackingJournal.class);
+
+    private record Entry(Path file, List<String> lines) {}
+
+    /**
+     * Marker stopping the writer, compared by identity.
+     */
+    private static final Entry CLOSE = new Entry(null, null);
+
+    /**
+     * The tracking files recorded during this session.
+     */
+    private final Set<Path> recorded = ConcurrentHashMap.newKeySet();
+
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+
+    /**
+     * The tracking directories known to exist, also used as the lock for writing files.
+     */
+    private final Set<Path> directories = new HashSet<>();
+
+    private Thread writer;
+
+    private boolean closed;
+
+    private boolean failed;
+
+    /**
+     * {@return whether the given tracking file has been recorded in this session}
+     */
+    boolean isRecorded(Path file) {
+        return recorded.contains(file);
+    }
+
+    /**
+     * Records the given tracking file, unless it has already been recorded in this session.
+     *
+     * @param file the tracking file
+     * @param lines the content of the tracking file
+     */
+    void record(Path file, List<String> lines) {
+        if (recorded.add(file)) {
+            Entry entry = new Entry(file, lines);
+            synchronized (this) {
+                if (!closed) {
+                    if (writer == null) {
+                        writer = new Thread(this::run, "maven-reverse-tree-writer");
+                        writer.setDaemon(true);
+                        writer.start();
+                    }
+                    queue.add(entry);
+                    return;
+                }
+            }
+            // late event, after the end of the session
+            write(List.of(entry));
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch);
+                int close = batch.indexOf(CLOSE);
+                if (close >= 0) {
+                    write(batch.subList(0, close));
+                    return;
+                }
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(List<Entry> entries) {
+        synchronized (directories) {
+            for (Entry entry : entries) {
+                write(entry);
+            }
+        }
+    }
+
+    private void write(Entry entry) {
+        Path directory = entry.file().getParent();
+        try {
+            if (directories.add(directory)) {
+                Files.createDirectories(directory);
+            }
+            if (!Files.exists(entry.file())) {
+                Files.write(entry.file(), entry.lines(), StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            if (!failed) {
+                failed = true;
+                LOGGER.warn("Cannot write the reverse tree tracking file {}: {}", entry.file(), e.toString());
+            } else {
+                LOGGER.debug("Cannot write the reverse tree tracking file {}", entry.file(), e);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending records and stops the writer.
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            thread = writer;
+            if (thread != null) {
+                queue.add(CLOSE);
+            }
+        }
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -22,7 +22,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.Writer;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -77,12 +77,12 @@ protected Model read(Path src) throws IOException, XMLStreamException {
     protected void write(Model model, Path dest) throws IOException, XMLStreamException {
         String version = model.getModelVersion();
         Files.createDirectories(dest.getParent());
-        try (Writer w = Files.newBufferedWriter(dest)) {
+        try (OutputStream os = Files.newOutputStream(dest)) {
             MavenStaxWriter writer = new MavenStaxWriter();
             writer.setNamespace(String.format(NAMESPACE_FORMAT, version));
             writer.setSchemaLocation(String.format(SCHEMA_LOCATION_FORMAT, version));
             writer.setAddLocationInformation(false);
-            writer.write(w, model);
+            writer.write(os, model);
         }
     }
 }
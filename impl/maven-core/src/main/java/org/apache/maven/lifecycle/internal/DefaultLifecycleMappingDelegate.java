@@ -24,10 +24,13 @@
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 import org.apache.maven.execution.MavenSession;
@@ -44,17 +47,28 @@
 import org.apache.maven.plugin.PluginResolutionException;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.RemoteRepository;
 
 /**
  * Lifecycle mapping delegate component interface. Calculates project build execution plan given {@link Lifecycle} and
  * lifecycle phase. Standard lifecycles use plugin execution {@code <phase>} or mojo default lifecycle phase to
  * calculate the execution plan, but custom lifecycles can use alternative mapping strategies.
+ * <p>
+ * Projects in a reactor usually share their packaging and most of their inherited build plugins, so the computed
+ * mappings are kept in the session as templates, keyed by the lifecycle, the requested phase and a fingerprint of
+ * the build plugins and their executions. Projects with the same key get their mojo executions instantiated from the
+ * template, bound to their own {@link Plugin} instances, without recomputing the phase ordering nor resolving the
+ * plugins to find the default phase of their goals. The per-project mojo descriptors and configuration are applied
+ * later, when the execution plan is set up.
  */
 @Named(DefaultLifecycleMappingDelegate.HINT)
 @Singleton
 public class DefaultLifecycleMappingDelegate implements LifecycleMappingDelegate {
     public static final String HINT = "default";
 
+    private static final Object CACHE_KEY = new Object();
+
     private final BuildPluginManager pluginManager;
 
     @Inject
@@ -67,16 +81,45 @@ public Map<String, List<MojoExecution>> calculateLifecycleMappings(
             MavenSession session, MavenProject project, Lifecycle lifecycle, String lifecyclePhase)
             throws PluginNotFoundException, PluginResolutionException, PluginDescriptorParsingException,
                     MojoNotFoundException, InvalidPluginDescriptorException {
+        RepositorySystemSession repositorySession = session != null ? session.getRepositorySession() : null;
+        if (repositorySession == null) {
+            return instantiate(calculateTemplate(session, project, lifecycle, lifecyclePhase), project);
+        }
+
+        ConcurrentMap<TemplateKey, Map<String, List<MojoBinding>>> cache = getCache(repositorySession);
+        // plugin lifecycles may reuse the id of a standard lifecycle, so the phases and aliases are part of the key
+        TemplateKey key = new TemplateKey(
+                lifecycle.getId(),
+                lifecycle.getPhases(),
+                aliases(lifecycle),
+                lifecyclePhase,
+                project.getPackaging(),
+                fingerprint(project),
+                project.getRemotePluginRepositories());
+        Map<String, List<MojoBinding>> template = cache.get(key);
+        if (template == null) {
+            template = calculateTemplate(session, project, lifecycle, lifecyclePhase);
+            Map<String, List<MojoBinding>> existing = cache.putIfAbsent(key, template);
+            if (existing != null) {
+                template = existing;
+            }
+        }
+        return instantiate(template, project);
+    }
+
+    private Map<String, List<MojoBinding>> calculateTemplate(
+            MavenSession session, MavenProject project, Lifecycle lifecycle, String lifecyclePhase)
+            throws PluginNotFoundException, PluginResolutionException, PluginDescriptorParsingException,
+                    MojoNotFoundException, InvalidPluginDescriptorException {
         /*
          * Initialize mapping from lifecycle phase to bound mojos. The key set of this map denotes the phases the caller
          * is interested in, i.e. all phases up to and including the specified phase.
          */
 
-        Map<String, Map<PhaseId, List<MojoExecution>>> mappings =
+        Map<String, Map<PhaseId, List<MojoBinding>>> mappings =
                 new TreeMap<>(new PhaseComparator(lifecycle.getPhases()));
 
-        Map<String, String> aliases = lifecycle.getDelegate().aliases().stream()
-                .collect(Collectors.toMap(a -> a.v3Phase(), a -> a.v4Phase()));
+        Map<String, String> aliases = aliases(lifecycle);
 
         if (aliases.containsKey(lifecyclePhase)) {
             lifecyclePhase = PhaseId.of(aliases.get(lifecyclePhase)).phase();
@@ -96,7 +139,7 @@ public Map<String, List<MojoExecution>> calculateLifecycleMappings(
                 }
             }
             if (include) {
-                Map<PhaseId, List<MojoExecution>> phaseBindings = new TreeMap<>(
+                Map<PhaseId, List<MojoBinding>> phaseBindings = new TreeMap<>(
                         Comparator.comparing(PhaseId::toString, new PhaseComparator(lifecycle.getPhases())));
                 mappings.put(phase, phaseBindings);
             }
@@ -118,16 +161,15 @@ public Map<String, List<MojoExecution>> calculateLifecycleMappings(
                     phase = aliases.get(phase);
                 }
                 if (phase != null) {
-                    Map<PhaseId, List<MojoExecution>> phaseBindings = getPhaseBindings(mappings, phase);
+                    Map<PhaseId, List<MojoBinding>> phaseBindings = getPhaseBindings(mappings, phase);
                     if (phaseBindings != null) {
                         for (String goal : execution.getGoals()) {
-                            MojoExecution mojoExecution = new MojoExecution(plugin, goal, execution.getId());
-                            mojoExecution.setLifecyclePhase(phase);
+                            MojoBinding binding = new MojoBinding(plugin.getKey(), goal, execution.getId(), phase);
                             PhaseId phaseId = PhaseId.of(phase);
                             if (phaseId.priority() == 0) {
                                 phaseId = PhaseId.of(phase + "[" + execution.getPriority() + "]");
                             }
-                            addMojoExecution(phaseBindings, mojoExecution, phaseId);
+                            addMojoBinding(phaseBindings, binding, phaseId);
                         }
                     }
                 }
@@ -141,35 +183,85 @@ public Map<String, List<MojoExecution>> calculateLifecycleMappings(
                         if (aliases.containsKey(phase)) {
                             phase = aliases.get(phase);
                         }
-                        Map<PhaseId, List<MojoExecution>> phaseBindings = getPhaseBindings(mappings, phase);
+                        Map<PhaseId, List<MojoBinding>> phaseBindings = getPhaseBindings(mappings, phase);
                         if (phaseBindings != null) {
-                            MojoExecution mojoExecution = new MojoExecution(mojoDescriptor, execution.getId());
-                            mojoExecution.setLifecyclePhase(phase);
+                            MojoBinding binding = new MojoBinding(plugin.getKey(), goal, execution.getId(), phase);
                             PhaseId phaseId = PhaseId.of(phase + "[" + execution.getPriority() + "]");
-                            addMojoExecution(phaseBindings, mojoExecution, phaseId);
+                            addMojoBinding(phaseBindings, binding, phaseId);
                         }
                     }
                 }
             }
         }
 
-        Map<String, List<MojoExecution>> lifecycleMappings = new LinkedHashMap<>();
+        Map<String, List<MojoBinding>> lifecycleMappings = new LinkedHashMap<>();
 
-        for (Map.Entry<String, Map<PhaseId, List<MojoExecution>>> entry : mappings.entrySet()) {
-            List<MojoExecution> mojoExecutions = new ArrayList<>();
+        for (Map.Entry<String, Map<PhaseId, List<MojoBinding>>> entry : mappings.entrySet()) {
+            List<MojoBinding> mojoExecutions = new ArrayList<>();
 
-            for (List<MojoExecution> executions : entry.getValue().values()) {
+            for (List<MojoBinding> executions : entry.getValue().values()) {
                 mojoExecutions.addAll(executions);
             }
 
-            lifecycleMappings.put(entry.getKey(), mojoExecutions);
+            lifecycleMappings.put(entry.getKey(), List.copyOf(mojoExecutions));
         }
 
         return lifecycleMappings;
     }
 
-    private Map<PhaseId, List<MojoExecution>> getPhaseBindings(
-            Map<String, Map<PhaseId, List<MojoExecution>>> mappings, String phase) {
+    /**
+     * Creates the mojo executions of the given project from a template, binding them to the project's own plugins.
+     */
+    private Map<String, List<MojoExecution>> instantiate(
+            Map<String, List<MojoBinding>> template, MavenProject project) {
+        Map<String, Plugin> plugins = new HashMap<>();
+        for (Plugin plugin : project.getBuild().getPlugins()) {
+            plugins.put(plugin.getKey(), plugin);
+        }
+        Map<String, List<MojoExecution>> lifecycleMappings = new LinkedHashMap<>();
+        for (Map.Entry<String, List<MojoBinding>> entry : template.entrySet()) {
+            List<MojoExecution> mojoExecutions = new ArrayList<>(entry.getValue().size());
+            for (MojoBinding binding : entry.getValue()) {
+                MojoExecution mojoExecution =
+                        new MojoExecution(plugins.get(binding.pluginKey()), binding.goal(), binding.executionId());
+                mojoExecution.setLifecyclePhase(binding.phase());
+                mojoExecutions.add(mojoExecution);
+            }
+            lifecycleMappings.put(entry.getKey(), mojoExecutions);
+        }
+        return lifecycleMappings;
+    }
+
+    /**
+     * Computes the part of the project build that determines its lifecycle mappings: the build plugins, their
+     * versions and their executions.
+     */
+    private static List<PluginFingerprint> fingerprint(MavenProject project) {
+        List<Plugin> plugins = project.getBuild().getPlugins();
+        List<PluginFingerprint> fingerprint = new ArrayList<>(plugins.size());
+        for (Plugin plugin : plugins) {
+            List<ExecutionFingerprint> executions = new ArrayList<>(plugin.getExecutions().size());
+            for (PluginExecution execution : plugin.getExecutions()) {
+                executions.add(new ExecutionFingerprint(
+                        execution.getId(),
+                        execution.getPhase(),
+                        List.copyOf(execution.getGoals()),
+                        execution.getPriority()));
+            }
+            fingerprint.add(new PluginFingerprint(plugin.getKey(), plugin.getVersion(), executions));
+        }
+        return fingerprint;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMap<TemplateKey, Map<String, List<MojoBinding>>> getCache(
+            RepositorySystemSession session) {
+        return (ConcurrentMap<TemplateKey, Map<String, List<MojoBinding>>>)
+                session.getData().computeIfAbsent(CACHE_KEY, () -> new ConcurrentHashMap<>(64));
+    }
+
+    private Map<PhaseId, List<MojoBinding>> getPhaseBindings(
+            Map<String, Map<PhaseId, List<MojoBinding>>> mappings, String phase) {
         if (phase != null) {
             PhaseId id = PhaseId.of(phase);
             return mappings.get(id.executionPoint().prefix() + id.phase());
@@ -177,10 +269,37 @@ private Map<PhaseId, List<MojoExecution>> getPhaseBindings(
         return null;
     }
 
-    private void addMojoExecution(
-            Map<PhaseId, List<MojoExecution>> phaseBindings, MojoExecution mojoExecution, PhaseId phaseId) {
-        List<MojoExecution> mojoExecutions = phaseBindings.computeIfAbsent(phaseId, k -> new ArrayList<>());
+    private static Map<String, String> aliases(Lifecycle lifecycle) {
+        if (lifecycle.getDelegate() == null) {
+            return Map.of();
+        }
+        return lifecycle.getDelegate().aliases().stream()
+                .collect(Collectors.toMap(a -> a.v3Phase(), a -> a.v4Phase()));
+    }
+
+    private void addMojoBinding(Map<PhaseId, List<MojoBinding>> phaseBindings, MojoBinding binding, PhaseId phaseId) {
+        List<MojoBinding> bindings = phaseBindings.computeIfAbsent(phaseId, k -> new ArrayList<>());
 
-        mojoExecutions.add(mojoExecution);
+        bindings.add(binding);
     }
+
+    /**
+     * A mojo execution of a template, not yet bound to the plugin of a particular project. The mojo descriptor is not
+     * kept, as descriptors are bound to the plugin of the project they have been looked up for: they are filled in
+     * again by the execution plan calculator.
+     */
+    private record MojoBinding(String pluginKey, String goal, String executionId, String phase) {}
+
+    private record ExecutionFingerprint(String id, String phase, List<String> goals, int priority) {}
+
+    private record PluginFingerprint(String key, String version, List<ExecutionFingerprint> executions) {}
+
+    private record TemplateKey(
+            String lifecycle,
+            List<String> phases,
+            Map<String, String> aliases,
+            String phase,
+            String packaging,
+            List<PluginFingerprint> plugins,
+            List<RemoteRepository> repositories) {}
 }
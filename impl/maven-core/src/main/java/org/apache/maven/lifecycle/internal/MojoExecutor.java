@@ -32,6 +32,7 @@
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -81,6 +82,21 @@ public class MojoExecutor {
     private static final SessionData.Key<Map<MavenProject, OwnerReentrantLock>> PROJECT_LOCKS =
             (SessionData.Key) SessionData.key(Map.class, ProjectLock.class);
 
+    /**
+     * The permits limiting the number of mojos executing concurrently. They are only set when build steps run on
+     * virtual threads, in which case the number of threads no longer enforces the degree of concurrency.
+     *
+     * @since 4.1.0
+     */
+    public static final SessionData.Key<Semaphore> MOJO_EXECUTION_PERMITS =
+            SessionData.key(Semaphore.class, MojoExecutor.class);
+
+    /**
+     * The permits held by the current thread, so that a mojo running nested executions, such as forked executions
+     * of report plugins, does not wait for a second permit while holding one.
+     */
+    private static final ThreadLocal<Semaphore> HELD_EXECUTION_PERMITS = new ThreadLocal<>();
+
     private final BuildPluginManager pluginManager;
     private final MavenPluginManager mavenPluginManager;
     private final LifecycleDependencyResolver lifeCycleDependencyResolver;
@@ -335,6 +351,15 @@ protected boolean useProjectLock(MavenSession session) {
     private void doExecute2(MavenSession session, MojoExecution mojoExecution) throws LifecycleExecutionException {
         eventCatapult.fire(ExecutionEvent.Type.MojoStarted, session, mojoExecution);
         try {
+            Semaphore permits = getExecutionPermits(session);
+            Semaphore held = HELD_EXECUTION_PERMITS.get();
+            if (permits == held) {
+                // nested execution, already holding a permit
+                permits = null;
+            } else if (permits != null) {
+                permits.acquireUninterruptibly();
+                HELD_EXECUTION_PERMITS.set(permits);
+            }
             try {
                 pluginManager.executeMojo(session, mojoExecution);
             } catch (MojoFailureException
@@ -344,6 +369,15 @@ private void doExecute2(MavenSession session, MojoExecution mojoExecution) throw
                     | MavenException e) {
                 throw new LifecycleExecutionException(
                         messageBuilderFactory, mojoExecution, session.getCurrentProject(), e);
+            } finally {
+                if (permits != null) {
+                    permits.release();
+                    if (held != null) {
+                        HELD_EXECUTION_PERMITS.set(held);
+                    } else {
+                        HELD_EXECUTION_PERMITS.remove();
+                    }
+                }
             }
 
             eventCatapult.fire(ExecutionEvent.Type.MojoSucceeded, session, mojoExecution);
@@ -354,6 +388,10 @@ private void doExecute2(MavenSession session, MojoExecution mojoExecution) throw
         }
     }
 
+    private static Semaphore getExecutionPermits(MavenSession session) {
+        return session.getSession() != null ? session.getSession().getData().get(MOJO_EXECUTION_PERMITS) : null;
+    }
+
     public void ensureDependenciesAreResolved(
             MojoDescriptor mojoDescriptor, MavenSession session, DependencyContext dependencyContext)
             throws LifecycleExecutionException {
@@ -31,13 +31,16 @@
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.impl.util.VirtualThreads;
 import org.apache.maven.lifecycle.internal.BuildThreadFactory;
 import org.apache.maven.lifecycle.internal.LifecycleModuleBuilder;
+import org.apache.maven.lifecycle.internal.MojoExecutor;
 import org.apache.maven.lifecycle.internal.ProjectBuildList;
 import org.apache.maven.lifecycle.internal.ProjectSegment;
 import org.apache.maven.lifecycle.internal.ReactorBuildStatus;
@@ -90,29 +93,47 @@ public void build(
         for (ProjectSegment segment : projectBuilds) {
             segment.getSession().setParallel(parallel);
         }
-        ExecutorService executor = Executors.newFixedThreadPool(nThreads, new BuildThreadFactory());
-        CompletionService<ProjectSegment> service = new ExecutorCompletionService<>(executor);
-
-        for (TaskSegment taskSegment : taskSegments) {
-            ProjectBuildList segmentProjectBuilds = projectBuilds.getByTaskSegment(taskSegment);
-            Map<MavenProject, ProjectSegment> projectBuildMap = projectBuilds.selectSegment(taskSegment);
-            try {
-                ConcurrencyDependencyGraph analyzer =
-                        new ConcurrencyDependencyGraph(segmentProjectBuilds, session.getProjectDependencyGraph());
-
-                multiThreadedProjectTaskSegmentBuild(
-                        analyzer, reactorContext, session, service, taskSegment, projectBuildMap);
-                if (reactorContext.getReactorBuildStatus().isHalted()) {
+        ExecutorService executor;
+        boolean virtual = parallel
+                && VirtualThreads.isEnabled(session.getUserProperties(), session.getSystemProperties());
+        if (virtual) {
+            // projects blocked on I/O do not hold a thread, mojo executions are limited by the permits instead
+            session.getSession().getData().set(MojoExecutor.MOJO_EXECUTION_PERMITS, new Semaphore(nThreads));
+            executor = VirtualThreads.newExecutor("BuilderThread-");
+        } else {
+            executor = Executors.newFixedThreadPool(nThreads, new BuildThreadFactory());
+        }
+        try {
+            CompletionService<ProjectSegment> service = new ExecutorCompletionService<>(executor);
+
+            for (TaskSegment taskSegment : taskSegments) {
+                ProjectBuildList segmentProjectBuilds = projectBuilds.getByTaskSegment(taskSegment);
+                Map<MavenProject, ProjectSegment> projectBuildMap = projectBuilds.selectSegment(taskSegment);
+                try {
+                    ConcurrencyDependencyGraph analyzer =
+                            new ConcurrencyDependencyGraph(segmentProjectBuilds, session.getProjectDependencyGraph());
+
+                    multiThreadedProjectTaskSegmentBuild(
+                            analyzer, reactorContext, session, service, taskSegment, projectBuildMap);
+                    if (reactorContext.getReactorBuildStatus().isHalted()) {
+                        break;
+                    }
+                } catch (Exception e) {
+                    session.getResult().addException(e);
                     break;
                 }
-            } catch (Exception e) {
-                session.getResult().addException(e);
-                break;
+            }
+        } finally {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } finally {
+                if (virtual) {
+                    // do not leak the permits into the next build of an embedded or daemon JVM
+                    session.getSession().getData().set(MojoExecutor.MOJO_EXECUTION_PERMITS, null);
+                }
             }
         }
-
-        executor.shutdown();
-        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
     }
 
     private void multiThreadedProjectTaskSegmentBuild(
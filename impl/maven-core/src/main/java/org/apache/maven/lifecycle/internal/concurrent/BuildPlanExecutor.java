@@ -28,6 +28,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -36,11 +37,13 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.Lifecycle;
 import org.apache.maven.api.MonotonicClock;
 import org.apache.maven.api.plugin.descriptor.AfterLink;
@@ -57,6 +60,7 @@
 import org.apache.maven.execution.ProjectExecutionEvent;
 import org.apache.maven.execution.ProjectExecutionListener;
 import org.apache.maven.impl.util.PhasingExecutor;
+import org.apache.maven.impl.util.VirtualThreads;
 import org.apache.maven.internal.MultilineMessageHelper;
 import org.apache.maven.internal.impl.DefaultLifecycleRegistry;
 import org.apache.maven.internal.transformation.TransformerManager;
@@ -133,6 +137,11 @@
  * min(degreeOfConcurrency, numberOfProjects)
  * </pre>
  * where degreeOfConcurrency is set via the -T command-line option.
+ * When {@code maven.virtualThreads} is enabled on Java 21 or later, each build step runs on its own virtual thread
+ * instead, and only the mojo executions are limited to that number by {@link MojoExecutor#MOJO_EXECUTION_PERMITS}.
+ * When {@code maven.builder.releaseProjects} is enabled, the heavy state of each project is released by a
+ * {@link ProjectReleaser} once the project, its downstream projects and the projects running aggregating
+ * executions have been torn down.
  *
  * <h2>Build Step States:</h2>
  * <ul>
@@ -201,6 +210,8 @@ class BuildContext implements AutoCloseable {
         final Map<Object, Clock> clocks = new ConcurrentHashMap<>();
         final ReadWriteLock lock = new ReentrantReadWriteLock();
         final int threads;
+        final boolean virtual;
+        final ProjectReleaser releaser;
         BuildPlan plan;
 
         BuildContext(MavenSession session, ReactorContext reactorContext, List<TaskSegment> taskSegments) {
@@ -211,16 +222,45 @@ class BuildContext implements AutoCloseable {
                     session.getProjects().size());
             // Propagate the parallel flag to the root session
             session.setParallel(threads > 1);
-            this.executor = new PhasingExecutor(Executors.newFixedThreadPool(threads, new BuildThreadFactory()));
+            this.virtual =
+                    threads > 1 && VirtualThreads.isEnabled(session.getUserProperties(), session.getSystemProperties());
+            if (virtual) {
+                // steps blocked on I/O do not hold a thread, mojo executions are limited by the permits instead
+                session.getSession().getData().set(MojoExecutor.MOJO_EXECUTION_PERMITS, new Semaphore(threads));
+                this.executor = new PhasingExecutor(VirtualThreads.newExecutor("BuilderThread-"));
+            } else {
+                this.executor =
+                        new PhasingExecutor(Executors.newFixedThreadPool(threads, new BuildThreadFactory()));
+            }
 
             // build initial plan
             this.plan = buildInitialPlan(taskSegments);
+            this.releaser = isReleaseProjects(session)
+                    ? new ProjectReleaser(
+                            session.getProjectDependencyGraph(),
+                            plan.getAllProjects().keySet(),
+                            plan.getAllProjects().keySet().stream()
+                                    .filter(p -> plan.steps(p)
+                                            .flatMap(BuildStep::executions)
+                                            .anyMatch(ProjectReleaser::isAggregating))
+                                    .toList(),
+                            this::releaseSteps)
+                    : null;
         }
 
         BuildContext() {
-            this.session = null;
+            this(null);
+        }
+
+        /**
+         * Creates a context that can only be used for planning, without any executor.
+         */
+        BuildContext(MavenSession session) {
+            this.session = session;
             this.reactorContext = null;
             this.threads = 1;
+            this.virtual = false;
+            this.releaser = null;
             this.executor = null;
             this.plan = null;
         }
@@ -359,6 +399,33 @@ void execute() {
         @Override
         public void close() {
             this.executor.close();
+            if (virtual) {
+                session.getSession().getData().set(MojoExecutor.MOJO_EXECUTION_PERMITS, null);
+            }
+            if (logger.isDebugEnabled()) {
+                if (releaser != null) {
+                    logger.debug(
+                            "Released {} out of {} projects during the build, {}",
+                            releaser.getReleased(),
+                            releaser.getProjects(),
+                            ProjectReleaser.memoryUsage());
+                } else {
+                    logger.debug("Build executed with {}", ProjectReleaser.memoryUsage());
+                }
+            }
+        }
+
+        /**
+         * Drops the mojo executions of the given project, which has been torn down along with all its downstream
+         * projects. This is done under the write lock, as planning goes through the executions of all the steps.
+         */
+        private void releaseSteps(MavenProject project) {
+            lock.writeLock().lock();
+            try {
+                plan.steps(project).forEach(step -> step.mojos.clear());
+            } finally {
+                lock.writeLock().unlock();
+            }
         }
 
         /**
@@ -572,6 +639,9 @@ private void executeStep(BuildStep step) throws IOException, LifecycleExecutionE
                     } else {
                         eventCatapult.fire(ExecutionEvent.Type.ProjectSkipped, session, null);
                     }
+                    if (releaser != null) {
+                        releaser.finished(step.project);
+                    }
                     break;
                 default:
                     List<MojoExecution> executions = step.executions().toList();
@@ -1000,54 +1070,16 @@ public BuildPlan calculateLifecycleMappings(
                 Map<MavenProject, List<MavenProject>> projects, Lifecycle lifecycle, String lifecyclePhase) {
             BuildPlan plan = new BuildPlan(projects);
 
+            // The steps only depend on the lifecycle and the phase: create them once and copy them for the others
+            StepsTemplate template = null;
             for (MavenProject project : projects.keySet()) {
-                // For each phase, create and sequence the pre, run and post steps
-                Map<String, BuildStep> steps = lifecycle
-                        .allPhases()
-                        .flatMap(phase -> {
-                            BuildStep a = new BuildStep(BEFORE + phase.name(), project, phase);
-                            BuildStep b = new BuildStep(phase.name(), project, phase);
-                            BuildStep c = new BuildStep(AFTER + phase.name(), project, phase);
-                            b.executeAfter(a);
-                            c.executeAfter(b);
-                            return Stream.of(a, b, c);
-                        })
-                        .collect(Collectors.toMap(n -> n.name, n -> n));
-                // for each phase, make sure children phases are executed between before and after steps
-                lifecycle
-                        .allPhases()
-                        .forEach(phase -> phase.phases().forEach(child -> {
-                            steps.get(BEFORE + child.name()).executeAfter(steps.get(BEFORE + phase.name()));
-                            steps.get(AFTER + phase.name()).executeAfter(steps.get(AFTER + child.name()));
-                        }));
-                // for each phase, create links between this project phases
-                lifecycle.allPhases().forEach(phase -> {
-                    phase.links().stream()
-                            .filter(l -> l.pointer().type() == Lifecycle.Pointer.Type.PROJECT)
-                            .forEach(link -> {
-                                String n1 = phase.name();
-                                String n2 = link.pointer().phase();
-                                if (link.kind() == Lifecycle.Link.Kind.AFTER) {
-                                    steps.get(BEFORE + n1).executeAfter(steps.get(AFTER + n2));
-                                } else {
-                                    steps.get(BEFORE + n2).executeAfter(steps.get(AFTER + n1));
-                                }
-                            });
-                });
-
-                // Only keep mojo executions before the end phase
-                String endPhase = lifecyclePhase.startsWith(BEFORE) || lifecyclePhase.startsWith(AFTER)
-                        ? lifecyclePhase
-                        : lifecyclePhase.startsWith(AT)
-                                ? lifecyclePhase.substring(AT.length())
-                                : AFTER + lifecyclePhase;
-                Set<BuildStep> toKeep = steps.get(endPhase).allPredecessors().collect(Collectors.toSet());
-                toKeep.addAll(toKeep.stream()
-                        .filter(s -> s.name.startsWith(BEFORE))
-                        .map(s -> steps.get(AFTER + s.name.substring(BEFORE.length())))
-                        .toList());
-                steps.values().stream().filter(n -> !toKeep.contains(n)).forEach(BuildStep::skip);
-
+                Map<String, BuildStep> steps;
+                if (template == null) {
+                    steps = createSteps(project, lifecycle, lifecyclePhase);
+                    template = StepsTemplate.of(steps);
+                } else {
+                    steps = template.instantiate(project);
+                }
                 plan.addProject(project, steps);
             }
 
@@ -1095,6 +1127,60 @@ public BuildPlan calculateLifecycleMappings(
 
             return plan;
         }
+
+        /**
+         * Creates the steps of the given project for the lifecycle up to the given phase, skipping the steps after it.
+         */
+        private Map<String, BuildStep> createSteps(MavenProject project, Lifecycle lifecycle, String lifecyclePhase) {
+            // For each phase, create and sequence the pre, run and post steps
+            Map<String, BuildStep> steps = lifecycle
+                    .allPhases()
+                    .flatMap(phase -> {
+                        BuildStep a = new BuildStep(BEFORE + phase.name(), project, phase);
+                        BuildStep b = new BuildStep(phase.name(), project, phase);
+                        BuildStep c = new BuildStep(AFTER + phase.name(), project, phase);
+                        b.executeAfter(a);
+                        c.executeAfter(b);
+                        return Stream.of(a, b, c);
+                    })
+                    .collect(Collectors.toMap(n -> n.name, n -> n));
+            // for each phase, make sure children phases are executed between before and after steps
+            lifecycle
+                    .allPhases()
+                    .forEach(phase -> phase.phases().forEach(child -> {
+                        steps.get(BEFORE + child.name()).executeAfter(steps.get(BEFORE + phase.name()));
+                        steps.get(AFTER + phase.name()).executeAfter(steps.get(AFTER + child.name()));
+                    }));
+            // for each phase, create links between this project phases
+            lifecycle.allPhases().forEach(phase -> {
+                phase.links().stream()
+                        .filter(l -> l.pointer().type() == Lifecycle.Pointer.Type.PROJECT)
+                        .forEach(link -> {
+                            String n1 = phase.name();
+                            String n2 = link.pointer().phase();
+                            if (link.kind() == Lifecycle.Link.Kind.AFTER) {
+                                steps.get(BEFORE + n1).executeAfter(steps.get(AFTER + n2));
+                            } else {
+                                steps.get(BEFORE + n2).executeAfter(steps.get(AFTER + n1));
+                            }
+                        });
+            });
+
+            // Only keep mojo executions before the end phase
+            String endPhase = lifecyclePhase.startsWith(BEFORE) || lifecyclePhase.startsWith(AFTER)
+                    ? lifecyclePhase
+                    : lifecyclePhase.startsWith(AT)
+                            ? lifecyclePhase.substring(AT.length())
+                            : AFTER + lifecyclePhase;
+            Set<BuildStep> toKeep = steps.get(endPhase).allPredecessors().collect(Collectors.toSet());
+            toKeep.addAll(toKeep.stream()
+                    .filter(s -> s.name.startsWith(BEFORE))
+                    .map(s -> steps.get(AFTER + s.name.substring(BEFORE.length())))
+                    .toList());
+            steps.values().stream().filter(n -> !toKeep.contains(n)).forEach(BuildStep::skip);
+
+            return steps;
+        }
     }
 
     private void resolvePlugin(MavenSession session, List<RemoteRepository> repositories, Plugin plugin) {
@@ -1105,6 +1191,14 @@ private void resolvePlugin(MavenSession session, List<RemoteRepository> reposito
         }
     }
 
+    private static boolean isReleaseProjects(MavenSession session) {
+        String value = session.getUserProperties().getProperty(Constants.MAVEN_BUILDER_RELEASE_PROJECTS);
+        if (value == null) {
+            value = session.getSystemProperties().getProperty(Constants.MAVEN_BUILDER_RELEASE_PROJECTS);
+        }
+        return Boolean.parseBoolean(value);
+    }
+
     private static String gav(MavenProject p) {
         return p.getGroupId() + ":" + p.getArtifactId() + ":" + p.getVersion();
     }
@@ -1236,4 +1330,48 @@ protected Duration execTime() {
             return exec;
         }
     }
+
+    /**
+     * The steps of a lifecycle up to a requested phase. They do not depend on the project, so their ordering and the
+     * steps to skip are computed for the first project of a plan and copied for the others, instead of walking the
+     * step graph again for each of them.
+     *
+     * @param phases the lifecycle phase of each step, by step name
+     * @param predecessors the names of the direct predecessors of each step, by step name
+     * @param skipped the names of the steps after the requested phase
+     */
+    record StepsTemplate(
+            Map<String, Lifecycle.Phase> phases, Map<String, List<String>> predecessors, Set<String> skipped) {
+
+        static StepsTemplate of(Map<String, BuildStep> steps) {
+            Map<String, Lifecycle.Phase> phases = new LinkedHashMap<>();
+            Map<String, List<String>> predecessors = new HashMap<>();
+            Set<String> skipped = new HashSet<>();
+            steps.forEach((name, step) -> {
+                phases.put(name, step.phase);
+                predecessors.put(name, step.predecessors.stream().map(p -> p.name).toList());
+                if (step.skip.get()) {
+                    skipped.add(name);
+                }
+            });
+            return new StepsTemplate(phases, predecessors, skipped);
+        }
+
+        Map<String, BuildStep> instantiate(MavenProject project) {
+            Map<String, BuildStep> steps = new HashMap<>();
+            phases.forEach((name, phase) -> steps.put(name, new BuildStep(name, project, phase)));
+            steps.forEach((name, step) -> {
+                for (String predecessor : predecessors.get(name)) {
+                    // the edges are copied as is: they have already been checked for cycles on the template
+                    BuildStep before = steps.get(predecessor);
+                    step.predecessors.add(before);
+                    before.successors.add(step);
+                }
+                if (skipped.contains(name)) {
+                    step.skip();
+                }
+            });
+            return steps;
+        }
+    }
 }
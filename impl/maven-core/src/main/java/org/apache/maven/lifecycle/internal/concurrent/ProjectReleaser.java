@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.apache.maven.execution.ProjectDependencyGraph;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Releases the heavy state of the projects of a reactor as soon as it is no longer needed, i.e. once a project
+ * and all the projects directly depending on it have been torn down. Projects running aggregating executions, or
+ * executions generating reports which may aggregate other modules, are considered as depending on all the projects
+ * of the reactor, as they may read their dependencies after the projects have been built.
+ * <p>
+ * The resolved dependencies, plugin artifacts and execution project of released projects are dropped, while their
+ * model, artifact and attached artifacts are kept, as they are needed for the build summary and may be used by
+ * plugins deferring work to the end of the build (e.g. {@code deployAtEnd}). The class realms are kept too, as
+ * they are shared with other projects through the project and extension realm caches.
+ */
+class ProjectReleaser {
+
+    private final Map<MavenProject, AtomicInteger> pending = new HashMap<>();
+
+    private final Map<MavenProject, List<MavenProject>> upstreams = new HashMap<>();
+
+    private final Consumer<MavenProject> releaser;
+
+    private final AtomicInteger released = new AtomicInteger();
+
+    /**
+     * @param graph the dependency graph of the reactor
+     * @param projects the projects being built
+     * @param aggregators the projects consuming all the other projects, see {@link #isAggregating(MojoExecution)}
+     * @param releaser called for each project to release, along with {@link #release(MavenProject)}
+     */
+    ProjectReleaser(
+            ProjectDependencyGraph graph,
+            Collection<MavenProject> projects,
+            Collection<MavenProject> aggregators,
+            Consumer<MavenProject> releaser) {
+        this.releaser = releaser;
+        for (MavenProject project : projects) {
+            pending.put(project, new AtomicInteger(1));
+        }
+        for (MavenProject project : projects) {
+            List<MavenProject> upstream = aggregators.contains(project)
+                    ? projects.stream().filter(p -> p != project).toList()
+                    : graph.getUpstreamProjects(project, false).stream()
+                            .filter(pending::containsKey)
+                            .toList();
+            upstreams.put(project, upstream);
+            upstream.forEach(p -> pending.get(p).incrementAndGet());
+        }
+    }
+
+    /**
+     * Notifies that the given project has been torn down, releasing it and its upstream projects if
+     * they are not needed anymore.
+     */
+    void finished(MavenProject project) {
+        countDown(project);
+        upstreams.getOrDefault(project, List.of()).forEach(this::countDown);
+    }
+
+    int getReleased() {
+        return released.get();
+    }
+
+    int getProjects() {
+        return pending.size();
+    }
+
+    private void countDown(MavenProject project) {
+        AtomicInteger count = pending.get(project);
+        if (count != null && count.decrementAndGet() == 0) {
+            releaser.accept(project);
+            release(project);
+            released.incrementAndGet();
+        }
+    }
+
+    /**
+     * Checks whether the given execution may read the state of other projects of the reactor: aggregating mojos,
+     * such as {@code javadoc:aggregate}, and mojos running reports, such as {@code site}, whose reports can aggregate
+     * the modules of the project.
+     */
+    static boolean isAggregating(MojoExecution execution) {
+        MojoDescriptor mojoDescriptor = execution.getMojoDescriptor();
+        return mojoDescriptor != null && (mojoDescriptor.isAggregator() || mojoDescriptor.isRequiresReports());
+    }
+
+    static void release(MavenProject project) {
+        project.setResolvedArtifacts(null);
+        project.setArtifactFilter(null);
+        project.setPluginArtifacts(Collections.emptySet());
+        project.setExecutionProject(null);
+    }
+
+    /**
+     * Describes the peak heap usage and the time spent in garbage collection so far.
+     */
+    static String memoryUsage() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        long gcTime = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcTime += Math.max(0, gc.getCollectionTime());
+        }
+        return "peak heap " + (peak >> 20) + " MB, " + gcTime + " ms in GC";
+    }
+}
@@ -35,6 +35,7 @@
 import org.apache.maven.execution.MojoExecutionEvent;
 import org.apache.maven.execution.MojoExecutionListener;
 import org.apache.maven.execution.scope.internal.MojoExecutionScope;
+import org.apache.maven.impl.metrics.SessionMetrics;
 import org.apache.maven.internal.impl.DefaultLog;
 import org.apache.maven.internal.impl.DefaultMojoExecution;
 import org.apache.maven.internal.impl.InternalMavenSession;
@@ -150,7 +151,21 @@ public void executeMojo(MavenSession session, MojoExecution mojoExecution)
             try {
                 MojoExecutionEvent mojoExecutionEvent = new MojoExecutionEvent(session, project, mojoExecution, mojo);
                 mojoExecutionListener.beforeMojoExecution(mojoExecutionEvent);
-                mojo.execute();
+                long start = System.nanoTime();
+                try {
+                    mojo.execute();
+                } finally {
+                    SessionMetrics.of(session.getRepositorySession())
+                            .timer(
+                                    "maven_mojo_execution",
+                                    "Duration of mojo executions",
+                                    Map.of(
+                                            "plugin",
+                                            mojoExecution.getArtifactId(),
+                                            "goal",
+                                            mojoExecution.getGoal()))
+                            .record(System.nanoTime() - start);
+                }
                 mojoExecutionListener.afterMojoExecutionSuccess(mojoExecutionEvent);
             } catch (ClassCastException | MavenException e) {
                 // to be processed in the outer catch block
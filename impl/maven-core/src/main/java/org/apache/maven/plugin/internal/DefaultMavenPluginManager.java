@@ -62,6 +62,7 @@
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.execution.scope.internal.MojoExecutionScope;
 import org.apache.maven.execution.scope.internal.MojoExecutionScopeModule;
+import org.apache.maven.impl.metrics.SessionMetrics;
 import org.apache.maven.internal.impl.DefaultLog;
 import org.apache.maven.internal.impl.DefaultMojoExecution;
 import org.apache.maven.internal.impl.InternalMavenSession;
@@ -374,12 +375,18 @@ public void setupPluginRealm(
                     project.getRemotePluginRepositories(),
                     session.getRepositorySession());
 
+            SessionMetrics metrics = SessionMetrics.of(session.getRepositorySession());
             PluginRealmCache.CacheRecord cacheRecord = pluginRealmCache.get(cacheKey, () -> {
+                long start = System.nanoTime();
                 createPluginRealm(pluginDescriptor, session, parent, foreignImports, filter);
+                metrics.timer("maven_plugin_realm_creation", "Duration of plugin class realm creations")
+                        .record(System.nanoTime() - start);
 
                 return new PluginRealmCache.CacheRecord(
                         pluginDescriptor.getClassRealm(), pluginDescriptor.getArtifacts());
             });
+            metrics.counter("maven_plugin_realm_lookups", "Plugin class realm lookups, including cached ones")
+                    .increment();
 
             pluginDescriptor.setClassRealm(cacheRecord.getRealm());
             pluginDescriptor.setArtifacts(new ArrayList<>(cacheRecord.getArtifacts()));
@@ -421,10 +428,26 @@ private void createPluginRealm(
 
         pluginArtifacts = toMavenArtifacts(result);
 
-        pluginRealm = classRealmManager.createPluginRealm(
-                plugin, parent, null, foreignImports, toAetherArtifacts(pluginArtifacts));
+        SharedPluginRealms sharedPluginRealms = SharedPluginRealms.of(repositorySession);
+        SharedPluginRealms.Key sharedKey = SharedPluginRealms.key(plugin, parent, foreignImports, pluginArtifacts);
+        ClassRealm sharedRealm = sharedPluginRealms.get(sharedKey);
+        if (sharedRealm != null) {
+            pluginRealm = sharedRealm;
+            // the realm has been scanned already, only the mojos of this descriptor are registered
+            discoverPluginComponents(pluginRealm, plugin, pluginDescriptor);
+            SessionMetrics.of(repositorySession)
+                    .counter("maven_plugin_realm_shared", "Plugin class realms reused for another plugin declaration")
+                    .increment();
+            logger.debug("Reusing class realm {} for plugin {}: {}", pluginRealm.getId(), plugin, sharedPluginRealms);
+        } else {
+            pluginRealm = classRealmManager.createPluginRealm(
+                    plugin, parent, null, foreignImports, toAetherArtifacts(pluginArtifacts));
+
+            discoverPluginComponents(pluginRealm, plugin, pluginDescriptor);
 
-        discoverPluginComponents(pluginRealm, plugin, pluginDescriptor);
+            sharedPluginRealms.put(sharedKey, pluginRealm);
+            logger.debug("Created class realm {}: {}", pluginRealm.getId(), sharedPluginRealms);
+        }
 
         pluginDescriptor.setDependencyNode(result.getRoot());
         pluginDescriptor.setClassRealm(pluginRealm);
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.internal;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Plugin;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+import org.eclipse.aether.RepositorySystemSession;
+
+/**
+ * Plugin realms indexed by the artifacts they hold.
+ * <p>
+ * The {@link org.apache.maven.plugin.PluginRealmCache} keys realms by the plugin declaration, its repositories and
+ * the resolution filter, so a plugin declared with different dependencies or repositories in some modules gets a
+ * realm for each declaration, even when the declarations resolve to the same files. Reusing a realm holding the same
+ * files, in the same order, with the same parent and imports, shares the loaded classes and the JIT state of the
+ * plugin without changing what it can see.
+ * <p>
+ * The index lives in the data of the repository session, so it does not keep the realms, their parents and imports
+ * reachable once the session is over, and realms disposed from their class world, for instance when the plugin realm
+ * cache is flushed, are dropped from it rather than reused.
+ */
+class SharedPluginRealms {
+
+    record Key(String plugin, ClassLoader parent, Map<String, ClassLoader> foreignImports, List<File> files) {}
+
+    private final Map<Key, ClassRealm> realms = new ConcurrentHashMap<>();
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private final AtomicInteger reused = new AtomicInteger();
+
+    private final AtomicLong bytes = new AtomicLong();
+
+    /**
+     * Returns the index of the given session, creating it on first use.
+     */
+    static SharedPluginRealms of(RepositorySystemSession session) {
+        return (SharedPluginRealms)
+                session.getData().computeIfAbsent(SharedPluginRealms.class, SharedPluginRealms::new);
+    }
+
+    static Key key(
+            Plugin plugin, ClassLoader parent, Map<String, ClassLoader> foreignImports, List<Artifact> artifacts) {
+        return new Key(
+                plugin.getId(),
+                parent,
+                foreignImports != null ? Map.copyOf(foreignImports) : Map.of(),
+                artifacts.stream().map(Artifact::getFile).toList());
+    }
+
+    /**
+     * Returns a live realm holding the artifacts of the given key, if any.
+     */
+    ClassRealm get(Key key) {
+        ClassRealm realm = realms.get(key);
+        if (realm != null && realm.getWorld().getClassRealm(realm.getId()) != realm) {
+            // disposed
+            realms.remove(key, realm);
+            return null;
+        }
+        if (realm != null) {
+            reused.incrementAndGet();
+        }
+        return realm;
+    }
+
+    /**
+     * Records a realm created for the artifacts of the given key.
+     */
+    void put(Key key, ClassRealm realm) {
+        realms.put(key, realm);
+        created.incrementAndGet();
+        bytes.addAndGet(key.files().stream().mapToLong(File::length).sum());
+    }
+
+    int getCreated() {
+        return created.get();
+    }
+
+    int getReused() {
+        return reused.get();
+    }
+
+    @Override
+    public String toString() {
+        return created.get() + " plugin realm(s) created holding " + (bytes.get() >> 20) + " MB of JAR files, "
+                + reused.get() + " reused for another declaration of their plugin";
+    }
+}
@@ -21,6 +21,7 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.maven.api.ProjectScope;
 import org.apache.maven.api.SourceRoot;
@@ -126,8 +127,9 @@ private void updateProjectSourceRoot() {
             sourcesList.set(index, newSourceRoot);
 
             // Update the project's sources, preserving order
-            project.sources.clear();
-            project.sources.addAll(sourcesList);
+            Set<SourceRoot> sources = project.mutableSources();
+            sources.clear();
+            sources.addAll(sourcesList);
         }
     }
 }
@@ -142,6 +142,11 @@ public class MavenProject implements Cloneable {
 
     private List<Artifact> attachedArtifacts = new ArrayList<>();
 
+    /**
+     * Whether {@link #attachedArtifacts} is shared with a clone of this project and must be copied before any change.
+     */
+    private boolean attachedArtifactsShared;
+
     private MavenProject executionProject;
 
     private List<MavenProject> collectedProjects;
@@ -151,6 +156,11 @@ public class MavenProject implements Cloneable {
      */
     Set<SourceRoot> sources = new LinkedHashSet<>();
 
+    /**
+     * Whether {@link #sources} is shared with a clone of this project and must be copied before any change.
+     */
+    private boolean sourcesShared;
+
     @Deprecated
     private ArtifactRepository releaseArtifactRepository;
 
@@ -327,7 +337,9 @@ public DependencyManagement getDependencyManagement() {
      * @since 4.0.0
      */
     public void addSourceRoot(SourceRoot source) {
-        sources.add(source);
+        if (!sources.contains(source)) {
+            mutableSources().add(source);
+        }
     }
 
     /**
@@ -383,7 +395,7 @@ public void removeSourceRoot(@Nonnull ProjectScope scope, @Nonnull Language lang
         Path path = getBaseDirectory()
                 .resolve(Objects.requireNonNull(directory, "directory cannot be null"))
                 .normalize();
-        sources.removeIf(source -> source.scope() == scope
+        mutableSources().removeIf(source -> source.scope() == scope
                 && source.language() == language
                 && source.directory().equals(path));
     }
@@ -1090,6 +1102,10 @@ public Map<String, List<String>> getInjectedProfileIds() {
      */
     public void addAttachedArtifact(Artifact artifact) throws DuplicateArtifactAttachmentException {
         // if already there we remove it and add again
+        if (attachedArtifactsShared) {
+            attachedArtifacts = new ArrayList<>(attachedArtifacts);
+            attachedArtifactsShared = false;
+        }
         int index = attachedArtifacts.indexOf(artifact);
         if (index >= 0) {
             LOGGER.warn("artifact '{}' already attached, replacing previous instance", artifact);
@@ -1311,6 +1327,7 @@ public void setModel(Model model) {
 
     protected void setAttachedArtifacts(List<Artifact> attachedArtifacts) {
         this.attachedArtifacts = attachedArtifacts;
+        this.attachedArtifactsShared = false;
     }
 
     /**
@@ -1318,7 +1335,7 @@ protected void setAttachedArtifacts(List<Artifact> attachedArtifacts) {
      */
     @Deprecated
     private void setSourceRootDirs(ProjectScope scope, Language language, List<String> roots) {
-        sources.removeIf((source) -> scope.equals(source.scope()) && language.equals(source.language()));
+        mutableSources().removeIf((source) -> scope.equals(source.scope()) && language.equals(source.language()));
         Path directory = getBaseDirectory();
         for (String root : roots) {
             addSourceRoot(new DefaultSourceRoot(scope, language, directory.resolve(root)));
@@ -1396,15 +1413,19 @@ private void deepCopy(MavenProject project) {
             setActiveProfiles((Collections.unmodifiableList(project.getActiveProfiles())));
         }
 
-        if (project.getAttachedArtifacts() != null) {
-            // clone properties modifiable by plugins in a forked lifecycle
-            setAttachedArtifacts(new ArrayList<>(project.getAttachedArtifacts()));
+        // properties modifiable by plugins in a forked lifecycle are shared until either project modifies them
+        if (project.attachedArtifacts != null) {
+            attachedArtifacts = project.attachedArtifacts;
+            attachedArtifactsShared = true;
+            project.attachedArtifactsShared = true;
         }
 
         // This property is not handled like others as we don't use public API.
         // The whole implementation of this `deepCopy` method may need revision,
         // but it would be the topic for a separated commit.
-        sources = new LinkedHashSet<>(project.sources);
+        sources = project.sources;
+        sourcesShared = true;
+        project.sourcesShared = true;
 
         if (project.getModel() != null) {
             setModel(project.getModel().clone());
@@ -1427,6 +1448,17 @@ private void deepCopy(MavenProject project) {
         lifecyclePhases.addAll(project.lifecyclePhases);
     }
 
+    /**
+     * Returns the sources of this project for modification, copying them first if they are shared with a clone.
+     */
+    Set<SourceRoot> mutableSources() {
+        if (sourcesShared) {
+            sources = new LinkedHashSet<>(sources);
+            sourcesShared = false;
+        }
+        return sources;
+    }
+
     private static String getProjectReferenceId(String groupId, String artifactId, String version) {
         StringBuilder buffer = new StringBuilder(128);
         buffer.append(groupId).append(':').append(artifactId).append(':').append(version);
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.classrealm;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark comparing class realms filtered by a {@link ClassRealmIndex} with plain realms, for a plugin with
+ * a given number of JAR files. {@code realmSetup} measures the creation of a realm, including the indexing of its JARs,
+ * {@code missingClass} the lookup of a class which is not in the realm, as done for each JDK or imported class, and
+ * {@code lastJarResource} the lookup of a resource of the last JAR of the realm.
+ *
+ * To run this benchmark:
+ * mvn test-compile -pl impl/maven-core and run the main method of this class.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassRealmIndexBenchmark {
+
+    @Param({"50", "150"})
+    private int jars;
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private Path directory;
+    private ClassWorld world;
+    private ClassRealm realm;
+    private int realms;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        directory = Files.createTempDirectory("realm-index");
+        for (int i = 0; i < jars; i++) {
+            try (OutputStream out = Files.newOutputStream(directory.resolve("lib-" + i + ".jar"));
+                    JarOutputStream jar = new JarOutputStream(out)) {
+                for (int j = 0; j < 20; j++) {
+                    jar.putNextEntry(new JarEntry("org/example/lib" + i + "/pkg" + j + "/resource.txt"));
+                    jar.write(new byte[64]);
+                    jar.closeEntry();
+                }
+            }
+        }
+        world = new ClassWorld();
+        realm = newRealm();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        world.close();
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private ClassRealm newRealm() throws Exception {
+        ClassRealmIndex index = indexed ? new ClassRealmIndex() : null;
+        String id = "plugin-" + realms++;
+        ClassRealm classRealm = index != null ? world.newRealm(id, null, index) : world.newRealm(id, null);
+        for (int i = 0; i < jars; i++) {
+            classRealm.addURL(directory.resolve("lib-" + i + ".jar").toUri().toURL());
+        }
+        if (index != null) {
+            index.index(classRealm);
+        }
+        return classRealm;
+    }
+
+    @Benchmark
+    public ClassRealm realmSetup() throws Exception {
+        ClassRealm classRealm = newRealm();
+        world.disposeRealm(classRealm.getId());
+        return classRealm;
+    }
+
+    @Benchmark
+    public Class<?> missingClass() {
+        return realm.loadClassFromSelf("java.util.concurrent.ConcurrentHashMap");
+    }
+
+    @Benchmark
+    public Object lastJarResource() {
+        return realm.findResource("org/example/lib" + (jars - 1) + "/pkg0/resource.txt");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(ClassRealmIndexBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.classrealm;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassRealmIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testLookupsOutsideOfTheJarsAreSkipped() throws Exception {
+        Path jar = jar("a.jar", null, "org/example/a/resource.txt", "root.txt", "META-INF/versions/11/org/mr/B.class");
+        ClassRealmIndex index = new ClassRealmIndex();
+        try (ClassWorld world = new ClassWorld()) {
+            ClassRealm realm = world.newRealm("test", null, index);
+            realm.addURL(jar.toUri().toURL());
+            assertTrue(index.index(realm));
+
+            assertNotNull(realm.findResource("org/example/a/resource.txt"));
+            assertNotNull(realm.findResource("root.txt"));
+            assertTrue(index.test("org/example/a/Missing.class"));
+            assertTrue(index.test("org/example/"));
+            assertTrue(index.test("org"));
+            assertTrue(index.test("org/mr/B.class"));
+
+            assertNull(realm.findResource("org/other/resource.txt"));
+            assertNull(realm.loadClassFromSelf("java.util.List"));
+            assertEquals(2, index.getSkipped());
+        }
+    }
+
+    @Test
+    void testRealmsWithClassPathOrDirectoriesAreNotFiltered() throws Exception {
+        Path classPathJar = jar("cp.jar", "other.jar", "org/example/a/resource.txt");
+        ClassRealmIndex index = new ClassRealmIndex();
+        try (ClassWorld world = new ClassWorld()) {
+            ClassRealm realm = world.newRealm("class-path", null, index);
+            realm.addURL(classPathJar.toUri().toURL());
+            assertFalse(index.index(realm));
+            assertTrue(index.test("org/other/resource.txt"));
+
+            ClassRealmIndex dirIndex = new ClassRealmIndex();
+            ClassRealm dirRealm = world.newRealm("directory", null, dirIndex);
+            dirRealm.addURL(tempDir.toUri().toURL());
+            assertFalse(dirIndex.index(dirRealm));
+        }
+    }
+
+    @Test
+    void testUrlsAddedAfterIndexingDisableTheFilter() throws Exception {
+        Path a = jar("a.jar", null, "org/example/a/resource.txt");
+        Path b = jar("b.jar", null, "org/example/b/resource.txt");
+        ClassRealmIndex index = new ClassRealmIndex();
+        try (ClassWorld world = new ClassWorld()) {
+            ClassRealm realm = world.newRealm("test", null, index);
+            realm.addURL(a.toUri().toURL());
+            assertTrue(index.index(realm));
+
+            realm.addURL(b.toUri().toURL());
+            assertNotNull(realm.findResource("org/example/b/resource.txt"));
+            assertEquals("not indexed", index.toString());
+        }
+    }
+
+    private Path jar(String name, String classPath, String... entries) throws IOException {
+        Path jar = tempDir.resolve(name);
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        if (classPath != null) {
+            manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, classPath);
+        }
+        try (OutputStream out = Files.newOutputStream(jar);
+                JarOutputStream jarOut = new JarOutputStream(out, manifest)) {
+            for (String entry : entries) {
+                jarOut.putNextEntry(new JarEntry(entry));
+                jarOut.write(entry.getBytes());
+                jarOut.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
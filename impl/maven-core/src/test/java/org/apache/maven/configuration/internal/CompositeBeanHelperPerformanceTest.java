@@ -300,6 +300,53 @@ public void benchmarkOptimizedHelperMultipleTypes() throws Exception {
         optimizedHelper.setProperty(bean2, "count", Integer.class, config2);
     }
 
+    /**
+     * Benchmark configuring the same mojo class for many executions, as happens when a plugin is bound in every
+     * project of a large reactor. The configuration shape (property names and types) is identical for every bean,
+     * which is the case the compiled injectors of the optimized helper are designed for.
+     */
+    @Benchmark
+    public void benchmarkOriginalHelperSameShapeExecutions() throws Exception {
+        PlexusConfiguration[] configs = sameShapeConfiguration();
+        for (int i = 0; i < 100; i++) {
+            RealisticTestBean bean = new RealisticTestBean();
+            originalHelper.setProperty(bean, "name", String.class, configs[0]);
+            originalHelper.setProperty(bean, "count", Integer.class, configs[1]);
+            originalHelper.setProperty(bean, "enabled", Boolean.class, configs[2]);
+            originalHelper.setProperty(bean, "description", String.class, configs[3]);
+            originalHelper.setProperty(bean, "timeout", Long.class, configs[4]);
+        }
+    }
+
+    @Benchmark
+    public void benchmarkOptimizedHelperSameShapeExecutions() throws Exception {
+        PlexusConfiguration[] configs = sameShapeConfiguration();
+        for (int i = 0; i < 100; i++) {
+            RealisticTestBean bean = new RealisticTestBean();
+            optimizedHelper.setProperty(bean, "name", String.class, configs[0]);
+            optimizedHelper.setProperty(bean, "count", Integer.class, configs[1]);
+            optimizedHelper.setProperty(bean, "enabled", Boolean.class, configs[2]);
+            optimizedHelper.setProperty(bean, "description", String.class, configs[3]);
+            optimizedHelper.setProperty(bean, "timeout", Long.class, configs[4]);
+        }
+    }
+
+    private static PlexusConfiguration[] sameShapeConfiguration() {
+        return new PlexusConfiguration[] {
+            configuration("name", "testValue"),
+            configuration("count", "123"),
+            configuration("enabled", "true"),
+            configuration("description", "testValue"),
+            configuration("timeout", "456")
+        };
+    }
+
+    private static PlexusConfiguration configuration(String name, String value) {
+        PlexusConfiguration configuration = new XmlPlexusConfiguration(name);
+        configuration.setValue(value);
+        return configuration;
+    }
+
     /**
      * Main method to run the JMH benchmark.
      *
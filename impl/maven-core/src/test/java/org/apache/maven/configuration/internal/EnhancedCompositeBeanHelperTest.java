@@ -18,6 +18,7 @@
  */
 package org.apache.maven.configuration.internal;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -32,8 +33,10 @@
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -208,6 +211,62 @@ void testMultipleFieldAccessesDoNotLeakAccessibility() throws Exception {
         assertEquals("value2", bean2.getDirectField());
     }
 
+    @Test
+    void testSetPrimitivePropertyWithSetter() throws Exception {
+        TestBean bean = new TestBean();
+        PlexusConfiguration config = new XmlPlexusConfiguration("test");
+        config.setValue("42");
+
+        when(evaluator.evaluate("42")).thenReturn("42");
+
+        helper.setProperty(bean, "count", Integer.class, config);
+        helper.setProperty(bean, "count", Integer.class, config);
+
+        assertEquals(42, bean.getCount());
+        verify(listener, times(2)).notifyFieldChangeUsingSetter("count", 42, bean);
+    }
+
+    @Test
+    void testFailingSetterFallsBackToField() throws Exception {
+        TestBean bean = new TestBean();
+        PlexusConfiguration config = new XmlPlexusConfiguration("test");
+        config.setValue("value");
+
+        when(evaluator.evaluate("value")).thenReturn("value");
+
+        helper.setProperty(bean, "guarded", String.class, config);
+
+        assertEquals("value", bean.guarded);
+        verify(listener).notifyFieldChangeUsingReflection("guarded", "value", bean);
+    }
+
+    @Test
+    void testSetterErrorIsNotMasked() throws Exception {
+        TestBean bean = new TestBean();
+        PlexusConfiguration config = new XmlPlexusConfiguration("test");
+        config.setValue("value");
+
+        when(evaluator.evaluate("value")).thenReturn("value");
+
+        AssertionError e =
+                assertThrows(AssertionError.class, () -> helper.setProperty(bean, "broken", String.class, config));
+        assertEquals("broken", e.getMessage());
+    }
+
+    @Test
+    void testReflectiveSetterErrorIsNotMasked() throws Exception {
+        TestBean bean = new TestBean();
+        PlexusConfiguration config = new XmlPlexusConfiguration("test");
+        config.setValue("value");
+
+        when(evaluator.evaluate("value")).thenReturn("value");
+
+        // a setter declaring checked exceptions is invoked through reflection
+        AssertionError e = assertThrows(
+                AssertionError.class, () -> helper.setProperty(bean, "brokenChecked", String.class, config));
+        assertEquals("broken", e.getMessage());
+    }
+
     /**
      * Test bean class for testing property setting.
      */
@@ -215,6 +274,8 @@ public static class TestBean {
         private String name;
         private String directField;
         private List<String> items = new ArrayList<>();
+        private int count;
+        private String guarded;
 
         public String getName() {
             return name;
@@ -235,5 +296,25 @@ public List<String> getItems() {
         public void addItem(String item) {
             this.items.add(item);
         }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public void setGuarded(String guarded) {
+            throw new IllegalStateException("guarded");
+        }
+
+        public void setBroken(String broken) {
+            throw new AssertionError("broken");
+        }
+
+        public void setBrokenChecked(String broken) throws IOException {
+            throw new AssertionError("broken");
+        }
     }
 }
@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.eventspy.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.eventspy.EventSpy;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncEventSpyTest {
+
+    @Test
+    void testEventsAreDeliveredInOrder() throws Exception {
+        RecordingSpy spy = new RecordingSpy();
+        AsyncEventSpy async = new AsyncEventSpy(spy, 4, AsyncEventSpy.Overflow.BLOCK, (a, e, s) -> {});
+        for (int i = 0; i < 100; i++) {
+            async.onEvent(i);
+        }
+        async.flush();
+        assertEquals(100, spy.events.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, spy.events.get(i));
+        }
+        async.close();
+        assertTrue(spy.closed);
+        assertTrue(spy.threads.stream().noneMatch(t -> t == Thread.currentThread()));
+    }
+
+    @Test
+    void testDropWhenFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSpy spy = new RecordingSpy() {
+            @Override
+            public void onEvent(Object event) throws Exception {
+                release.await();
+                super.onEvent(event);
+            }
+        };
+        AsyncEventSpy async = new AsyncEventSpy(spy, 2, AsyncEventSpy.Overflow.DROP, (a, e, s) -> {});
+        for (int i = 0; i < 10; i++) {
+            async.onEvent(i);
+        }
+        release.countDown();
+        async.close();
+        // one event may be taken by the consumer thread before the queue fills up
+        assertTrue(async.getDropped() >= 7, "dropped " + async.getDropped());
+        assertEquals(10, spy.events.size() + async.getDropped());
+    }
+
+    @Test
+    void testExecutionEventsAreCaptured() throws Exception {
+        RecordingSpy spy = new RecordingSpy();
+        AsyncEventSpy async = new AsyncEventSpy(spy, 16, AsyncEventSpy.Overflow.BLOCK, (a, e, s) -> {});
+        MavenProject project = new MavenProject();
+        MutableEvent event = new MutableEvent(ExecutionEvent.Type.ProjectStarted, project);
+        async.onEvent(event);
+        event.project = new MavenProject();
+        async.close();
+
+        ExecutionEvent delivered = (ExecutionEvent) spy.events.get(0);
+        assertNotSame(event, delivered);
+        assertSame(project, delivered.getProject());
+        assertEquals(ExecutionEvent.Type.ProjectStarted, delivered.getType());
+    }
+
+    @Test
+    void testFailuresAreReported() throws Exception {
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        EventSpy failing = new RecordingSpy() {
+            @Override
+            public void onEvent(Object event) {
+                throw new IllegalStateException("boom");
+            }
+        };
+        AsyncEventSpy async = new AsyncEventSpy(
+                failing, 16, AsyncEventSpy.Overflow.BLOCK, (a, e, s) -> errors.add(a + ": " + e.getMessage()));
+        async.onEvent("event");
+        async.onEvent("event");
+        async.close();
+        assertEquals(List.of("notify: boom", "notify: boom"), errors);
+    }
+
+    @Test
+    void testErrorsStopTheSpy() throws Exception {
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        RecordingSpy failing = new RecordingSpy() {
+            @Override
+            public void onEvent(Object event) {
+                throw new StackOverflowError();
+            }
+        };
+        AsyncEventSpy async = new AsyncEventSpy(
+                failing, 1, AsyncEventSpy.Overflow.BLOCK, (a, e, s) -> errors.add(a + ": " + e.getClass()));
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 10; i++) {
+                async.onEvent(i);
+            }
+            async.flush();
+            async.close();
+        });
+        assertEquals(List.of("notify: " + StackOverflowError.class), errors);
+        assertTrue(failing.closed);
+    }
+
+    @Test
+    void testEventsFiredByTheSpyAreDeliveredInline() throws Exception {
+        AtomicReference<AsyncEventSpy> self = new AtomicReference<>();
+        RecordingSpy spy = new RecordingSpy() {
+            @Override
+            public void onEvent(Object event) throws Exception {
+                super.onEvent(event);
+                if ("resolve".equals(event)) {
+                    // e.g. repository events of the artifacts resolved by the spy
+                    for (int i = 0; i < 3; i++) {
+                        self.get().onEvent("resolved " + i);
+                    }
+                    self.get().flush();
+                }
+            }
+        };
+        AsyncEventSpy async = new AsyncEventSpy(spy, 1, AsyncEventSpy.Overflow.BLOCK, (a, e, s) -> {});
+        self.set(async);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            async.onEvent("resolve");
+            async.flush();
+            async.close();
+        });
+        assertEquals(List.of("resolve", "resolved 0", "resolved 1", "resolved 2"), spy.events);
+    }
+
+    @Test
+    void testInvalidQueueSizeFallsBackToDefault() throws Exception {
+        for (String size : List.of("0", "-1", "many")) {
+            RecordingSpy spy = new RecordingSpy();
+            EventSpyDispatcher dispatcher = new EventSpyDispatcher(List.of(spy));
+            Properties userProperties = new Properties();
+            userProperties.setProperty(Constants.MAVEN_EVENT_SPIES_ASYNC, "true");
+            userProperties.setProperty(Constants.MAVEN_EVENT_SPIES_QUEUE_SIZE, size);
+            userProperties.setProperty(Constants.MAVEN_EVENT_SPIES_OVERFLOW, "coalesce");
+            dispatcher.init(() -> Map.of("userProperties", userProperties));
+
+            dispatcher.onEvent("event");
+            dispatcher.close();
+            assertEquals(List.of("event"), spy.events);
+            assertTrue(spy.threads.stream().noneMatch(t -> t == Thread.currentThread()));
+        }
+    }
+
+    @Test
+    void testDispatcherFlushesOnSessionEnd() throws Exception {
+        RecordingSpy spy = new RecordingSpy();
+        EventSpyDispatcher dispatcher = new EventSpyDispatcher(List.of(spy));
+        Properties userProperties = new Properties();
+        userProperties.setProperty(Constants.MAVEN_EVENT_SPIES_ASYNC, "true");
+        dispatcher.init(() -> Map.of("userProperties", userProperties));
+
+        dispatcher.onEvent("event");
+        dispatcher.onEvent(new MutableEvent(ExecutionEvent.Type.SessionEnded, null));
+        assertEquals(2, spy.events.size());
+        assertTrue(spy.threads.stream().noneMatch(t -> t == Thread.currentThread()));
+
+        dispatcher.close();
+        assertTrue(spy.closed);
+    }
+
+    @Test
+    void testOverflowValues() {
+        assertEquals(AsyncEventSpy.Overflow.BLOCK, AsyncEventSpy.Overflow.of(null));
+        assertEquals(AsyncEventSpy.Overflow.DROP, AsyncEventSpy.Overflow.of("drop"));
+        assertEquals(
+                AsyncEventSpy.Overflow.DROP_REPOSITORY_EVENTS, AsyncEventSpy.Overflow.of("dropRepositoryEvents"));
+        assertThrows(IllegalArgumentException.class, () -> AsyncEventSpy.Overflow.of("coalesce"));
+    }
+
+    static class RecordingSpy implements EventSpy {
+        final List<Object> events = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean closed;
+
+        @Override
+        public void init(Context context) {}
+
+        @Override
+        public void onEvent(Object event) throws Exception {
+            events.add(event);
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    static class MutableEvent implements ExecutionEvent {
+        final Type type;
+        MavenProject project;
+
+        MutableEvent(Type type, MavenProject project) {
+            this.type = type;
+            this.project = project;
+        }
+
+        @Override
+        public Type getType() {
+            return type;
+        }
+
+        @Override
+        public MavenSession getSession() {
+            return null;
+        }
+
+        @Override
+        public MavenProject getProject() {
+            return project;
+        }
+
+        @Override
+        public MojoExecution getMojoExecution() {
+            return null;
+        }
+
+        @Override
+        public Exception getException() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.graph;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.execution.ProjectDependencyGraph;
+import org.apache.maven.model.building.Result;
+import org.apache.maven.project.harness.ReactorBenchmarkSupport;
+import org.apache.maven.project.harness.SyntheticReactor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark measuring {@link DefaultGraphBuilder} on a {@link SyntheticReactor}: project collection through the
+ * multi-module strategy, validation, sorting and trimming of the reactor, starting from a session without projects.
+ *
+ * To run this benchmark:
+ * mvn test-compile -pl impl/maven-core and run the main method of this class.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GraphBuilderBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int modules;
+
+    @Param({"1", "4"})
+    private int parentDepth;
+
+    @Param({"0", "8"})
+    private int boms;
+
+    private ReactorBenchmarkSupport support;
+    private GraphBuilder graphBuilder;
+    private MavenSession session;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        support = new ReactorBenchmarkSupport(
+                new SyntheticReactor().modules(modules).parentDepth(parentDepth).boms(boms));
+        graphBuilder = support.lookup(GraphBuilder.class, GraphBuilder.HINT);
+    }
+
+    /**
+     * The graph builder short-circuits when the session already has projects, so each invocation needs a new one.
+     */
+    @Setup(Level.Invocation)
+    public void newSession() throws Exception {
+        session = support.newSession();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        support.close();
+    }
+
+    @Benchmark
+    public Result<? extends ProjectDependencyGraph> buildGraph() {
+        return graphBuilder.build(session);
+    }
+
+    /**
+     * Main method to run the benchmark with allocation profiling enabled.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(GraphBuilderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opts).run();
+    }
+}
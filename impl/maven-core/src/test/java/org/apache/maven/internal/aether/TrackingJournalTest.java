@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.aether;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * UT for {@link TrackingJournal}.
+ */
+class TrackingJournalTest {
+    @Test
+    void firstRecordIsWrittenOnClose(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("g/a/1/.tracking/g_a_jar_1.dep");
+        TrackingJournal journal = new TrackingJournal();
+        assertFalse(journal.isRecorded(file));
+
+        journal.record(file, List.of("first"));
+        journal.record(file, List.of("second"));
+        assertTrue(journal.isRecorded(file));
+        journal.close();
+
+        assertEquals(List.of("first"), Files.readAllLines(file));
+    }
+
+    @Test
+    void existingFileIsNotOverwritten(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve(".tracking/g_a_jar_1.dep");
+        Files.createDirectories(file.getParent());
+        Files.write(file, List.of("previous build"));
+
+        TrackingJournal journal = new TrackingJournal();
+        journal.record(file, List.of("this build"));
+        journal.close();
+
+        assertEquals(List.of("previous build"), Files.readAllLines(file));
+    }
+
+    @Test
+    void recordAfterCloseIsWritten(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve(".tracking/g_a_jar_1.dep");
+        TrackingJournal journal = new TrackingJournal();
+        journal.close();
+
+        journal.record(file, List.of("late"));
+
+        assertEquals(List.of("late"), Files.readAllLines(file));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.internal.impl.DefaultLifecycleRegistry;
+import org.apache.maven.lifecycle.Lifecycle;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.plugin.BuildPluginManager;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultSessionData;
+import org.eclipse.aether.RepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DefaultLifecycleMappingDelegateTest {
+
+    @Test
+    void testProjectsWithTheSamePluginsShareTheTemplate() throws Exception {
+        BuildPluginManager pluginManager = mock(BuildPluginManager.class);
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setGoal("compile");
+        mojoDescriptor.setPhase("compile");
+        when(pluginManager.getMojoDescriptor(any(), eq("compile"), any(), any())).thenReturn(mojoDescriptor);
+        RepositorySystemSession repositorySession = mock(RepositorySystemSession.class);
+        when(repositorySession.getData()).thenReturn(new DefaultSessionData());
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(repositorySession);
+        DefaultLifecycleRegistry registry = new DefaultLifecycleRegistry(Collections.emptyList());
+        Lifecycle lifecycle = new Lifecycle(registry, registry.require(org.apache.maven.api.Lifecycle.DEFAULT));
+        DefaultLifecycleMappingDelegate delegate = new DefaultLifecycleMappingDelegate(pluginManager);
+
+        MavenProject p1 = project("p1", "default-compile");
+        MavenProject p2 = project("p2", "default-compile");
+        MojoExecution e1 = compile(delegate.calculateLifecycleMappings(session, p1, lifecycle, "compile"));
+        MojoExecution e2 = compile(delegate.calculateLifecycleMappings(session, p2, lifecycle, "compile"));
+
+        // the second project reuses the template, bound to its own plugin
+        verify(pluginManager, times(1)).getMojoDescriptor(any(), eq("compile"), any(), any());
+        assertSame(p1.getBuild().getPlugins().get(0), e1.getPlugin());
+        assertSame(p2.getBuild().getPlugins().get(0), e2.getPlugin());
+        assertEquals("default-compile", e2.getExecutionId());
+        assertEquals("compile", e2.getLifecyclePhase());
+
+        // a different execution does not match the template
+        MavenProject p3 = project("p3", "other-compile");
+        MojoExecution e3 = compile(delegate.calculateLifecycleMappings(session, p3, lifecycle, "compile"));
+
+        verify(pluginManager, times(2)).getMojoDescriptor(any(), eq("compile"), any(), any());
+        assertSame(p3.getBuild().getPlugins().get(0), e3.getPlugin());
+        assertEquals("other-compile", e3.getExecutionId());
+
+        // nor does a different plugin version
+        MavenProject p4 = project("p4", "default-compile");
+        p4.getBuild().getPlugins().get(0).setVersion("2.0");
+        compile(delegate.calculateLifecycleMappings(session, p4, lifecycle, "compile"));
+
+        verify(pluginManager, times(3)).getMojoDescriptor(any(), eq("compile"), any(), any());
+    }
+
+    @Test
+    void testLifecyclesWithTheSameIdDoNotShareTheTemplate() throws Exception {
+        BuildPluginManager pluginManager = mock(BuildPluginManager.class);
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setGoal("compile");
+        mojoDescriptor.setPhase("compile");
+        when(pluginManager.getMojoDescriptor(any(), eq("compile"), any(), any())).thenReturn(mojoDescriptor);
+        RepositorySystemSession repositorySession = mock(RepositorySystemSession.class);
+        when(repositorySession.getData()).thenReturn(new DefaultSessionData());
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRepositorySession()).thenReturn(repositorySession);
+        DefaultLifecycleRegistry registry = new DefaultLifecycleRegistry(Collections.emptyList());
+        Lifecycle lifecycle = new Lifecycle(registry, registry.require(org.apache.maven.api.Lifecycle.DEFAULT));
+        // a plugin lifecycle overlay reusing the id of the default lifecycle
+        Lifecycle overlay = new Lifecycle(lifecycle.getId(), List.of("compile"), Map.of());
+        DefaultLifecycleMappingDelegate delegate = new DefaultLifecycleMappingDelegate(pluginManager);
+
+        Map<String, List<MojoExecution>> standard =
+                delegate.calculateLifecycleMappings(session, project("p1", "default-compile"), lifecycle, "compile");
+        Map<String, List<MojoExecution>> overlaid =
+                delegate.calculateLifecycleMappings(session, project("p2", "default-compile"), overlay, "compile");
+
+        verify(pluginManager, times(2)).getMojoDescriptor(any(), eq("compile"), any(), any());
+        assertEquals(List.of("compile"), List.copyOf(overlaid.keySet()));
+        assertNotEquals(standard.keySet(), overlaid.keySet());
+        compile(overlaid);
+    }
+
+    private static MavenProject project(String artifactId, String executionId) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("g");
+        project.setArtifactId(artifactId);
+        project.setVersion("1.0");
+        PluginExecution execution = new PluginExecution();
+        execution.setId(executionId);
+        execution.addGoal("compile");
+        Plugin plugin = new Plugin();
+        plugin.setGroupId("org.apache.maven.plugins");
+        plugin.setArtifactId("maven-compiler-plugin");
+        plugin.setVersion("1.0");
+        plugin.addExecution(execution);
+        project.getBuild().addPlugin(plugin);
+        return project;
+    }
+
+    private static MojoExecution compile(Map<String, List<MojoExecution>> mappings) {
+        List<MojoExecution> executions = mappings.get("compile");
+        assertEquals(1, executions.size(), mappings.toString());
+        return executions.get(0);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
+import org.apache.maven.api.services.MessageBuilderFactory;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.lifecycle.internal.builder.BuilderCommon;
+import org.apache.maven.plugin.BuildPluginManager;
+import org.apache.maven.plugin.DefaultMojosExecutionStrategy;
+import org.apache.maven.plugin.MavenPluginManager;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MojoExecutorTest {
+
+    @Test
+    void testNestedExecutionsReuseTheExecutionPermit() throws Exception {
+        BuildPluginManager pluginManager = mock(BuildPluginManager.class);
+        MojoExecutor executor = new MojoExecutor(
+                pluginManager,
+                mock(MavenPluginManager.class),
+                mock(LifecycleDependencyResolver.class),
+                mock(ExecutionEventCatapult.class),
+                DefaultMojosExecutionStrategy::new,
+                mock(MessageBuilderFactory.class));
+
+        MavenProject project = new MavenProject();
+        project.setGroupId("g");
+        project.setArtifactId("a");
+        project.setVersion("1");
+        MavenSession session = mock(MavenSession.class);
+        Session apiSession = mock(Session.class);
+        SessionData data = mock(SessionData.class);
+        when(session.getSession()).thenReturn(apiSession);
+        when(apiSession.getData()).thenReturn(data);
+        when(session.getRequest()).thenReturn(new DefaultMavenExecutionRequest());
+        when(session.getCurrentProject()).thenReturn(project);
+        when(session.getProjects()).thenReturn(new ArrayList<>(List.of(project)));
+
+        // -T1 on virtual threads
+        Semaphore permits = new Semaphore(1);
+        when(data.get(MojoExecutor.MOJO_EXECUTION_PERMITS)).thenReturn(permits);
+
+        MojoExecution report = newExecution("report");
+        MojoExecution forked = newExecution("forked");
+        List<String> executed = new ArrayList<>();
+        doAnswer(invocation -> {
+                    // a report mojo running its forked executions, as LifecycleExecutor#executeForkedExecutions does
+                    MojoExecution forking = newExecution("forking");
+                    forking.setForkedExecutions(BuilderCommon.getKey(project), List.of(forked));
+                    executor.executeForkedExecutions(forking, session);
+                    executed.add("report");
+                    return null;
+                })
+                .when(pluginManager)
+                .executeMojo(any(), same(report));
+        doAnswer(invocation -> {
+                    assertEquals(0, permits.availablePermits());
+                    executed.add("forked");
+                    return null;
+                })
+                .when(pluginManager)
+                .executeMojo(any(), same(forked));
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> executor.execute(session, List.of(report)));
+
+        assertEquals(List.of("forked", "report"), executed);
+        assertEquals(1, permits.availablePermits());
+    }
+
+    private static MojoExecution newExecution(String goal) {
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setGoal(goal);
+        mojoDescriptor.setPluginDescriptor(new PluginDescriptor());
+        return new MojoExecution(mojoDescriptor);
+    }
+}
@@ -18,11 +18,15 @@
  */
 package org.apache.maven.lifecycle.internal.concurrent;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.maven.internal.impl.DefaultLifecycleRegistry;
@@ -35,7 +39,10 @@
 import static org.apache.maven.api.Lifecycle.AFTER;
 import static org.apache.maven.api.Lifecycle.BEFORE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class BuildPlanCreatorTest {
@@ -120,6 +127,39 @@ void testAllPhase() {
         assertIsSuccessor(plan.requiredStep(c2, "after:all"), plan.requiredStep(p, "after:all"));
     }
 
+    @Test
+    void testStepsAreCopiedForEachProject() {
+        MavenProject p1 = new MavenProject();
+        p1.setArtifactId("p1");
+        p1.setCollectedProjects(List.of());
+        MavenProject p2 = new MavenProject();
+        p2.setArtifactId("p2");
+        p2.setCollectedProjects(List.of());
+        Map<MavenProject, List<MavenProject>> projects = new LinkedHashMap<>();
+        projects.put(p1, List.of());
+        projects.put(p2, List.of());
+
+        BuildPlan plan = calculateLifecycleMappings(projects, "verify");
+
+        assertEquals(plan.steps(p1).count(), plan.steps(p2).count());
+        plan.steps(p1).forEach(step -> {
+            BuildStep copy = plan.requiredStep(p2, step.name);
+            assertNotSame(step, copy);
+            assertSame(step.phase, copy.phase);
+            assertEquals(step.skip.get(), copy.skip.get(), step.name);
+            assertEquals(names(step.predecessors), names(copy.predecessors), step.name);
+            assertEquals(names(step.successors), names(copy.successors), step.name);
+            assertTrue(copy.predecessors.stream().allMatch(s -> s.project == p2), step.name);
+            assertTrue(copy.successors.stream().allMatch(s -> s.project == p2), step.name);
+        });
+        assertFalse(plan.requiredStep(p2, "verify").skip.get());
+        assertTrue(plan.requiredStep(p2, "install").skip.get());
+    }
+
+    private static Set<String> names(Collection<BuildStep> steps) {
+        return steps.stream().map(s -> s.name).collect(Collectors.toSet());
+    }
+
     private void assertIsSuccessor(BuildStep predecessor, BuildStep successor) {
         assertTrue(
                 successor.isSuccessorOf(predecessor),
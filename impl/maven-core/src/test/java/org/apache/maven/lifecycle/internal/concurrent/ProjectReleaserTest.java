@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.graph.DefaultProjectDependencyGraph;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectReleaserTest {
+
+    @Test
+    void testProjectsAreReleasedOnceDownstreamProjectsAreDone() throws Exception {
+        // a <- b <- c, and a <- d
+        MavenProject a = createProject("a");
+        MavenProject b = createProject("b", a);
+        MavenProject c = createProject("c", b);
+        MavenProject d = createProject("d", a);
+        List<MavenProject> projects = List.of(a, b, c, d);
+        List<MavenProject> released = new ArrayList<>();
+        ProjectReleaser releaser = new ProjectReleaser(
+                new DefaultProjectDependencyGraph(projects), projects, List.of(), released::add);
+
+        releaser.finished(a);
+        releaser.finished(b);
+        assertEquals(List.of(), released);
+
+        releaser.finished(c);
+        assertEquals(List.of(c, b), released);
+        assertTrue(b.getArtifacts().isEmpty());
+        assertEquals(1, a.getArtifacts().size());
+
+        releaser.finished(d);
+        assertEquals(List.of(c, b, d, a), released);
+        assertEquals(4, releaser.getReleased());
+        assertTrue(a.getArtifacts().isEmpty());
+        assertTrue(a.getPluginArtifacts().isEmpty());
+        assertSame(a, a.getExecutionProject());
+        // the information needed for the build summary and deferred deployments is kept
+        assertNotNull(a.getArtifact());
+        assertEquals(1, a.getAttachedArtifacts().size());
+    }
+
+    @Test
+    void testAggregatorsKeepAllProjects() throws Exception {
+        // root aggregates a and b, which do not depend on it
+        MavenProject root = createProject("root");
+        MavenProject a = createProject("a");
+        MavenProject b = createProject("b", a);
+        List<MavenProject> projects = List.of(root, a, b);
+        List<MavenProject> released = new ArrayList<>();
+        ProjectReleaser releaser = new ProjectReleaser(
+                new DefaultProjectDependencyGraph(projects), projects, List.of(root), released::add);
+
+        releaser.finished(a);
+        releaser.finished(b);
+        assertEquals(List.of(), released);
+        assertEquals(1, a.getArtifacts().size());
+        assertEquals(1, b.getArtifacts().size());
+
+        releaser.finished(root);
+        assertEquals(List.of(root, a, b), released);
+    }
+
+    @Test
+    void testAggregatingExecutions() {
+        MojoDescriptor compile = new MojoDescriptor();
+        MojoDescriptor aggregate = new MojoDescriptor();
+        aggregate.setAggregator(true);
+        MojoDescriptor site = new MojoDescriptor();
+        site.setRequiresReports(true);
+
+        assertFalse(ProjectReleaser.isAggregating(new MojoExecution(compile)));
+        assertTrue(ProjectReleaser.isAggregating(new MojoExecution(aggregate)));
+        assertTrue(ProjectReleaser.isAggregating(new MojoExecution(site)));
+    }
+
+    private static MavenProject createProject(String artifactId, MavenProject... upstreams) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("org.apache");
+        project.setArtifactId(artifactId);
+        project.setVersion("1.0");
+        for (MavenProject upstream : upstreams) {
+            Dependency dependency = new Dependency();
+            dependency.setGroupId(upstream.getGroupId());
+            dependency.setArtifactId(upstream.getArtifactId());
+            dependency.setVersion(upstream.getVersion());
+            project.getModel().addDependency(dependency);
+        }
+        project.setArtifact(artifact(artifactId, null));
+        project.addAttachedArtifact(artifact(artifactId, "sources"));
+        project.setResolvedArtifacts(Set.of(artifact("lib", null)));
+        project.setArtifactFilter(artifact -> true);
+        project.setPluginArtifacts(Set.of(artifact("plugin", null)));
+        project.setExecutionProject(project.clone());
+        return project;
+    }
+
+    private static Artifact artifact(String artifactId, String classifier) {
+        return new DefaultArtifact("org.apache", artifactId, "1.0", null, "jar", classifier, null);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.internal;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.DefaultPluginRealmCache;
+import org.apache.maven.plugin.PluginRealmCache;
+import org.codehaus.plexus.classworlds.ClassWorld;
+import org.codehaus.plexus.classworlds.realm.ClassRealm;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SharedPluginRealmsTest {
+
+    @Test
+    void testRealmIsSharedForSameArtifacts() throws Exception {
+        SharedPluginRealms shared = new SharedPluginRealms();
+        ClassWorld world = new ClassWorld();
+        ClassRealm realm = world.newRealm("plugin>g:p:1", null);
+
+        SharedPluginRealms.Key key = SharedPluginRealms.key(plugin(), null, Map.of(), artifacts("a.jar", "b.jar"));
+        assertNull(shared.get(key));
+        shared.put(key, realm);
+
+        assertSame(realm, shared.get(SharedPluginRealms.key(plugin(), null, Map.of(), artifacts("a.jar", "b.jar"))));
+        assertNull(shared.get(SharedPluginRealms.key(plugin(), null, Map.of(), artifacts("b.jar", "a.jar"))));
+        assertNull(shared.get(SharedPluginRealms.key(plugin(), null, Map.of(), artifacts("a.jar"))));
+        assertEquals(1, shared.getCreated());
+        assertEquals(1, shared.getReused());
+    }
+
+    @Test
+    void testDisposedRealmIsNotShared() throws Exception {
+        SharedPluginRealms shared = new SharedPluginRealms();
+        ClassWorld world = new ClassWorld();
+        ClassRealm realm = world.newRealm("plugin>g:p:1", null);
+        SharedPluginRealms.Key key = SharedPluginRealms.key(plugin(), null, Map.of(), artifacts("a.jar"));
+        shared.put(key, realm);
+
+        world.disposeRealm(realm.getId());
+        world.newRealm(realm.getId(), null);
+
+        assertNull(shared.get(key));
+        assertEquals(0, shared.getReused());
+    }
+
+    @Test
+    void testFlushedRealmIsNotShared() throws Exception {
+        RepositorySystemSession session = new DefaultRepositorySystemSession(h -> false);
+        SharedPluginRealms shared = SharedPluginRealms.of(session);
+        ClassWorld world = new ClassWorld();
+        ClassRealm realm = world.newRealm("plugin>g:p:1", null);
+        SharedPluginRealms.Key key = SharedPluginRealms.key(plugin(), null, Map.of(), artifacts("a.jar"));
+        shared.put(key, realm);
+
+        DefaultPluginRealmCache cache = new DefaultPluginRealmCache();
+        cache.put(new PluginRealmCache.Key() {}, realm, List.of());
+        cache.flush();
+
+        assertNull(SharedPluginRealms.of(session).get(key));
+        assertEquals(0, shared.getReused());
+    }
+
+    @Test
+    void testIndexIsScopedToSession() {
+        RepositorySystemSession session = new DefaultRepositorySystemSession(h -> false);
+
+        assertSame(SharedPluginRealms.of(session), SharedPluginRealms.of(session));
+        assertNotSame(
+                SharedPluginRealms.of(session),
+                SharedPluginRealms.of(new DefaultRepositorySystemSession(h -> false)));
+    }
+
+    private static Plugin plugin() {
+        Plugin plugin = new Plugin();
+        plugin.setGroupId("g");
+        plugin.setArtifactId("p");
+        plugin.setVersion("1");
+        return plugin;
+    }
+
+    private static List<Artifact> artifacts(String... files) {
+        return Arrays.stream(files)
+                .map(file -> {
+                    Artifact artifact = new DefaultArtifact("g", file, "1", null, "jar", null, null);
+                    artifact.setFile(new File(file));
+                    return artifact;
+                })
+                .toList();
+    }
+}
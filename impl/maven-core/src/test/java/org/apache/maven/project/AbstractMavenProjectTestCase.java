@@ -22,6 +22,7 @@
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.Arrays;
@@ -42,11 +43,14 @@
 import org.codehaus.plexus.PlexusContainer;
 import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
 import org.codehaus.plexus.testing.PlexusTest;
+import org.codehaus.plexus.util.FileUtils;
 import org.eclipse.aether.DefaultRepositoryCache;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.junit.jupiter.api.BeforeEach;
 
+import static org.codehaus.plexus.testing.PlexusExtension.getBasedir;
+
 /**
  */
 @PlexusTest
@@ -84,10 +88,13 @@ protected ProjectBuilder getProjectBuilder() {
     // Local repository
     // ----------------------------------------------------------------------
 
-    protected File getLocalRepositoryPath() throws FileNotFoundException, URISyntaxException {
+    protected File getLocalRepositoryPath() throws IOException, URISyntaxException {
         File markerFile = getFileForClasspathResource("local-repo/marker.txt");
 
-        return markerFile.getAbsoluteFile().getParentFile();
+        // work on a copy, the tests resolve and install artifacts into the local repository
+        File localRepo = new File(getBasedir(), "target/project-local-repo");
+        FileUtils.copyDirectoryStructureIfModified(markerFile.getAbsoluteFile().getParentFile(), localRepo);
+        return localRepo;
     }
 
     protected static File getFileForClasspathResource(String resource)
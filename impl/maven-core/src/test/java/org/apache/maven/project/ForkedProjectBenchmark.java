@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.project;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.project.harness.ReactorBenchmarkSupport;
+import org.apache.maven.project.harness.SyntheticReactor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark measuring the cost of the {@link MavenProject#clone()} calls made for forked lifecycles
+ * (e.g. source, javadoc or report mojos using {@code @Execute}) on the projects of a {@link SyntheticReactor}.
+ * Each fork clones the project and sets it as its execution project; a forked mojo may attach an artifact to it.
+ * The interesting figure is the allocation rate reported by the GC profiler.
+ *
+ * To run this benchmark:
+ * mvn test-compile -pl impl/maven-core and run the main method of this class.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ForkedProjectBenchmark {
+
+    @Param({"100", "500"})
+    private int modules;
+
+    @Param({"1", "4"})
+    private int forks;
+
+    @Param({"false", "true"})
+    private boolean attach;
+
+    private ReactorBenchmarkSupport support;
+    private List<MavenProject> projects;
+    private Artifact attached;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        support = new ReactorBenchmarkSupport(new SyntheticReactor().modules(modules));
+        projects = support.buildProjects();
+        attached = new DefaultArtifact("org.apache.maven.its", "forked", "1.0", null, "jar", "sources", null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        support.close();
+    }
+
+    /**
+     * Forks the lifecycle of each project of the reactor, the way {@code MojoExecutor} does.
+     */
+    @Benchmark
+    public List<MavenProject> forkProjects() {
+        List<MavenProject> executionProjects = new ArrayList<>(projects.size() * forks);
+        for (MavenProject project : projects) {
+            for (int i = 0; i < forks; i++) {
+                MavenProject executionProject = project.clone();
+                project.setExecutionProject(executionProject);
+                if (attach) {
+                    executionProject.addAttachedArtifact(attached);
+                }
+                executionProjects.add(executionProject);
+            }
+            // do not chain the execution projects of successive invocations
+            project.setExecutionProject(null);
+        }
+        return executionProjects;
+    }
+
+    /**
+     * Main method to run the benchmark with allocation profiling enabled.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(ForkedProjectBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -26,6 +26,7 @@
 
 import org.apache.maven.api.Language;
 import org.apache.maven.api.ProjectScope;
+import org.apache.maven.artifact.DefaultArtifact;
 import org.apache.maven.impl.DefaultSourceRoot;
 import org.apache.maven.model.DependencyManagement;
 import org.apache.maven.model.Model;
@@ -37,6 +38,7 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MavenProjectTest extends AbstractMavenProjectTestCase {
@@ -246,6 +248,36 @@ void testRemoveSourceRoot() {
         assertEquals(0, project.getSourceRoots().size());
     }
 
+    @Test
+    void testCloneIsCopyOnWrite() throws Exception {
+        MavenProject project = new MavenProject();
+        File basedir = new File(System.getProperty("java.io.tmpdir"));
+        project.setFile(new File(basedir, "file"));
+        project.addSourceRoot(new DefaultSourceRoot(
+                ProjectScope.MAIN, Language.JAVA_FAMILY, Path.of(basedir.getAbsolutePath(), "src/main/java")));
+        project.addAttachedArtifact(new DefaultArtifact("g", "a", "1", null, "jar", "sources", null));
+
+        MavenProject clone = project.clone();
+        assertSame(project.sources, clone.sources, "Sources are shared until modified");
+
+        clone.addSourceRoot(new DefaultSourceRoot(
+                ProjectScope.TEST, Language.JAVA_FAMILY, Path.of(basedir.getAbsolutePath(), "src/test/java")));
+        clone.addAttachedArtifact(new DefaultArtifact("g", "a", "1", null, "jar", "javadoc", null));
+        assertEquals(2, clone.getSourceRoots().size());
+        assertEquals(2, clone.getAttachedArtifacts().size());
+        assertEquals(1, project.getSourceRoots().size());
+        assertEquals(1, project.getAttachedArtifacts().size());
+
+        // the original project copies its state before modifying it too
+        MavenProject other = project.clone();
+        project.removeSourceRoot(ProjectScope.MAIN, Language.JAVA_FAMILY, "src/main/java");
+        project.addAttachedArtifact(new DefaultArtifact("g", "a", "1", null, "jar", "tests", null));
+        assertEquals(0, project.getSourceRoots().size());
+        assertEquals(2, project.getAttachedArtifacts().size());
+        assertEquals(1, other.getSourceRoots().size());
+        assertEquals(1, other.getAttachedArtifacts().size());
+    }
+
     private void assertNoNulls(List<String> elements) {
         assertFalse(elements.contains(null), "Expected " + elements + " to not contain " + null);
     }
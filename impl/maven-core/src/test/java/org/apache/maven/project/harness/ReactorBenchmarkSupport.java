@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.project.harness;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.artifact.repository.ArtifactRepository;
+import org.apache.maven.bridge.MavenRepositorySystem;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.graph.DefaultProjectDependencyGraph;
+import org.apache.maven.impl.InternalSession;
+import org.apache.maven.impl.resolver.MavenSessionBuilderSupplier;
+import org.apache.maven.internal.impl.DefaultLookup;
+import org.apache.maven.internal.impl.DefaultSessionFactory;
+import org.apache.maven.internal.impl.InternalMavenSession;
+import org.apache.maven.model.Repository;
+import org.apache.maven.model.RepositoryPolicy;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuilder;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.project.ProjectBuildingResult;
+import org.apache.maven.session.scope.internal.SessionScope;
+import org.codehaus.plexus.ContainerConfiguration;
+import org.codehaus.plexus.DefaultContainerConfiguration;
+import org.codehaus.plexus.DefaultPlexusContainer;
+import org.codehaus.plexus.PlexusConstants;
+import org.codehaus.plexus.util.FileUtils;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.LocalRepository;
+
+/**
+ * Boots a Plexus container and a {@link MavenSession} over a {@link SyntheticReactor}, so that JMH benchmarks can
+ * drive the real components ({@code DefaultProjectBuilder}, {@code DefaultGraphBuilder}, lifecycle planning) outside
+ * of a JUnit test. The setup mirrors {@code AbstractCoreMavenComponentTestCase}: plugins are resolved from the stub
+ * plugins in {@code src/test/remote-repo} into a local repository created next to the generated reactor.
+ * <p>
+ * Instances must be closed to dispose the container and delete the generated reactor.
+ */
+public class ReactorBenchmarkSupport implements AutoCloseable {
+
+    private final Path root;
+
+    private final Path rootPom;
+
+    private final DefaultPlexusContainer container;
+
+    private final SessionScope sessionScope;
+
+    private MavenSession session;
+
+    public ReactorBenchmarkSupport(SyntheticReactor reactor) throws Exception {
+        this.root = Files.createTempDirectory("reactor-benchmark");
+        this.rootPom = reactor.write(root.resolve("reactor"));
+        ContainerConfiguration cc = new DefaultContainerConfiguration()
+                .setClassPathScanning(PlexusConstants.SCANNING_INDEX)
+                .setAutoWiring(true)
+                .setJSR250Lifecycle(true)
+                .setName("benchmark");
+        this.container = new DefaultPlexusContainer(cc);
+        this.sessionScope = container.lookup(SessionScope.class);
+        this.sessionScope.enter();
+    }
+
+    public Path getRootPom() {
+        return rootPom;
+    }
+
+    public <T> T lookup(Class<T> role) throws Exception {
+        return container.lookup(role);
+    }
+
+    public <T> T lookup(Class<T> role, String hint) throws Exception {
+        return container.lookup(role, hint);
+    }
+
+    /**
+     * Returns the current session, creating it on first access. The session has its execution request pointing to
+     * the reactor root POM but no projects yet, see {@link #buildProjects()}.
+     */
+    public MavenSession getSession() throws Exception {
+        if (session == null) {
+            session = newSession();
+        }
+        return session;
+    }
+
+    /**
+     * Creates a new session (and a new repository session) and seeds the session scope with it.
+     */
+    public MavenSession newSession() throws Exception {
+        MavenRepositorySystem mavenRepositorySystem = container.lookup(MavenRepositorySystem.class);
+        RepositorySystem repositorySystem = container.lookup(RepositorySystem.class);
+
+        File localRepoDir = root.resolve("local-repo").toFile();
+        List<ArtifactRepository> remoteRepositories = List.of(remoteRepository());
+        MavenExecutionRequest request = new DefaultMavenExecutionRequest()
+                .setRootDirectory(rootPom.getParent())
+                .setPom(rootPom.toFile())
+                .setProjectPresent(true)
+                .setRecursive(true)
+                .setPluginGroups(List.of("org.apache.maven.plugins"))
+                .setLocalRepository(mavenRepositorySystem.createLocalRepository(localRepoDir))
+                .setRemoteRepositories(remoteRepositories)
+                .setPluginArtifactRepositories(remoteRepositories)
+                .setSystemProperties(new Properties())
+                .setUserProperties(new Properties())
+                .setGoals(List.of("package"));
+        request.setMultiModuleProjectDirectory(rootPom.getParent().toFile());
+
+        RepositorySystemSession repoSession = new MavenSessionBuilderSupplier(repositorySystem, true)
+                .get()
+                .withLocalRepositories(new LocalRepository(localRepoDir, "simple"))
+                .build();
+        ProjectBuildingRequest projectBuildingRequest = request.getProjectBuildingRequest();
+        projectBuildingRequest.setRepositorySession(repoSession);
+
+        MavenSession mSession =
+                new MavenSession(container, repoSession, request, new DefaultMavenExecutionResult());
+        DefaultSessionFactory sessionFactory =
+                new DefaultSessionFactory(repositorySystem, null, new DefaultLookup(container), null);
+        InternalSession iSession = sessionFactory.newSession(mSession);
+        mSession.setSession(iSession);
+
+        sessionScope.exit();
+        sessionScope.enter();
+        sessionScope.seed(MavenSession.class, mSession);
+        sessionScope.seed(Session.class, iSession);
+        sessionScope.seed(InternalMavenSession.class, InternalMavenSession.from(iSession));
+        return mSession;
+    }
+
+    /**
+     * Builds all the projects of the reactor with the project builder and registers them, along with their
+     * dependency graph, in the current session.
+     */
+    public List<MavenProject> buildProjects() throws Exception {
+        MavenSession mavenSession = getSession();
+        List<ProjectBuildingResult> results = container
+                .lookup(ProjectBuilder.class)
+                .build(List.of(rootPom.toFile()), true, mavenSession.getProjectBuildingRequest());
+        List<MavenProject> projects = new ArrayList<>(results.size());
+        for (ProjectBuildingResult result : results) {
+            projects.add(result.getProject());
+        }
+        DefaultProjectDependencyGraph graph = new DefaultProjectDependencyGraph(projects);
+        mavenSession.setProjects(graph.getSortedProjects());
+        mavenSession.setAllProjects(graph.getSortedProjects());
+        mavenSession.setProjectDependencyGraph(graph);
+        return graph.getSortedProjects();
+    }
+
+    @Override
+    public void close() throws IOException {
+        sessionScope.exit();
+        container.dispose();
+        FileUtils.deleteDirectory(root.toFile());
+    }
+
+    private static ArtifactRepository remoteRepository() throws Exception {
+        File repoDir = Paths.get(System.getProperty("basedir", ""))
+                .resolve("src/test/remote-repo")
+                .toAbsolutePath()
+                .toFile();
+
+        RepositoryPolicy policy = new RepositoryPolicy();
+        policy.setEnabled(true);
+        policy.setChecksumPolicy("ignore");
+        policy.setUpdatePolicy("always");
+
+        Repository repository = new Repository();
+        repository.setId(MavenRepositorySystem.DEFAULT_REMOTE_REPO_ID);
+        repository.setUrl("file://" + repoDir.toURI().getPath());
+        repository.setReleases(policy);
+        repository.setSnapshots(policy);
+
+        return MavenRepositorySystem.buildArtifactRepository(repository);
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.project.harness;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a synthetic multi-module reactor on disk, used to benchmark the build hot paths
+ * (model building, project building, graph building and lifecycle planning) on reactors of
+ * configurable size and shape.
+ * <p>
+ * The generated layout is:
+ * <pre>
+ * root/pom.xml                  aggregator, also the top-most parent (parent-0)
+ * root/parents/parent-N/pom.xml parent chain, parent-N inherits from parent-(N-1)
+ * root/boms/bom-N/pom.xml       standalone BOMs, imported by the last parent
+ * root/modules/module-N/pom.xml jar modules inheriting from the last parent
+ * </pre>
+ * Each module depends on the previous module (if any) and on a few artifacts managed by the
+ * imported BOMs. The last parent declares the requested number of profiles and a configured
+ * {@code maven-compiler-plugin} whose configuration size can be tuned. Plugin versions match the
+ * stub plugins available in {@code src/test/remote-repo}, so planning works offline.
+ */
+public class SyntheticReactor {
+
+    public static final String GROUP_ID = "org.apache.maven.benchmark.reactor";
+
+    public static final String VERSION = "1.0-SNAPSHOT";
+
+    private static final String[] PLUGINS = {
+        "maven-clean-plugin",
+        "maven-compiler-plugin",
+        "maven-deploy-plugin",
+        "maven-install-plugin",
+        "maven-jar-plugin",
+        "maven-resources-plugin",
+        "maven-surefire-plugin"
+    };
+
+    private int modules = 10;
+
+    private int parentDepth = 1;
+
+    private int boms;
+
+    private int bomSize = 100;
+
+    private int profiles;
+
+    private int pluginConfigSize = 10;
+
+    public SyntheticReactor modules(int modules) {
+        this.modules = modules;
+        return this;
+    }
+
+    public SyntheticReactor parentDepth(int parentDepth) {
+        this.parentDepth = Math.max(1, parentDepth);
+        return this;
+    }
+
+    public SyntheticReactor boms(int boms) {
+        this.boms = boms;
+        return this;
+    }
+
+    public SyntheticReactor bomSize(int bomSize) {
+        this.bomSize = bomSize;
+        return this;
+    }
+
+    public SyntheticReactor profiles(int profiles) {
+        this.profiles = profiles;
+        return this;
+    }
+
+    public SyntheticReactor pluginConfigSize(int pluginConfigSize) {
+        this.pluginConfigSize = pluginConfigSize;
+        return this;
+    }
+
+    /**
+     * Writes the reactor into the given directory.
+     *
+     * @param root the root directory of the reactor, created if needed
+     * @return the path to the root (aggregator) POM
+     * @throws IOException if the POMs cannot be written
+     */
+    public Path write(Path root) throws IOException {
+        List<String> subprojects = new ArrayList<>();
+        for (int i = 1; i < parentDepth; i++) {
+            subprojects.add("parents/parent-" + i);
+        }
+        for (int i = 0; i < boms; i++) {
+            subprojects.add("boms/bom-" + i);
+        }
+        for (int i = 0; i < modules; i++) {
+            subprojects.add("modules/module-" + i);
+        }
+
+        Path rootPom = root.resolve("pom.xml");
+        write(rootPom, parent(0, subprojects));
+        for (int i = 1; i < parentDepth; i++) {
+            write(root.resolve("parents/parent-" + i + "/pom.xml"), parent(i, List.of()));
+        }
+        for (int i = 0; i < boms; i++) {
+            write(root.resolve("boms/bom-" + i + "/pom.xml"), bom(i));
+        }
+        for (int i = 0; i < modules; i++) {
+            write(root.resolve("modules/module-" + i + "/pom.xml"), module(i));
+        }
+        return rootPom;
+    }
+
+    /**
+     * Returns the number of projects in the generated reactor, including parents and BOMs.
+     */
+    public int projectCount() {
+        return parentDepth + boms + modules;
+    }
+
+    private String parent(int index, List<String> subprojects) {
+        boolean last = index == parentDepth - 1;
+        StringBuilder sb = header();
+        if (index > 0) {
+            String relativePath = index == 1 ? "../../pom.xml" : "../parent-" + (index - 1) + "/pom.xml";
+            sb.append("  <parent>\n");
+            gav(sb, "    ", GROUP_ID, "parent-" + (index - 1), VERSION);
+            sb.append("    <relativePath>").append(relativePath).append("</relativePath>\n");
+            sb.append("  </parent>\n");
+            sb.append("  <artifactId>parent-").append(index).append("</artifactId>\n");
+        } else {
+            gav(sb, "  ", GROUP_ID, "parent-0", VERSION);
+        }
+        sb.append("  <packaging>pom</packaging>\n");
+        if (!subprojects.isEmpty()) {
+            sb.append("  <modules>\n");
+            for (String subproject : subprojects) {
+                sb.append("    <module>").append(subproject).append("</module>\n");
+            }
+            sb.append("  </modules>\n");
+        }
+        sb.append("  <properties>\n");
+        sb.append("    <parent-").append(index).append(".property>value-").append(index);
+        sb.append("</parent-").append(index).append(".property>\n");
+        sb.append("    <project.build.sourceEncoding>UTF-8</project.build.sourceEncoding>\n");
+        sb.append("  </properties>\n");
+        if (last && boms > 0) {
+            sb.append("  <dependencyManagement>\n    <dependencies>\n");
+            for (int i = 0; i < boms; i++) {
+                sb.append("      <dependency>\n");
+                gav(sb, "        ", GROUP_ID, "bom-" + i, VERSION);
+                sb.append("        <type>pom</type>\n        <scope>import</scope>\n");
+                sb.append("      </dependency>\n");
+            }
+            sb.append("    </dependencies>\n  </dependencyManagement>\n");
+        }
+        sb.append("  <build>\n");
+        if (index == 0) {
+            sb.append("    <pluginManagement>\n      <plugins>\n");
+            for (String plugin : PLUGINS) {
+                sb.append("        <plugin>\n");
+                gav(sb, "          ", "org.apache.maven.plugins", plugin, "0.1");
+                sb.append("        </plugin>\n");
+            }
+            sb.append("      </plugins>\n    </pluginManagement>\n");
+        }
+        if (last) {
+            sb.append("    <plugins>\n      <plugin>\n");
+            sb.append("        <groupId>org.apache.maven.plugins</groupId>\n");
+            sb.append("        <artifactId>maven-compiler-plugin</artifactId>\n");
+            sb.append("        <configuration>\n");
+            sb.append("          <source>${maven.compiler.source}</source>\n");
+            sb.append("          <compilerArgs>\n");
+            for (int i = 0; i < pluginConfigSize; i++) {
+                sb.append("            <arg>-Aoption").append(i).append("=${project.artifactId}</arg>\n");
+            }
+            sb.append("          </compilerArgs>\n");
+            sb.append("        </configuration>\n");
+            sb.append("      </plugin>\n    </plugins>\n");
+        }
+        sb.append("  </build>\n");
+        if (last) {
+            profiles(sb);
+        }
+        return footer(sb);
+    }
+
+    private void profiles(StringBuilder sb) {
+        if (profiles == 0) {
+            return;
+        }
+        sb.append("  <profiles>\n");
+        for (int i = 0; i < profiles; i++) {
+            sb.append("    <profile>\n");
+            sb.append("      <id>profile-").append(i).append("</id>\n");
+            sb.append("      <activation>\n");
+            switch (i % 4) {
+                case 0 -> sb.append("        <property>\n          <name>profile-")
+                        .append(i)
+                        .append("</name>\n        </property>\n");
+                case 1 -> sb.append("        <jdk>[17,)</jdk>\n");
+                case 2 -> sb.append("        <os>\n          <family>unix</family>\n        </os>\n");
+                default -> sb.append("        <file>\n          <exists>${project.basedir}/profile-")
+                        .append(i)
+                        .append(".marker</exists>\n        </file>\n");
+            }
+            sb.append("      </activation>\n");
+            sb.append("      <properties>\n");
+            sb.append("        <profile-").append(i).append(".active>true</profile-");
+            sb.append(i).append(".active>\n");
+            sb.append("      </properties>\n");
+            sb.append("    </profile>\n");
+        }
+        sb.append("  </profiles>\n");
+    }
+
+    private String bom(int index) {
+        StringBuilder sb = header();
+        gav(sb, "  ", GROUP_ID, "bom-" + index, VERSION);
+        sb.append("  <packaging>pom</packaging>\n");
+        sb.append("  <dependencyManagement>\n    <dependencies>\n");
+        for (int i = 0; i < bomSize; i++) {
+            sb.append("      <dependency>\n");
+            gav(sb, "        ", "org.example.bom" + index, "managed-" + i, "1." + i);
+            sb.append("      </dependency>\n");
+        }
+        sb.append("    </dependencies>\n  </dependencyManagement>\n");
+        return footer(sb);
+    }
+
+    private String module(int index) {
+        StringBuilder sb = header();
+        sb.append("  <parent>\n");
+        gav(sb, "    ", GROUP_ID, "parent-" + (parentDepth - 1), VERSION);
+        String relativePath = parentDepth == 1 ? "../../pom.xml" : "../../parents/parent-" + (parentDepth - 1);
+        sb.append("    <relativePath>").append(relativePath).append("</relativePath>\n");
+        sb.append("  </parent>\n");
+        sb.append("  <artifactId>module-").append(index).append("</artifactId>\n");
+        sb.append("  <dependencies>\n");
+        if (index > 0) {
+            sb.append("    <dependency>\n");
+            gav(sb, "      ", GROUP_ID, "module-" + (index - 1), "${project.version}");
+            sb.append("    </dependency>\n");
+        }
+        for (int i = 0; i < boms && bomSize > 0; i++) {
+            sb.append("    <dependency>\n");
+            sb.append("      <groupId>org.example.bom").append(i).append("</groupId>\n");
+            sb.append("      <artifactId>managed-").append(index % bomSize).append("</artifactId>\n");
+            sb.append("    </dependency>\n");
+        }
+        sb.append("  </dependencies>\n");
+        sb.append("  <build>\n    <plugins>\n      <plugin>\n");
+        sb.append("        <groupId>org.apache.maven.plugins</groupId>\n");
+        sb.append("        <artifactId>maven-surefire-plugin</artifactId>\n");
+        sb.append("        <configuration>\n");
+        sb.append("          <reportsDirectory>${project.build.directory}/reports-")
+                .append(index)
+                .append("</reportsDirectory>\n");
+        sb.append("        </configuration>\n");
+        sb.append("      </plugin>\n    </plugins>\n  </build>\n");
+        return footer(sb);
+    }
+
+    private static StringBuilder header() {
+        StringBuilder sb = new StringBuilder(4096);
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        sb.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n");
+        sb.append("  <modelVersion>4.0.0</modelVersion>\n");
+        return sb;
+    }
+
+    private static String footer(StringBuilder sb) {
+        return sb.append("</project>\n").toString();
+    }
+
+    private static void gav(StringBuilder sb, String indent, String groupId, String artifactId, String version) {
+        sb.append(indent).append("<groupId>").append(groupId).append("</groupId>\n");
+        sb.append(indent).append("<artifactId>").append(artifactId).append("</artifactId>\n");
+        sb.append(indent).append("<version>").append(version).append("</version>\n");
+    }
+
+    private static void write(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content);
+    }
+}
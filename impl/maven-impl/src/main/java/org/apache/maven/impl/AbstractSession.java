@@ -103,6 +103,10 @@
 import org.apache.maven.di.impl.Binding;
 import org.apache.maven.di.impl.InjectorImpl;
 import org.apache.maven.impl.cache.Cache;
+import org.apache.maven.impl.cache.CacheStatistics;
+import org.apache.maven.impl.cache.DefaultRequestCache;
+import org.apache.maven.impl.metrics.SessionMetrics;
+import org.apache.maven.impl.model.DefaultModelObjectPool;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
@@ -187,12 +191,27 @@ private RequestCache getRequestCache() {
                     RequestCacheFactory factory = lookup.lookup(RequestCacheFactory.class);
                     requestCache = factory.createCache();
                     cache = requestCache;
+                    if (cache instanceof DefaultRequestCache defaultCache) {
+                        registerCacheMetrics(defaultCache.getStatistics());
+                    }
                 }
             }
         }
         return cache;
     }
 
+    private void registerCacheMetrics(CacheStatistics statistics) {
+        SessionMetrics metrics = SessionMetrics.of(this);
+        metrics.gauge("maven_request_cache_hits", "Requests served by the request cache", statistics::getCacheHits);
+        metrics.gauge(
+                "maven_request_cache_misses", "Requests not found in the request cache", statistics::getCacheMisses);
+        metrics.gauge("maven_request_cache_evictions", "Request cache evictions", statistics::getTotalEvictions);
+        metrics.gauge(
+                "maven_model_pool_hits", "Model objects reused from the pool", DefaultModelObjectPool::getCacheHits);
+        metrics.gauge(
+                "maven_model_pool_misses", "Model objects added to the pool", DefaultModelObjectPool::getCacheMisses);
+    }
+
     @Override
     public RemoteRepository getRemoteRepository(org.eclipse.aether.repository.RemoteRepository repository) {
         return allRepositories.computeIfAbsent(repository, DefaultRemoteRepository::new);
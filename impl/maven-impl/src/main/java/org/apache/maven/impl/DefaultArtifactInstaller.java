@@ -18,6 +18,16 @@
  */
 package org.apache.maven.impl;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.maven.api.Constants;
 import org.apache.maven.api.annotations.Nonnull;
 import org.apache.maven.api.di.Inject;
 import org.apache.maven.api.di.Named;
@@ -25,9 +35,14 @@
 import org.apache.maven.api.services.ArtifactInstaller;
 import org.apache.maven.api.services.ArtifactInstallerException;
 import org.apache.maven.api.services.ArtifactInstallerRequest;
+import org.apache.maven.impl.metrics.SessionMetrics;
 import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.installation.InstallRequest;
 import org.eclipse.aether.installation.InstallationException;
+import org.eclipse.aether.repository.LocalRepositoryManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static java.util.Objects.requireNonNull;
 
@@ -35,6 +50,10 @@
 @Singleton
 public class DefaultArtifactInstaller implements ArtifactInstaller {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultArtifactInstaller.class);
+
+    private static final String MODE_LINK = "link";
+
     private final RepositorySystem repositorySystem;
 
     @Inject
@@ -46,13 +65,90 @@ public class DefaultArtifactInstaller implements ArtifactInstaller {
     public void install(ArtifactInstallerRequest request) throws ArtifactInstallerException, IllegalArgumentException {
         requireNonNull(request, "request");
         InternalSession session = InternalSession.from(request.getSession());
+        String mode = session.getUserProperties().getOrDefault(Constants.MAVEN_INSTALL_MODE, "copy");
+        long start = System.nanoTime();
         try {
-            InstallRequest installRequest =
-                    new InstallRequest().setArtifacts(session.toArtifacts(request.getArtifacts()));
+            Collection<Artifact> artifacts = session.toArtifacts(request.getArtifacts());
+            if (MODE_LINK.equals(mode)) {
+                link(session, artifacts);
+            }
+            InstallRequest installRequest = new InstallRequest().setArtifacts(artifacts);
 
             repositorySystem.install(session.getSession(), installRequest);
         } catch (InstallationException e) {
             throw new ArtifactInstallerException(e.getMessage(), e);
+        } finally {
+            SessionMetrics.of(session)
+                    .timer("maven_install", "Duration of artifact installations", Map.of("mode", mode))
+                    .record(System.nanoTime() - start);
         }
     }
+
+    /**
+     * Hard links the given artifacts into the local repository, in parallel. The resolver does not copy again a file
+     * which has the same size and modification time as the installed one, which is always the case for a link,
+     * but still records the installation and updates the metadata. Artifacts that cannot be linked, for instance
+     * because the local repository is on another file system, are copied by the resolver as usual.
+     */
+    private void link(InternalSession session, Collection<Artifact> artifacts) {
+        LocalRepositoryManager manager = session.getSession().getLocalRepositoryManager();
+        LongAdder linked = new LongAdder();
+        LongAdder bytes = new LongAdder();
+        long start = System.nanoTime();
+        artifacts.parallelStream().forEach(artifact -> {
+            Path source = artifact.getPath();
+            if (source == null || "pom".equals(artifact.getExtension()) || !Files.isRegularFile(source)) {
+                return;
+            }
+            Path target = manager.getAbsolutePathForLocalArtifact(artifact);
+            try {
+                if (link(source, target)) {
+                    linked.increment();
+                    bytes.add(Files.size(source));
+                }
+            } catch (IOException | UnsupportedOperationException e) {
+                LOGGER.debug("Cannot link {} to {}, it will be copied: {}", source, target, e.toString());
+            }
+        });
+        LOGGER.debug(
+                "Linked {} of {} artifact(s) ({} kB) into the local repository in {} ms",
+                linked.sum(),
+                artifacts.size(),
+                bytes.sum() / 1024,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        SessionMetrics.of(session)
+                .counter("maven_install_linked_bytes", "Bytes of artifacts linked instead of copied on install")
+                .add(bytes.sum());
+    }
+
+    /**
+     * Replaces the target file by a hard link to the source file, unless it is already one.
+     *
+     * @return {@code false} if the source file is the target file, which the resolver rejects
+     */
+    private boolean link(Path source, Path target) throws IOException {
+        if (source.equals(target)) {
+            return false;
+        }
+        if (Files.exists(target) && Files.isSameFile(source, target)) {
+            return true;
+        }
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + "." + ProcessHandle.current().pid() + ".link");
+        try {
+            Files.deleteIfExists(temp);
+            createLink(temp, source);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return true;
+    }
+
+    /**
+     * Creates a hard link, failing if the file system does not support it or if both paths are not on the same one.
+     */
+    void createLink(Path link, Path existing) throws IOException {
+        Files.createLink(link, existing);
+    }
 }
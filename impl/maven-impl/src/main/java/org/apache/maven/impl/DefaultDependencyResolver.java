@@ -52,6 +52,7 @@
 import org.apache.maven.api.services.DependencyResolverRequest;
 import org.apache.maven.api.services.DependencyResolverResult;
 import org.apache.maven.api.services.ProjectManager;
+import org.apache.maven.impl.metrics.SessionMetrics;
 import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.collection.CollectRequest;
@@ -117,6 +118,7 @@ public DependencyResolverResult collect(@Nonnull DependencyResolverRequest reque
         requireNonNull(request, "request");
         InternalSession session = InternalSession.from(request.getSession());
         RequestTraceHelper.ResolverTrace trace = RequestTraceHelper.enter(session, request);
+        long start = System.nanoTime();
         try {
             Artifact rootArtifact;
             DependencyCoordinates root;
@@ -178,6 +180,7 @@ public DependencyResolverResult collect(@Nonnull DependencyResolverRequest reque
                 throw new DependencyResolverException(enhancedMessage, e);
             }
         } finally {
+            recordDuration(session, "collect", start);
             RequestTraceHelper.exit(trace);
         }
     }
@@ -219,6 +222,7 @@ public DependencyResolverResult resolve(DependencyResolverRequest request)
                 InternalSession.from(requireNonNull(request, "request").getSession());
         RequestTraceHelper.ResolverTrace trace = RequestTraceHelper.enter(session, request);
         DependencyResolverResult result;
+        long start = System.nanoTime();
         try {
             DependencyResolverResult collectorResult = collect(request);
             List<RemoteRepository> repositories = request.getRepositories() != null
@@ -267,11 +271,21 @@ public DependencyResolverResult resolve(DependencyResolverRequest request)
                 result = resolverResult;
             }
         } finally {
+            recordDuration(session, "resolve", start);
             RequestTraceHelper.exit(trace);
         }
         return result;
     }
 
+    private static void recordDuration(Session session, String step, long start) {
+        SessionMetrics.of(session)
+                .timer(
+                        "maven_dependency_resolution",
+                        "Duration of dependency resolution requests",
+                        Map.of("step", step))
+                .record(System.nanoTime() - start);
+    }
+
     private static DependencyResolverException cannotReadModuleInfo(final Path path, final IOException cause) {
         return new DependencyResolverException("Cannot read module information of " + path, cause);
     }
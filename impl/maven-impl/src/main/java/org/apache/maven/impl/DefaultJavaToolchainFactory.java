@@ -23,6 +23,8 @@
 import java.nio.file.Paths;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -52,8 +54,19 @@ public class DefaultJavaToolchainFactory implements ToolchainFactory {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultJavaToolchainFactory.class);
 
+    /**
+     * Maximum number of parsed version requirements kept.
+     */
+    private static final int MAX_CONSTRAINTS = 256;
+
     final VersionParser versionParser;
 
+    /**
+     * The parsed version requirements, as the same requirements are checked against the toolchains for each
+     * plugin execution. Empty for a requirement which is not a valid version constraint.
+     */
+    private final Map<String, Optional<VersionConstraint>> constraints = new ConcurrentHashMap<>();
+
     @Inject
     public DefaultJavaToolchainFactory(VersionParser versionParser) {
         this.versionParser = versionParser;
@@ -71,7 +84,9 @@ public JavaToolchain createToolchain(@Nonnull ToolchainModel model) {
                         throw new ToolchainFactoryException(
                                 "Provides token '" + key + "' doesn't have any value configured.");
                     }
-                    return "version".equals(key) ? new VersionMatcher(versionParser, value) : new ExactMatcher(value);
+                    return "version".equals(key)
+                            ? new VersionMatcher(this::parseVersionConstraint, versionParser, value)
+                            : new ExactMatcher(value);
                 }));
 
         // compute and normalize the java home
@@ -103,12 +118,32 @@ public Optional<Toolchain> createDefaultToolchain() {
         return Optional.empty();
     }
 
+    Optional<VersionConstraint> parseVersionConstraint(String requirement) {
+        Optional<VersionConstraint> constraint = requirement != null ? constraints.get(requirement) : null;
+        if (constraint == null) {
+            try {
+                constraint = Optional.of(versionParser.parseVersionConstraint(requirement));
+            } catch (VersionParserException ex) {
+                constraint = Optional.empty();
+            }
+            if (requirement != null && constraints.size() < MAX_CONSTRAINTS) {
+                constraints.putIfAbsent(requirement, constraint);
+            }
+        }
+        return constraint;
+    }
+
     static class DefaultJavaToolchain implements JavaToolchain {
 
         final ToolchainModel model;
         final String javaHome;
         final Map<String, Predicate<String>> matchers;
 
+        /**
+         * The paths of the tools looked up so far, empty for a missing tool.
+         */
+        private final Map<String, Optional<String>> tools = new ConcurrentHashMap<>();
+
         private Version javaVersion;
 
         DefaultJavaToolchain(
@@ -141,11 +176,11 @@ public ToolchainModel getModel() {
 
         @Override
         public String findTool(String toolName) {
-            Path toRet = findTool(toolName, Paths.get(getJavaHome()).normalize());
-            if (toRet != null) {
-                return toRet.toAbsolutePath().toString();
-            }
-            return null;
+            return tools.computeIfAbsent(toolName, name -> {
+                        Path toRet = findTool(name, Paths.get(getJavaHome()).normalize());
+                        return Optional.ofNullable(toRet).map(tool -> tool.toAbsolutePath().toString());
+                    })
+                    .orElse(null);
         }
 
         private static Path findTool(String toolName, Path installDir) {
@@ -211,22 +246,23 @@ public String toString() {
 
     static final class VersionMatcher implements Predicate<String> {
 
-        final VersionParser versionParser;
+        final Function<String, Optional<VersionConstraint>> constraints;
         final Version version;
 
-        VersionMatcher(VersionParser versionParser, String version) {
-            this.versionParser = versionParser;
+        VersionMatcher(
+                Function<String, Optional<VersionConstraint>> constraints,
+                VersionParser versionParser,
+                String version) {
+            this.constraints = constraints;
             this.version = versionParser.parseVersion(version);
         }
 
         @Override
         public boolean test(String requirement) {
-            try {
-                VersionConstraint constraint = versionParser.parseVersionConstraint(requirement);
-                return constraint.contains(version);
-            } catch (VersionParserException ex) {
-                return false;
-            }
+            return constraints
+                    .apply(requirement)
+                    .map(constraint -> constraint.contains(version))
+                    .orElse(false);
         }
 
         @Override
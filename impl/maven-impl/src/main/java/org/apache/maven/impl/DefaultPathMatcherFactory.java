@@ -18,10 +18,13 @@
  */
 package org.apache.maven.impl;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.apache.maven.api.annotations.Nonnull;
 import org.apache.maven.api.di.Named;
@@ -36,6 +39,7 @@
  * <p>
  * This implementation provides Maven's traditional include/exclude pattern behavior,
  * compatible with Maven 3 plugins like maven-compiler-plugin and maven-clean-plugin.
+ * File trees are {@linkplain #scan(Path, PathMatcher) scanned} in parallel by a {@link PathScanner}.
  *
  * @since 4.0.0
  */
@@ -71,6 +75,17 @@ public PathMatcher deriveDirectoryMatcher(@Nonnull PathMatcher fileMatcher) {
         return PathSelector.INCLUDES_ALL;
     }
 
+    @Nonnull
+    @Override
+    public Stream<Path> scan(@Nonnull Path baseDirectory, @Nonnull PathMatcher fileMatcher) throws IOException {
+        requireNonNull(baseDirectory, "baseDirectory cannot be null");
+        requireNonNull(fileMatcher, "fileMatcher cannot be null");
+        if (!Files.isDirectory(baseDirectory)) {
+            return Stream.empty();
+        }
+        return PathScanner.scan(baseDirectory, fileMatcher, deriveDirectoryMatcher(fileMatcher));
+    }
+
     @Nonnull
     @Override
     public PathMatcher includesAll() {
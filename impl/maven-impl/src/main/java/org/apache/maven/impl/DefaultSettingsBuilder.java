@@ -27,6 +27,7 @@
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -95,15 +96,20 @@ public DefaultSettingsBuilder(
     @Override
     public SettingsBuilderResult build(SettingsBuilderRequest request) throws SettingsBuilderException {
         ProblemCollector<BuilderProblem> problems = ProblemCollector.create(request.getSession());
+        Decryption decryption = new Decryption(request.getSession());
 
         Source installationSource = request.getInstallationSettingsSource().orElse(null);
-        Settings installation = readSettings(installationSource, false, request, problems);
-
         Source projectSource = request.getProjectSettingsSource().orElse(null);
-        Settings project = readSettings(projectSource, true, request, problems);
-
         Source userSource = request.getUserSettingsSource().orElse(null);
-        Settings user = readSettings(userSource, false, request, problems);
+        List<Settings> settings = ParallelSources.read(
+                problems,
+                List.of(
+                        p -> readSettings(installationSource, false, request, decryption, p),
+                        p -> readSettings(projectSource, true, request, decryption, p),
+                        p -> readSettings(userSource, false, request, decryption, p)));
+        Settings installation = settings.get(0);
+        Settings project = settings.get(1);
+        Settings user = settings.get(2);
 
         Settings effective =
                 settingsMerger.merge(user, settingsMerger.merge(project, installation, false, null), false, null);
@@ -149,6 +155,7 @@ private Settings readSettings(
             Source settingsSource,
             boolean isProjectSettings,
             SettingsBuilderRequest request,
+            Decryption decryption,
             ProblemCollector<BuilderProblem> problems) {
         if (settingsSource == null) {
             return Settings.newInstance();
@@ -202,7 +209,7 @@ private Settings readSettings(
         }
 
         settings = interpolate(settings, request, problems);
-        settings = decrypt(settingsSource, settings, request, problems);
+        settings = decrypt(settingsSource, settings, decryption, problems);
 
         settingsValidator.validate(settings, isProjectSettings, problems);
 
@@ -273,15 +280,19 @@ protected Activation.Builder transformActivation_Condition(
     private Settings decrypt(
             Source settingsSource,
             Settings settings,
-            SettingsBuilderRequest request,
+            Decryption decryption,
             ProblemCollector<BuilderProblem> problems) {
         if (dispatchers.isEmpty()) {
             return settings;
         }
-        SecDispatcher secDispatcher = new DefaultSecDispatcher(dispatchers, getSecuritySettings(request.getSession()));
         final AtomicInteger preMaven4Passwords = new AtomicInteger(0);
         UnaryOperator<String> decryptFunction = str -> {
-            if (str != null && !str.isEmpty() && !str.contains("${") && secDispatcher.isAnyEncryptedString(str)) {
+            // all the encrypted strings contain a brace: the security settings are not read for other strings
+            if (str == null || str.indexOf('{') < 0 || str.contains("${")) {
+                return str;
+            }
+            SecDispatcher secDispatcher = decryption.secDispatcher();
+            if (secDispatcher.isAnyEncryptedString(str)) {
                 if (secDispatcher.isLegacyEncryptedString(str)) {
                     // the call above return true for too broad types of strings, original idea with 2.x sec-dispatcher
                     // was to make it possible to add "descriptions" to encrypted passwords. Maven 4 is
@@ -303,7 +314,7 @@ private Settings decrypt(
                     preMaven4Passwords.incrementAndGet();
                 }
                 try {
-                    return secDispatcher.decrypt(str);
+                    return decryption.decrypt(str);
                 } catch (Exception e) {
                     problems.reportProblem(new DefaultBuilderProblem(
                             settingsSource.getLocation(),
@@ -330,6 +341,43 @@ private Settings decrypt(
         return result;
     }
 
+    /**
+     * Decrypts the values of the settings sources of a build, which are read in parallel. The security settings are
+     * only read when a value may be encrypted, and each distinct encrypted value is decrypted once.
+     */
+    private final class Decryption {
+
+        private final ProtoSession session;
+
+        private final Map<String, String> decrypted = new ConcurrentHashMap<>();
+
+        private SecDispatcher secDispatcher;
+
+        Decryption(ProtoSession session) {
+            this.session = session;
+        }
+
+        synchronized SecDispatcher secDispatcher() {
+            if (secDispatcher == null) {
+                secDispatcher = new DefaultSecDispatcher(dispatchers, getSecuritySettings(session));
+            }
+            return secDispatcher;
+        }
+
+        String decrypt(String str) throws Exception {
+            String result = decrypted.get(str);
+            if (result == null) {
+                synchronized (this) {
+                    result = secDispatcher().decrypt(str);
+                }
+                if (result != null) {
+                    decrypted.put(str, result);
+                }
+            }
+            return result;
+        }
+    }
+
     private Path getSecuritySettings(ProtoSession session) {
         Map<String, String> properties = session.getEffectiveProperties();
         String settingsSecurity = properties.get(Constants.MAVEN_SETTINGS_SECURITY);
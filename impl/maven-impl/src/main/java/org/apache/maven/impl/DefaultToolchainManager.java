@@ -18,12 +18,14 @@
  */
 package org.apache.maven.impl;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.apache.maven.api.Project;
@@ -44,9 +46,23 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * The default toolchain manager.
+ * <p>
+ * Toolchain aware plugins look up their toolchain for each execution of each module, so the toolchains are created
+ * once per session from their models, and the selection for given requirements is memoized for the session.
+ */
 @Named
 @Singleton
 public class DefaultToolchainManager implements ToolchainManager {
+
+    /**
+     * Maximum number of toolchain selections memoized per session.
+     */
+    private static final int MAX_SELECTIONS = 256;
+
+    private static final SessionData.Key<ToolchainCache> TOOLCHAIN_CACHE_KEY = SessionData.key(ToolchainCache.class);
+
     private final Map<String, ToolchainFactory> factories;
     private final Logger logger;
 
@@ -73,12 +89,38 @@ public List<Toolchain> getToolchains(
             logger.error("Missing toolchain factory for type: " + type + ". Possibly caused by misconfigured project.");
             return List.of();
         }
-        return Stream.concat(
-                        session.getToolchains().stream()
-                                .filter(model -> Objects.equals(type, model.getType()))
-                                .map(this::createToolchain)
-                                .flatMap(Optional::stream),
-                        factory.createDefaultToolchain().stream())
+        List<ToolchainModel> models = session.getToolchains().stream()
+                .filter(model -> Objects.equals(type, model.getType()))
+                .toList();
+        SessionData data = session.getData();
+        if (data == null) {
+            return select(models, factory.createDefaultToolchain(), requirements, this::createToolchain);
+        }
+        ToolchainCache cache = data.computeIfAbsent(TOOLCHAIN_CACHE_KEY, ToolchainCache::new);
+        Selection selection = new Selection(
+                type,
+                models.stream().map(ModelIdentity::new).toList(),
+                requirements != null ? Collections.unmodifiableMap(new HashMap<>(requirements)) : null);
+        List<Toolchain> toolchains = cache.selections.get(selection);
+        if (toolchains == null) {
+            toolchains = select(
+                    models,
+                    cache.defaults.computeIfAbsent(type, t -> factory.createDefaultToolchain()),
+                    requirements,
+                    model -> cache.toolchain(model, this::createToolchain));
+            if (cache.selections.size() < MAX_SELECTIONS) {
+                cache.selections.putIfAbsent(selection, toolchains);
+            }
+        }
+        return toolchains;
+    }
+
+    private static List<Toolchain> select(
+            List<ToolchainModel> models,
+            Optional<Toolchain> defaultToolchain,
+            Map<String, String> requirements,
+            Function<ToolchainModel, Optional<Toolchain>> creator) {
+        return Stream.concat(models.stream().map(creator).flatMap(Optional::stream), defaultToolchain.stream())
                 .filter(toolchain -> requirements == null || toolchain.matchesRequirements(requirements))
                 .toList();
     }
@@ -89,6 +131,12 @@ public Optional<Toolchain> getToolchainFromBuildContext(@Nonnull Session session
             throws ToolchainManagerException {
         Map<String, Object> context = retrieveContext(session);
         ToolchainModel model = (ToolchainModel) context.get("toolchain-" + type);
+        // the toolchain stored in the build context has usually been selected in this session
+        SessionData data = model != null ? session.getData() : null;
+        ToolchainCache cache = data != null ? data.get(TOOLCHAIN_CACHE_KEY) : null;
+        if (cache != null) {
+            return cache.toolchain(model, this::createToolchain);
+        }
         return Optional.ofNullable(model).flatMap(this::createToolchain);
     }
 
@@ -116,6 +164,51 @@ private Optional<Toolchain> createToolchain(ToolchainModel model) {
     private static final SessionData.Key<ConcurrentHashMap<Project, ConcurrentHashMap<String, Object>>>
             TOOLCHAIN_CONTEXT_KEY = (SessionData.Key) SessionData.key(ConcurrentHashMap.class, "toolchain-context");
 
+    /**
+     * The toolchains of a type matching some requirements, for a given list of toolchain models.
+     * The models are compared by identity, and the requirements are {@code null} to select all the toolchains.
+     */
+    private record Selection(String type, List<ModelIdentity> models, Map<String, String> requirements) {}
+
+    /**
+     * A toolchain model compared by identity, as the equality of models only considers their type and the values
+     * they provide, and not their configuration (e.g. the JDK home).
+     */
+    private record ModelIdentity(ToolchainModel model) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ModelIdentity other && other.model == model;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(model);
+        }
+    }
+
+    /**
+     * The toolchains created and selected in a session.
+     */
+    private static final class ToolchainCache {
+        final Map<ModelIdentity, Optional<Toolchain>> toolchains = new ConcurrentHashMap<>();
+        final Map<String, Optional<Toolchain>> defaults = new ConcurrentHashMap<>();
+        final Map<Selection, List<Toolchain>> selections = new ConcurrentHashMap<>();
+
+        Optional<Toolchain> toolchain(ToolchainModel model, Function<ToolchainModel, Optional<Toolchain>> creator) {
+            // not using computeIfAbsent, creating a toolchain checks the file system and should not block other models
+            ModelIdentity key = new ModelIdentity(model);
+            Optional<Toolchain> toolchain = toolchains.get(key);
+            if (toolchain == null) {
+                toolchain = creator.apply(model);
+                Optional<Toolchain> previous = toolchains.putIfAbsent(key, toolchain);
+                if (previous != null) {
+                    toolchain = previous;
+                }
+            }
+            return toolchain;
+        }
+    }
+
     protected Map<String, Object> retrieveContext(Session session) {
         Optional<Project> current = session.getService(Lookup.class).lookupOptional(Project.class);
         if (current.isPresent()) {
@@ -23,6 +23,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 import java.util.function.UnaryOperator;
 
@@ -67,10 +68,14 @@ public ToolchainsBuilderResult build(ToolchainsBuilderRequest request) throws To
         ProblemCollector<BuilderProblem> problems = ProblemCollector.create(request.getSession());
 
         Source installationSource = request.getInstallationToolchainsSource().orElse(null);
-        PersistedToolchains installation = readToolchains(installationSource, request, problems);
-
         Source userSource = request.getUserToolchainsSource().orElse(null);
-        PersistedToolchains user = readToolchains(userSource, request, problems);
+        List<PersistedToolchains> toolchains = ParallelSources.read(
+                problems,
+                List.of(
+                        p -> readToolchains(installationSource, request, p),
+                        p -> readToolchains(userSource, request, p)));
+        PersistedToolchains installation = toolchains.get(0);
+        PersistedToolchains user = toolchains.get(1);
 
         PersistedToolchains effective = toolchainsMerger.merge(user, installation, false, null);
 
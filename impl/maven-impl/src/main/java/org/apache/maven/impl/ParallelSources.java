@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.apache.maven.api.services.BuilderProblem;
+import org.apache.maven.api.services.ProblemCollector;
+
+/**
+ * Reads the sources of the settings or toolchains in parallel. The problems of each source are buffered, then
+ * reported in the order of the sources, so that the result does not depend on the order of completion.
+ */
+final class ParallelSources {
+
+    private ParallelSources() {}
+
+    /**
+     * Runs the given readers, the first one in the calling thread and the others in the common pool.
+     *
+     * @param problems the collector to report the problems to, in the order of the readers
+     * @param readers the readers of the sources, reporting to the given collector
+     * @return the results of the readers, in order
+     */
+    static <T> List<T> read(
+            ProblemCollector<BuilderProblem> problems, List<Function<ProblemCollector<BuilderProblem>, T>> readers) {
+        if (readers.size() < 2) {
+            return readers.stream().map(reader -> reader.apply(problems)).toList();
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        List<BufferedProblems> buffers = new ArrayList<>();
+        List<CompletableFuture<T>> futures = new ArrayList<>();
+        for (int i = 1; i < readers.size(); i++) {
+            Function<ProblemCollector<BuilderProblem>, T> reader = readers.get(i);
+            BufferedProblems buffer = new BufferedProblems();
+            buffers.add(buffer);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                Thread thread = Thread.currentThread();
+                ClassLoader previous = thread.getContextClassLoader();
+                thread.setContextClassLoader(classLoader);
+                try {
+                    return reader.apply(buffer);
+                } finally {
+                    thread.setContextClassLoader(previous);
+                }
+            }));
+        }
+
+        List<T> results = new ArrayList<>();
+        RuntimeException failure = null;
+        BufferedProblems first = new BufferedProblems();
+        try {
+            results.add(readers.get(0).apply(first));
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException re ? re : e;
+                }
+            }
+        }
+        first.replay(problems);
+        buffers.forEach(buffer -> buffer.replay(problems));
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    /**
+     * Keeps the problems of a source in the order they are reported.
+     */
+    private static final class BufferedProblems implements ProblemCollector<BuilderProblem> {
+
+        private final List<BuilderProblem> problems = new ArrayList<>();
+
+        @Override
+        public synchronized int problemsReportedFor(BuilderProblem.Severity... severities) {
+            int result = 0;
+            for (BuilderProblem problem : problems) {
+                for (BuilderProblem.Severity severity : severities) {
+                    if (problem.getSeverity() == severity) {
+                        result++;
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public boolean problemsOverflow() {
+            return false;
+        }
+
+        @Override
+        public synchronized boolean reportProblem(BuilderProblem problem) {
+            return problems.add(problem);
+        }
+
+        @Override
+        public synchronized Stream<BuilderProblem> problems(BuilderProblem.Severity severity) {
+            return problems.stream().filter(problem -> problem.getSeverity() == severity).toList().stream();
+        }
+
+        synchronized void replay(ProblemCollector<BuilderProblem> target) {
+            problems.forEach(target::reportProblem);
+        }
+    }
+}
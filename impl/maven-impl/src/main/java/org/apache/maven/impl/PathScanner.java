@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks a file tree in parallel and streams the selected files as they are found.
+ * <p>
+ * Each directory is listed by a separate task of the common fork-join pool. Sub-directories which cannot contain
+ * selected files are not entered. When the files are selected by a {@link PathSelector} compiled into a
+ * {@link PatternAutomaton}, the state of the automaton is carried from each directory to its entries,
+ * so that each file is tested with a single transition instead of matching its whole relative path.
+ * <p>
+ * Symbolic links are not followed. The order of the files is unspecified.
+ *
+ * @param <S> the type of the selection state carried from each directory to its entries
+ */
+final class PathScanner<S> {
+    /**
+     * Marker for the end of the walk, compared by identity.
+     */
+    private static final Path END = Path.of("");
+
+    /**
+     * How files are selected and directories entered.
+     *
+     * @param <S> the type of the selection state carried from each directory to its entries
+     */
+    private interface Selection<S> {
+        /**
+         * {@return the state of an entry of the given name in a directory of the given state}
+         */
+        S next(S state, String name);
+
+        /**
+         * {@return whether the given file is selected}
+         */
+        boolean isSelected(S state, Path file);
+
+        /**
+         * {@return whether the given directory may contain selected files}
+         */
+        boolean mayContainSelected(S state, Path directory);
+    }
+
+    private final Selection<S> selection;
+
+    private final Executor executor;
+
+    /**
+     * The selected files, followed by {@link #END} when all directories have been listed.
+     */
+    private final BlockingQueue<Path> queue = new LinkedBlockingQueue<>();
+
+    /**
+     * Number of directories submitted and not yet listed.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * The first failure, which stops the walk.
+     */
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * Whether the stream has been closed, which stops the walk.
+     */
+    private volatile boolean closed;
+
+    private PathScanner(Selection<S> selection, Executor executor) {
+        this.selection = selection;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the files in the given directory and its sub-directories which are selected by the given matcher.
+     * The walk is stopped when the returned stream is closed.
+     *
+     * @param directory the existing directory to walk
+     * @param matcher the matcher of the files to return
+     * @param directoryMatcher the matcher of the directories to enter
+     * @return the selected files, resolved against the given directory
+     */
+    static Stream<Path> scan(Path directory, PathMatcher matcher, PathMatcher directoryMatcher) {
+        if (matcher instanceof PathSelector selector) {
+            PatternAutomaton automaton = selector.automaton(directory);
+            if (automaton != null) {
+                return new PathScanner<>(new Selection<PatternAutomaton.State>() {
+                            @Override
+                            public PatternAutomaton.State next(PatternAutomaton.State state, String name) {
+                                return state.next(name);
+                            }
+
+                            @Override
+                            public boolean isSelected(PatternAutomaton.State state, Path file) {
+                                return state.isSelected();
+                            }
+
+                            @Override
+                            public boolean mayContainSelected(PatternAutomaton.State state, Path dir) {
+                                return state.mayContainSelected();
+                            }
+                        }, ForkJoinPool.commonPool())
+                        .start(directory, automaton.initial());
+            }
+        }
+        return new PathScanner<>(new Selection<Boolean>() {
+                    @Override
+                    public Boolean next(Boolean state, String name) {
+                        return state;
+                    }
+
+                    @Override
+                    public boolean isSelected(Boolean state, Path file) {
+                        return matcher.matches(file);
+                    }
+
+                    @Override
+                    public boolean mayContainSelected(Boolean state, Path dir) {
+                        return directoryMatcher.matches(dir);
+                    }
+                }, ForkJoinPool.commonPool())
+                .start(directory, Boolean.TRUE);
+    }
+
+    /**
+     * Starts the walk and returns the stream of selected files.
+     */
+    private Stream<Path> start(Path directory, S state) {
+        submit(directory, state);
+        var spliterator = new Spliterators.AbstractSpliterator<Path>(
+                Long.MAX_VALUE, Spliterator.NONNULL | Spliterator.DISTINCT) {
+            private boolean done;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Path> action) {
+                if (done) {
+                    return false;
+                }
+                Path file = take();
+                if (file == END) {
+                    done = true;
+                    Throwable e = failure.get();
+                    if (e instanceof IOException ioe) {
+                        throw new UncheckedIOException(ioe);
+                    } else if (e instanceof RuntimeException re) {
+                        throw re;
+                    } else if (e instanceof Error error) {
+                        throw error;
+                    }
+                    return false;
+                }
+                action.accept(file);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> closed = true);
+    }
+
+    /**
+     * Submits the listing of the given directory.
+     */
+    private void submit(Path directory, S state) {
+        pending.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                if (!closed && failure.get() == null) {
+                    list(directory, state);
+                }
+            } catch (IOException | RuntimeException | Error e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                if (pending.decrementAndGet() == 0) {
+                    queue.add(END);
+                }
+            }
+        });
+    }
+
+    /**
+     * Lists the given directory, queuing the selected files and submitting the sub-directories to enter.
+     */
+    private void list(Path directory, S state) throws IOException {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                if (closed) {
+                    break;
+                }
+                S next = selection.next(state, entry.getFileName().toString());
+                BasicFileAttributes attributes =
+                        Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                if (attributes.isDirectory()) {
+                    if (selection.mayContainSelected(next, entry)) {
+                        submit(entry, next);
+                    }
+                } else if (selection.isSelected(next, entry)) {
+                    queue.add(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Takes the next file, waiting for the tasks listing the directories if needed.
+     * The wait is managed, so that the pool can compensate if the caller is itself a worker of the pool.
+     */
+    private Path take() {
+        Path file = queue.poll();
+        if (file == null) {
+            var blocker = new ForkJoinPool.ManagedBlocker() {
+                private Path taken;
+
+                @Override
+                public boolean block() throws InterruptedException {
+                    if (taken == null) {
+                        taken = queue.take();
+                    }
+                    return true;
+                }
+
+                @Override
+                public boolean isReleasable() {
+                    return taken != null || (taken = queue.poll()) != null;
+                }
+            };
+            try {
+                ForkJoinPool.managedBlock(blocker);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                closed = true;
+                throw new UncheckedIOException(new InterruptedIOException("Interrupted while walking the file tree"));
+            }
+            file = blocker.taken;
+        }
+        return file;
+    }
+}
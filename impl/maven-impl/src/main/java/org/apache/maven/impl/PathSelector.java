@@ -57,7 +57,12 @@
  * </ul>
  *
  * If above changes are not desired, put an explicit {@code "glob:"} prefix before the pattern.
- * Note that putting such a prefix is recommended anyway for better performances.
+ *
+ * <h2>Performance</h2>
+ * When all patterns use the Maven syntax, they are compiled into a single {@link PatternAutomaton}
+ * instead of being given to the file system one by one. The automaton tests a path in a single pass
+ * over its elements, whatever the number of patterns, and can also skip directories that no include
+ * pattern can reach.
  *
  * @see java.nio.file.FileSystem#getPathMatcher(String)
  */
@@ -143,7 +148,7 @@ final class PathSelector implements PathMatcher {
     /**
      * Maximum number of characters of the prefix before {@code ':'} for handling as a Maven syntax.
      */
-    private static final int MAVEN_SYNTAX_THRESHOLD = 1;
+    static final int MAVEN_SYNTAX_THRESHOLD = 1;
 
     /**
      * The default syntax to use if none was specified. Note that when this default syntax is applied,
@@ -199,15 +204,21 @@ final class PathSelector implements PathMatcher {
 
     /**
      * The matcher for includes. The length of this array is equal to {@link #includePatterns} array length.
-     * An empty array means to include all files.
+     * An empty array means to include all files. Not used if {@link #automaton} is non-null.
      */
     private final PathMatcher[] includes;
 
     /**
      * The matcher for excludes. The length of this array is equal to {@link #excludePatterns} array length.
+     * Not used if {@link #automaton} is non-null.
      */
     private final PathMatcher[] excludes;
 
+    /**
+     * The includes and excludes compiled together, or {@code null} if some patterns cannot be compiled.
+     */
+    private final PatternAutomaton automaton;
+
     /**
      * The base directory. All files will be relativized to that directory before to be matched.
      */
@@ -220,19 +231,28 @@ final class PathSelector implements PathMatcher {
      * @param includes the patterns of the files to include, or null or empty for including all files
      * @param excludes the patterns of the files to exclude, or null or empty for no exclusion
      * @param useDefaultExcludes whether to augment the excludes with a default set of <abbr>SCM</abbr> patterns
+     * @param compile whether to compile the patterns in an automaton when possible
      * @throws NullPointerException if directory is null
      */
     private PathSelector(
             @Nonnull Path directory,
             Collection<String> includes,
             Collection<String> excludes,
-            boolean useDefaultExcludes) {
+            boolean useDefaultExcludes,
+            boolean compile) {
         baseDirectory = Objects.requireNonNull(directory, "directory cannot be null");
         includePatterns = normalizePatterns(includes, false);
-        excludePatterns = normalizePatterns(effectiveExcludes(excludes, includePatterns, useDefaultExcludes), true);
+        excludes = effectiveExcludes(excludes, includePatterns, useDefaultExcludes);
+        excludePatterns = normalizePatterns(excludes, true);
         FileSystem fileSystem = baseDirectory.getFileSystem();
-        this.includes = matchers(fileSystem, includePatterns);
-        this.excludes = matchers(fileSystem, excludePatterns);
+        automaton = compile ? PatternAutomaton.compile(fileSystem, includes, excludes) : null;
+        if (automaton != null) {
+            this.includes = new PathMatcher[0];
+            this.excludes = new PathMatcher[0];
+        } else {
+            this.includes = matchers(fileSystem, includePatterns);
+            this.excludes = matchers(fileSystem, excludePatterns);
+        }
     }
 
     /**
@@ -250,7 +270,27 @@ public static PathMatcher of(
             Collection<String> includes,
             Collection<String> excludes,
             boolean useDefaultExcludes) {
-        return new PathSelector(directory, includes, excludes, useDefaultExcludes).simplify();
+        return of(directory, includes, excludes, useDefaultExcludes, true);
+    }
+
+    /**
+     * Creates a new matcher from the given includes and excludes, optionally without compiling them.
+     * This is used for comparing both ways of matching in tests and benchmarks.
+     *
+     * @param directory the base directory of the files to filter
+     * @param includes the patterns of the files to include, or null or empty for including all files
+     * @param excludes the patterns of the files to exclude, or null or empty for no exclusion
+     * @param useDefaultExcludes whether to augment the excludes with a default set of <abbr>SCM</abbr> patterns
+     * @param compile whether to compile the patterns in an automaton when possible
+     * @return a path matcher for the given includes and excludes
+     */
+    static PathMatcher of(
+            @Nonnull Path directory,
+            Collection<String> includes,
+            Collection<String> excludes,
+            boolean useDefaultExcludes,
+            boolean compile) {
+        return new PathSelector(directory, includes, excludes, useDefaultExcludes, compile).simplify();
     }
 
     /**
@@ -481,7 +521,7 @@ private static PathMatcher[] matchers(final FileSystem fs, final String[] patter
      */
     @SuppressWarnings("checkstyle:MissingSwitchDefault")
     private PathMatcher simplify() {
-        if (excludes.length == 0 && includes.length == 0) {
+        if (excludePatterns.length == 0 && includePatterns.length == 0) {
             return INCLUDES_ALL;
         }
         return this;
@@ -497,6 +537,9 @@ private PathMatcher simplify() {
     @Override
     public boolean matches(Path path) {
         path = baseDirectory.relativize(path);
+        if (automaton != null) {
+            return automaton.state(path).isSelected();
+        }
         return (includes.length == 0 || isMatched(path, includes))
                 && (excludes.length == 0 || !isMatched(path, excludes));
     }
@@ -519,9 +562,25 @@ private static boolean isMatched(Path path, PathMatcher[] matchers) {
      * If there is no such optimization, then this method returns {@link #INCLUDES_ALL}.
      */
     PathMatcher createDirectoryMatcher() {
+        if (automaton != null) {
+            return (directory) -> baseDirectory.equals(directory)
+                    || automaton.state(baseDirectory.relativize(directory)).mayContainSelected();
+        }
         return new DirectoryPrefiltering().simplify();
     }
 
+    /**
+     * Returns the automaton testing the paths relative to the given directory, if any.
+     * This is used for tracking the state of the automaton while walking a file tree,
+     * instead of testing each path from the beginning.
+     *
+     * @param directory the directory where the walk starts
+     * @return the automaton, or {@code null} if none or if the given directory is not the base directory
+     */
+    PatternAutomaton automaton(Path directory) {
+        return baseDirectory.equals(directory) ? automaton : null;
+    }
+
     /**
      * A matcher for skipping whole directories when possible.
      */
@@ -0,0 +1,392 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl;
+
+import java.io.File;
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Include and exclude patterns in the Maven syntax of {@link PathSelector}, compiled into a single automaton over
+ * the names of path elements.
+ * <p>
+ * Each pattern is split into segments, one per path element: literal names, names with {@code *} or {@code ?}
+ * wildcards, and {@code **} for zero or more elements. A state of the automaton is the set of segments that the
+ * elements seen so far may have reached in all patterns, so that a path is matched in a single pass over its
+ * elements, whatever the number of patterns. States are created lazily when first reached and shared by all paths,
+ * and the transitions on directory names are remembered, so that walking a tree mostly reduces to map lookups.
+ * <p>
+ * A state also tells whether a directory may contain selected files: no include pattern can match anything below
+ * a directory when no include segment is reached, and everything below it is excluded when an exclude pattern
+ * ends with {@code **} there.
+ * <p>
+ * Only the Maven syntax can be compiled, where {@code *}, {@code ?} and {@code /} are the only special characters.
+ * Patterns with an explicit syntax such as {@code "glob:"}, with {@code **} inside a path element, or for a file
+ * system where the glob matching is not case sensitive are left to the matchers of the file system.
+ */
+final class PatternAutomaton {
+    /**
+     * The segment matching zero or more path elements.
+     */
+    private static final String ANY_ELEMENTS = "**";
+
+    /**
+     * Maximum number of transitions remembered for each state.
+     * Past this limit, the next states of other names are computed each time.
+     */
+    private static final int MAX_TRANSITIONS = 256;
+
+    private static final int[] NO_POSITION = new int[0];
+
+    /**
+     * The segments of each pattern. Include patterns are first, followed by the exclude patterns.
+     */
+    private final String[][] patterns;
+
+    /**
+     * Number of include patterns at the beginning of {@link #patterns}.
+     */
+    private final int includeCount;
+
+    /**
+     * The states reached so far, indexed by their positions.
+     */
+    private final Map<Positions, State> states = new ConcurrentHashMap<>();
+
+    /**
+     * The state before any path element.
+     */
+    private final State initial;
+
+    private PatternAutomaton(List<String[]> includes, List<String[]> excludes) {
+        includeCount = includes.size();
+        List<String[]> all = new ArrayList<>(includes);
+        all.addAll(excludes);
+        patterns = all.toArray(String[][]::new);
+        int[] start = new int[patterns.length];
+        for (int i = 0; i < start.length; i++) {
+            start[i] = position(i, 0);
+        }
+        initial = state(start, start.length);
+    }
+
+    /**
+     * Compiles the given patterns, or returns {@code null} if at least one of them cannot be compiled.
+     *
+     * @param fileSystem the file system of the paths to match
+     * @param includes the patterns of the files to include, or null or empty for including all files
+     * @param excludes the patterns of the files to exclude, or null or empty for no exclusion
+     * @return the automaton, or {@code null} if the patterns shall be given to the file system
+     */
+    static PatternAutomaton compile(FileSystem fileSystem, Collection<String> includes, Collection<String> excludes) {
+        if (fileSystem.getPathMatcher("glob:a").matches(fileSystem.getPath("A"))) {
+            return null;
+        }
+        List<String[]> includeSegments = segments(includes);
+        List<String[]> excludeSegments = segments(excludes);
+        if (includeSegments == null || excludeSegments == null) {
+            return null;
+        }
+        return new PatternAutomaton(includeSegments, excludeSegments);
+    }
+
+    /**
+     * Splits the given patterns into segments, with the same normalization as {@link PathSelector}.
+     * Returns {@code null} if a pattern cannot be compiled.
+     */
+    private static List<String[]> segments(Collection<String> patterns) {
+        List<String[]> result = new ArrayList<>();
+        if (patterns != null) {
+            for (String pattern : patterns) {
+                if (pattern == null || pattern.isEmpty()) {
+                    continue;
+                }
+                if (pattern.indexOf(':') > PathSelector.MAVEN_SYNTAX_THRESHOLD) {
+                    return null;
+                }
+                pattern = pattern.replace(File.separatorChar, '/');
+                if (pattern.endsWith("/")) {
+                    pattern += ANY_ELEMENTS;
+                }
+                List<String> segments = new ArrayList<>();
+                for (String segment : pattern.split("/", -1)) {
+                    if (segment.equals(ANY_ELEMENTS)) {
+                        if (!segments.isEmpty() && segments.get(segments.size() - 1).equals(ANY_ELEMENTS)) {
+                            continue; // "**/**" is the same as "**"
+                        }
+                    } else if (segment.contains(ANY_ELEMENTS)) {
+                        return null; // Crosses directory boundaries.
+                    }
+                    segments.add(segment);
+                }
+                result.add(segments.toArray(String[]::new));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Encodes the given segment of the given pattern.
+     */
+    private static int position(int pattern, int segment) {
+        return (pattern << 16) | segment;
+    }
+
+    /**
+     * {@return whether the given segment contains wildcards}
+     */
+    private static boolean isWildcard(String segment) {
+        return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0;
+    }
+
+    /**
+     * {@return whether the given path element name matches the given segment with {@code *} or {@code ?} wildcards}
+     */
+    static boolean matchesWildcard(String segment, String name) {
+        int s = 0;
+        int n = 0;
+        int star = -1;
+        int mark = 0;
+        while (n < name.length()) {
+            if (s < segment.length() && segment.charAt(s) == '*') {
+                star = s++;
+                mark = n;
+            } else if (s < segment.length() && (segment.charAt(s) == '?' || segment.charAt(s) == name.charAt(n))) {
+                s++;
+                n++;
+            } else if (star >= 0) {
+                // Let the last '*' consume one more character and retry.
+                s = star + 1;
+                n = ++mark;
+            } else {
+                return false;
+            }
+        }
+        while (s < segment.length() && segment.charAt(s) == '*') {
+            s++;
+        }
+        return s == segment.length();
+    }
+
+    /**
+     * {@return the state before any path element}
+     */
+    State initial() {
+        return initial;
+    }
+
+    /**
+     * {@return the state reached after the elements of the given relative path}
+     * The walk stops early when the following elements cannot change the selection.
+     */
+    State state(Path relative) {
+        State state = initial;
+        for (Path element : relative) {
+            if (state.isSettled()) {
+                break;
+            }
+            state = state.next(element.toString());
+        }
+        return state;
+    }
+
+    /**
+     * Returns the state for the first {@code count} given positions, after adding the positions reachable
+     * by skipping {@code **} segments. The given array may be modified.
+     */
+    private State state(int[] positions, int count) {
+        int[] closure = Arrays.copyOf(positions, count * 2);
+        for (int i = 0; i < count; i++) {
+            int p = positions[i];
+            String[] segments = patterns[p >>> 16];
+            int segment = p & 0xFFFF;
+            if (segment < segments.length && segments[segment].equals(ANY_ELEMENTS)) {
+                // Consecutive "**" have been merged, so the next segment is not "**".
+                closure[count + i] = p + 1;
+            } else {
+                closure[count + i] = -1;
+            }
+        }
+        int[] sorted = Arrays.stream(closure)
+                .filter((p) -> p >= 0)
+                .sorted()
+                .distinct()
+                .toArray();
+        return states.computeIfAbsent(new Positions(sorted), (key) -> new State(key.values()));
+    }
+
+    /**
+     * Sorted positions identifying a state.
+     */
+    private record Positions(int[] values) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Positions p && Arrays.equals(values, p.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(values);
+        }
+    }
+
+    /**
+     * A state of the automaton, which is the set of pattern segments reached by the path elements seen so far.
+     */
+    final class State {
+        /**
+         * The positions reached by a literal path element name.
+         */
+        private final Map<String, int[]> literals = new HashMap<>();
+
+        /**
+         * Segments with wildcards, and the positions reached when they match.
+         */
+        private final String[] wildcards;
+
+        private final int[] wildcardTargets;
+
+        /**
+         * The {@code **} segments, which are still reached after any name.
+         */
+        private final int[] anyElements;
+
+        /**
+         * The next states of the names seen so far.
+         */
+        private final Map<String, State> transitions = new ConcurrentHashMap<>();
+
+        private final boolean included;
+
+        private final boolean excluded;
+
+        private final boolean excludesAll;
+
+        private final boolean alive;
+
+        private final boolean settled;
+
+        State(int[] positions) {
+            var wildcardList = new ArrayList<String>();
+            var targetList = new ArrayList<Integer>();
+            var anyList = new ArrayList<Integer>();
+            boolean inc = false;
+            boolean exc = false;
+            boolean all = false;
+            boolean live = false;
+            for (int p : positions) {
+                int pattern = p >>> 16;
+                String[] segments = patterns[pattern];
+                int segment = p & 0xFFFF;
+                boolean include = pattern < includeCount;
+                live |= include;
+                if (segment == segments.length) {
+                    if (include) {
+                        inc = true;
+                    } else {
+                        exc = true;
+                    }
+                    continue;
+                }
+                String text = segments[segment];
+                if (text.equals(ANY_ELEMENTS)) {
+                    anyList.add(p);
+                    all |= !include && segment == segments.length - 1;
+                } else if (isWildcard(text)) {
+                    wildcardList.add(text);
+                    targetList.add(p + 1);
+                } else {
+                    literals.merge(text, new int[] {p + 1}, (a, b) -> {
+                        int[] merged = Arrays.copyOf(a, a.length + 1);
+                        merged[a.length] = b[0];
+                        return merged;
+                    });
+                }
+            }
+            wildcards = wildcardList.toArray(String[]::new);
+            wildcardTargets = targetList.stream().mapToInt(Integer::intValue).toArray();
+            anyElements = anyList.stream().mapToInt(Integer::intValue).toArray();
+            included = inc;
+            excluded = exc;
+            excludesAll = all;
+            alive = includeCount == 0 || live;
+            settled = !live && (includeCount != 0 || positions.length == 0);
+        }
+
+        /**
+         * {@return the state reached after a path element of the given name}
+         */
+        State next(String name) {
+            State next = transitions.get(name);
+            if (next == null) {
+                int[] literal = literals.getOrDefault(name, NO_POSITION);
+                int[] positions = new int[literal.length + wildcards.length + anyElements.length];
+                System.arraycopy(literal, 0, positions, 0, literal.length);
+                int count = literal.length;
+                for (int i = 0; i < wildcards.length; i++) {
+                    if (matchesWildcard(wildcards[i], name)) {
+                        positions[count++] = wildcardTargets[i];
+                    }
+                }
+                System.arraycopy(anyElements, 0, positions, count, anyElements.length);
+                next = state(positions, count + anyElements.length);
+                if (transitions.size() < MAX_TRANSITIONS) {
+                    transitions.put(name, next);
+                }
+            }
+            return next;
+        }
+
+        /**
+         * {@return whether a path ending in this state is selected}
+         * This is true if the path matches an include pattern, or if there is no include pattern,
+         * and the path does not match any exclude pattern.
+         */
+        boolean isSelected() {
+            return (includeCount == 0 || included) && !excluded;
+        }
+
+        /**
+         * {@return whether a directory ending in this state may contain selected paths}
+         */
+        boolean mayContainSelected() {
+            return alive && !excludesAll;
+        }
+
+        /**
+         * {@return whether the selection of the paths starting with the elements of this state is already known}
+         * In such case, all the following states have the same selection as this state.
+         */
+        boolean isSettled() {
+            return settled;
+        }
+    }
+}
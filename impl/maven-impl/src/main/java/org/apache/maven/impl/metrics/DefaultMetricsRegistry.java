@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.metrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.annotations.Nonnull;
+import org.apache.maven.api.di.Inject;
+import org.apache.maven.api.di.Named;
+import org.apache.maven.api.di.SessionScoped;
+import org.apache.maven.api.services.MetricsRegistry;
+
+/**
+ * The {@link MetricsRegistry} service, giving access to the {@link SessionMetrics} of the current session.
+ *
+ * @since 4.1.0
+ */
+@Named
+@SessionScoped
+public class DefaultMetricsRegistry implements MetricsRegistry {
+
+    private final SessionMetrics metrics;
+
+    @Inject
+    public DefaultMetricsRegistry(Session session) {
+        this.metrics = SessionMetrics.of(session);
+    }
+
+    @Nonnull
+    @Override
+    public Counter counter(@Nonnull String name, @Nonnull String description, @Nonnull Map<String, String> labels) {
+        return metrics.counter(name, description, labels);
+    }
+
+    @Nonnull
+    @Override
+    public Timer timer(@Nonnull String name, @Nonnull String description, @Nonnull Map<String, String> labels) {
+        return metrics.timer(name, description, labels);
+    }
+
+    @Nonnull
+    @Override
+    public Gauge gauge(
+            @Nonnull String name,
+            @Nonnull String description,
+            @Nonnull Map<String, String> labels,
+            @Nonnull LongSupplier value) {
+        return metrics.gauge(name, description, labels, value);
+    }
+
+    @Nonnull
+    @Override
+    public Collection<Metric> getMetrics() {
+        return metrics.getMetrics();
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.maven.api.services.MetricsRegistry.Counter;
+import org.apache.maven.api.services.MetricsRegistry.Gauge;
+import org.apache.maven.api.services.MetricsRegistry.Metric;
+import org.apache.maven.api.services.MetricsRegistry.Timer;
+
+/**
+ * Writes metrics in the <a href="https://openmetrics.io/">OpenMetrics</a> text format and as JSON.
+ * <p>
+ * In the OpenMetrics output, counters get the {@code _total} suffix, timers are written as histograms in seconds
+ * with the {@code _seconds} suffix, and their maximum as a separate {@code _seconds_max} gauge.
+ *
+ * @since 4.1.0
+ */
+public final class MetricsExporter {
+
+    /**
+     * The name of the file holding the OpenMetrics output.
+     */
+    public static final String OPEN_METRICS_FILE = "metrics.prom";
+
+    /**
+     * The name of the file holding the JSON output.
+     */
+    public static final String JSON_FILE = "metrics.json";
+
+    private MetricsExporter() {}
+
+    /**
+     * Writes the given metrics to the {@value #OPEN_METRICS_FILE} and {@value #JSON_FILE} files of the given
+     * directory, creating it if needed.
+     *
+     * @param metrics the metrics to export
+     * @param directory the output directory
+     * @throws IOException if the files cannot be written
+     */
+    public static void export(Collection<Metric> metrics, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(OPEN_METRICS_FILE), StandardCharsets.UTF_8)) {
+            writeOpenMetrics(metrics, writer);
+        }
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(JSON_FILE), StandardCharsets.UTF_8)) {
+            writeJson(metrics, writer);
+        }
+    }
+
+    /**
+     * Writes the given metrics in the OpenMetrics text format. Metrics sharing a name, with different labels, must be
+     * adjacent, as returned by {@link SessionMetrics#getMetrics()}.
+     */
+    public static void writeOpenMetrics(Collection<Metric> metrics, Appendable out) throws IOException {
+        // group the metrics by family, as required by the format
+        Map<String, List<Metric>> families = new LinkedHashMap<>();
+        for (Metric metric : metrics) {
+            families.computeIfAbsent(metric.name(), k -> new ArrayList<>()).add(metric);
+        }
+        for (List<Metric> family : families.values()) {
+            Metric first = family.get(0);
+            if (first instanceof Counter) {
+                String name = stripSuffix(first.name(), "_total");
+                header(out, name, "counter", first.description());
+                for (Metric metric : family) {
+                    sample(out, name + "_total", labels(metric.labels(), null, null), ((Counter) metric).count());
+                }
+            } else if (first instanceof Timer) {
+                String name = stripSuffix(first.name(), "_seconds") + "_seconds";
+                header(out, name, "histogram", first.description());
+                for (Metric metric : family) {
+                    Timer timer = (Timer) metric;
+                    for (Map.Entry<Duration, Long> bucket : timer.histogram().entrySet()) {
+                        String le = seconds(bucket.getKey());
+                        sample(out, name + "_bucket", labels(metric.labels(), "le", le), bucket.getValue());
+                    }
+                    sample(out, name + "_bucket", labels(metric.labels(), "le", "+Inf"), timer.count());
+                    sample(out, name + "_count", labels(metric.labels(), null, null), timer.count());
+                    sample(out, name + "_sum", labels(metric.labels(), null, null), seconds(timer.total()));
+                }
+                header(out, name + "_max", "gauge", "Maximum of " + first.description());
+                for (Metric metric : family) {
+                    sample(out, name + "_max", labels(metric.labels(), null, null), seconds(((Timer) metric).max()));
+                }
+            } else {
+                header(out, first.name(), "gauge", first.description());
+                for (Metric metric : family) {
+                    sample(out, first.name(), labels(metric.labels(), null, null), ((Gauge) metric).value());
+                }
+            }
+        }
+        out.append("# EOF\n");
+    }
+
+    /**
+     * Writes the given metrics as a JSON document.
+     */
+    public static void writeJson(Collection<Metric> metrics, Appendable out) throws IOException {
+        out.append("{\n  \"metrics\": [");
+        Iterator<Metric> iterator = metrics.iterator();
+        while (iterator.hasNext()) {
+            Metric metric = iterator.next();
+            out.append("\n    {\"name\": ");
+            string(out, metric.name());
+            out.append(", \"type\": ");
+            string(out, SessionMetrics.kind(metric));
+            out.append(", \"description\": ");
+            string(out, metric.description());
+            out.append(", \"labels\": {");
+            appendEntries(out, metric.labels());
+            out.append('}');
+            if (metric instanceof Counter counter) {
+                out.append(", \"value\": ").append(Long.toString(counter.count()));
+            } else if (metric instanceof Gauge gauge) {
+                out.append(", \"value\": ").append(Long.toString(gauge.value()));
+            } else if (metric instanceof Timer timer) {
+                out.append(", \"count\": ").append(Long.toString(timer.count()));
+                out.append(", \"totalSeconds\": ").append(seconds(timer.total()));
+                out.append(", \"maxSeconds\": ").append(seconds(timer.max()));
+                out.append(", \"buckets\": {");
+                Map<String, String> buckets = new LinkedHashMap<>();
+                timer.histogram().forEach((bound, count) -> buckets.put(seconds(bound), Long.toString(count)));
+                Iterator<Map.Entry<String, String>> entries = buckets.entrySet().iterator();
+                while (entries.hasNext()) {
+                    Map.Entry<String, String> entry = entries.next();
+                    string(out, entry.getKey());
+                    out.append(": ").append(entry.getValue());
+                    if (entries.hasNext()) {
+                        out.append(", ");
+                    }
+                }
+                out.append('}');
+            }
+            out.append('}');
+            if (iterator.hasNext()) {
+                out.append(',');
+            }
+        }
+        out.append("\n  ]\n}\n");
+    }
+
+    /**
+     * Returns the given metrics in the OpenMetrics text format.
+     */
+    public static String toOpenMetrics(Collection<Metric> metrics) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeOpenMetrics(metrics, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the given metrics as a JSON document.
+     */
+    public static String toJson(Collection<Metric> metrics) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            writeJson(metrics, sb);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    private static void header(Appendable out, String name, String type, String description) throws IOException {
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        if (!description.isEmpty()) {
+            out.append("# HELP ").append(name).append(' ');
+            escape(out, description, false);
+            out.append('\n');
+        }
+    }
+
+    private static void sample(Appendable out, String name, String labels, Object value) throws IOException {
+        out.append(name).append(labels).append(' ').append(String.valueOf(value)).append('\n');
+    }
+
+    private static String labels(Map<String, String> labels, String extraName, String extraValue) throws IOException {
+        if (labels.isEmpty() && extraName == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder("{");
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            sb.append(label.getKey()).append("=\"");
+            escape(sb, label.getValue(), true);
+            sb.append('"');
+        }
+        if (extraName != null) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            sb.append(extraName).append("=\"").append(extraValue).append('"');
+        }
+        return sb.append('}').toString();
+    }
+
+    private static void escape(Appendable out, String value, boolean quotes) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                out.append("\\\\");
+            } else if (c == '\n') {
+                out.append("\\n");
+            } else if (c == '"' && quotes) {
+                out.append("\\\"");
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    private static void appendEntries(Appendable out, Map<String, String> entries) throws IOException {
+        Iterator<Map.Entry<String, String>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, String> entry = iterator.next();
+            string(out, entry.getKey());
+            out.append(": ");
+            string(out, entry.getValue());
+            if (iterator.hasNext()) {
+                out.append(", ");
+            }
+        }
+    }
+
+    private static void string(Appendable out, String value) throws IOException {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    private static String seconds(Duration duration) {
+        return Double.toString(duration.toNanos() / 1e9);
+    }
+
+    private static String stripSuffix(String name, String suffix) {
+        return name.endsWith(suffix) ? name.substring(0, name.length() - suffix.length()) : name;
+    }
+}
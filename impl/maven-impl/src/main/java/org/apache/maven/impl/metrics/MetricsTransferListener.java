@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.TransferEvent;
+
+/**
+ * Records the artifact and metadata transfers of the resolver in the {@link SessionMetrics} of their session.
+ *
+ * @since 4.1.0
+ */
+public class MetricsTransferListener extends AbstractTransferListener {
+
+    @Override
+    public void transferSucceeded(TransferEvent event) {
+        SessionMetrics metrics = SessionMetrics.of(event.getSession());
+        count(metrics, event, "ok");
+        Map<String, String> labels = Map.of("type", type(event));
+        metrics.counter("maven_transfer_bytes", "Bytes transferred", labels).add(event.getTransferredBytes());
+        long start = event.getResource().getStartTime();
+        if (start > 0) {
+            metrics.timer("maven_transfer_duration", "Duration of successful transfers", labels)
+                    .record(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - start));
+        }
+    }
+
+    @Override
+    public void transferFailed(TransferEvent event) {
+        count(SessionMetrics.of(event.getSession()), event, "failed");
+    }
+
+    @Override
+    public void transferCorrupted(TransferEvent event) {
+        SessionMetrics.of(event.getSession())
+                .counter("maven_transfers_corrupted", "Transfers failing the checksum validation")
+                .increment();
+    }
+
+    private static void count(SessionMetrics metrics, TransferEvent event, String result) {
+        metrics.counter(
+                        "maven_transfers", "Transfers by type and result", Map.of("type", type(event), "result", result))
+                .increment();
+    }
+
+    private static String type(TransferEvent event) {
+        return event.getRequestType().name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
+import org.apache.maven.api.annotations.Nonnull;
+import org.apache.maven.api.services.MetricsRegistry;
+import org.eclipse.aether.RepositorySystemSession;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The metrics of a session.
+ * <p>
+ * The registry is kept in the session data, which is shared by the sessions derived from a session and is reachable
+ * from the resolver, so that metrics can be recorded without going through dependency injection. Counters and
+ * timers are backed by {@link LongAdder}s, which are striped across threads, so that recording a value is cheap
+ * even when many threads of a parallel build record the same metric.
+ *
+ * @since 4.1.0
+ */
+public final class SessionMetrics implements MetricsRegistry {
+
+    private static final SessionData.Key<SessionMetrics> KEY = SessionData.key(SessionMetrics.class);
+
+    /**
+     * Upper bounds of the timer histogram buckets, in milliseconds.
+     */
+    static final long[] BUCKETS = {1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000, 60000};
+
+    private final Map<Id, Metric> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the metrics of the given session, creating them if needed.
+     */
+    public static SessionMetrics of(Session session) {
+        return session.getData().computeIfAbsent(KEY, SessionMetrics::new);
+    }
+
+    /**
+     * Returns the metrics of the given repository session, creating them if needed. These are the same metrics as
+     * the ones of the Maven session wrapping this repository session.
+     */
+    public static SessionMetrics of(RepositorySystemSession session) {
+        return (SessionMetrics) session.getData().computeIfAbsent(KEY, SessionMetrics::new);
+    }
+
+    @Nonnull
+    @Override
+    public Counter counter(@Nonnull String name, @Nonnull String description, @Nonnull Map<String, String> labels) {
+        return get(new Id(name, labels), Counter.class, id -> new DefaultCounter(id, description));
+    }
+
+    @Nonnull
+    @Override
+    public Timer timer(@Nonnull String name, @Nonnull String description, @Nonnull Map<String, String> labels) {
+        return get(new Id(name, labels), Timer.class, id -> new DefaultTimer(id, description));
+    }
+
+    @Nonnull
+    @Override
+    public Gauge gauge(
+            @Nonnull String name,
+            @Nonnull String description,
+            @Nonnull Map<String, String> labels,
+            @Nonnull LongSupplier value) {
+        requireNonNull(value, "value");
+        return get(new Id(name, labels), Gauge.class, id -> new DefaultGauge(id, description, value));
+    }
+
+    @Nonnull
+    @Override
+    public Collection<Metric> getMetrics() {
+        List<Metric> list = new ArrayList<>(metrics.values());
+        list.sort(Comparator.comparing(Metric::name).thenComparing(m -> m.labels().toString()));
+        return Collections.unmodifiableList(list);
+    }
+
+    private <T extends Metric> T get(Id id, Class<T> type, Function<Id, T> factory) {
+        Metric metric = metrics.get(id);
+        if (metric == null) {
+            // metrics with the same name must have the same type, whatever their labels
+            for (Metric other : metrics.values()) {
+                if (other.name().equals(id.name()) && !type.isInstance(other)) {
+                    throw new IllegalArgumentException(
+                            "Metric " + id.name() + " is already registered as a " + kind(other));
+                }
+            }
+            metric = metrics.computeIfAbsent(id, factory::apply);
+        }
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("Metric " + id.name() + " is already registered as a " + kind(metric));
+        }
+        return type.cast(metric);
+    }
+
+    static String kind(Metric metric) {
+        if (metric instanceof Counter) {
+            return "counter";
+        } else if (metric instanceof Timer) {
+            return "timer";
+        } else {
+            return "gauge";
+        }
+    }
+
+    record Id(String name, Map<String, String> labels) {
+        Id {
+            requireNonNull(name, "name");
+            if (!name.matches("[a-zA-Z_][a-zA-Z0-9_]*")) {
+                throw new IllegalArgumentException("Invalid metric name: " + name);
+            }
+            labels = Collections.unmodifiableSortedMap(new TreeMap<>(requireNonNull(labels, "labels")));
+        }
+    }
+
+    private abstract static class AbstractMetric implements Metric {
+        private final Id id;
+        private final String description;
+
+        AbstractMetric(Id id, String description) {
+            this.id = id;
+            this.description = Objects.requireNonNullElse(description, "");
+        }
+
+        @Nonnull
+        @Override
+        public String name() {
+            return id.name();
+        }
+
+        @Nonnull
+        @Override
+        public String description() {
+            return description;
+        }
+
+        @Nonnull
+        @Override
+        public Map<String, String> labels() {
+            return id.labels();
+        }
+
+        @Override
+        public String toString() {
+            return id.name() + (id.labels().isEmpty() ? "" : id.labels().toString());
+        }
+    }
+
+    static final class DefaultCounter extends AbstractMetric implements Counter {
+        private final LongAdder count = new LongAdder();
+
+        DefaultCounter(Id id, String description) {
+            super(id, description);
+        }
+
+        @Override
+        public void add(long amount) {
+            if (amount < 0) {
+                throw new IllegalArgumentException("Counters can only be increased: " + amount);
+            }
+            count.add(amount);
+        }
+
+        @Override
+        public long count() {
+            return count.sum();
+        }
+    }
+
+    static final class DefaultGauge extends AbstractMetric implements Gauge {
+        private final LongSupplier value;
+
+        DefaultGauge(Id id, String description, LongSupplier value) {
+            super(id, description);
+            this.value = value;
+        }
+
+        @Override
+        public long value() {
+            return value.getAsLong();
+        }
+    }
+
+    static final class DefaultTimer extends AbstractMetric implements Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] buckets = new LongAdder[BUCKETS.length];
+
+        DefaultTimer(Id id, String description) {
+            super(id, description);
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        @Override
+        public void record(long nanos) {
+            long duration = Math.max(0, nanos);
+            count.increment();
+            total.add(duration);
+            max.accumulate(duration);
+            for (int i = 0; i < BUCKETS.length; i++) {
+                if (duration <= TimeUnit.MILLISECONDS.toNanos(BUCKETS[i])) {
+                    buckets[i].increment();
+                    break;
+                }
+            }
+        }
+
+        @Override
+        public long count() {
+            return count.sum();
+        }
+
+        @Nonnull
+        @Override
+        public Duration total() {
+            return Duration.ofNanos(total.sum());
+        }
+
+        @Nonnull
+        @Override
+        public Duration max() {
+            return Duration.ofNanos(max.get());
+        }
+
+        @Nonnull
+        @Override
+        public SortedMap<Duration, Long> histogram() {
+            SortedMap<Duration, Long> histogram = new TreeMap<>();
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS.length; i++) {
+                cumulative += buckets[i].sum();
+                histogram.put(Duration.ofMillis(BUCKETS[i]), cumulative);
+            }
+            return Collections.unmodifiableSortedMap(histogram);
+        }
+    }
+}
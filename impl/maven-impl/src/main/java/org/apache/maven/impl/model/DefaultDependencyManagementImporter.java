@@ -18,7 +18,9 @@
  */
 package org.apache.maven.impl.model;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -26,7 +28,10 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.maven.api.Session;
+import org.apache.maven.api.SessionData;
 import org.apache.maven.api.di.Named;
 import org.apache.maven.api.di.Singleton;
 import org.apache.maven.api.model.Dependency;
@@ -43,12 +48,24 @@
 
 /**
  * Handles the import of dependency management from other models into the target model.
- *
+ * <p>
+ * The imported dependency management sections are first merged together, the first import of a management key
+ * winning over the following ones. The result of this merge does not depend on the importing model, and modules
+ * usually import the same BOMs, so it is computed once per session for a given list of imported sections and kept
+ * as an immutable index by management key, together with the conflicts found between the imports. Each importing
+ * model then only adds the entries of the index it does not declare itself.
  */
 @Named
 @Singleton
 public class DefaultDependencyManagementImporter implements DependencyManagementImporter {
 
+    /**
+     * Maximum number of merged imports kept per session.
+     */
+    private static final int MAX_CACHED_IMPORTS = 1024;
+
+    static final SessionData.Key<ImportCache> KEY = SessionData.key(ImportCache.class);
+
     @Override
     public Model importManagement(
             Model target,
@@ -56,45 +73,127 @@ public Model importManagement(
             ModelBuilderRequest request,
             ModelProblemCollector problems) {
         if (sources != null && !sources.isEmpty()) {
-            Map<String, Dependency> dependencies = new LinkedHashMap<>();
+            MergedImports imports = merge(sources, request);
 
             DependencyManagement depMgmt = target.getDependencyManagement();
-
-            if (depMgmt != null) {
-                for (Dependency dependency : depMgmt.getDependencies()) {
-                    dependencies.put(dependency.getManagementKey(), dependency);
-                }
-            } else {
+            if (depMgmt == null) {
                 depMgmt = DependencyManagement.newInstance();
             }
 
+            Map<String, Dependency> dependencies = new LinkedHashMap<>();
+            for (Dependency dependency : depMgmt.getDependencies()) {
+                dependencies.put(dependency.getManagementKey(), dependency);
+            }
+
             Set<String> directDependencies = new HashSet<>(dependencies.keySet());
 
-            for (DependencyManagement source : sources) {
-                for (Dependency dependency : source.getDependencies()) {
-                    String key = dependency.getManagementKey();
-                    Dependency present = dependencies.putIfAbsent(key, dependency);
-                    if (present != null && !equals(dependency, present) && !directDependencies.contains(key)) {
-                        // TODO: https://issues.apache.org/jira/browse/MNG-8004
-                        problems.add(
-                                Severity.WARNING,
-                                Version.V40,
-                                "Ignored POM import for: " + toString(dependency) + " as already imported "
-                                        + toString(present) + ". Add the conflicting managed dependency directly "
-                                        + "to the dependencyManagement section of the POM.");
-                    }
-                    if (present == null && request.isLocationTracking()) {
-                        Dependency updatedDependency = updateWithImportedFrom(dependency, source);
-                        dependencies.put(key, updatedDependency);
-                    }
+            for (Conflict conflict : imports.conflicts()) {
+                if (!directDependencies.contains(conflict.key())) {
+                    // TODO: https://issues.apache.org/jira/browse/MNG-8004
+                    problems.add(Severity.WARNING, Version.V40, conflict.message());
                 }
             }
 
+            if (dependencies.isEmpty()) {
+                return target.withDependencyManagement(depMgmt.withDependencies(imports.dependencies()));
+            }
+            imports.index().forEach(dependencies::putIfAbsent);
             return target.withDependencyManagement(depMgmt.withDependencies(dependencies.values()));
         }
         return target;
     }
 
+    /**
+     * Returns the merge of the given imported sections, reusing the merge computed for the same sections
+     * earlier in the session if any.
+     */
+    private MergedImports merge(List<? extends DependencyManagement> sources, ModelBuilderRequest request) {
+        Session session = request.getSession();
+        if (session == null) {
+            return doMerge(sources, request.isLocationTracking());
+        }
+        Map<Sources, MergedImports> cache = session.getData().computeIfAbsent(KEY, ImportCache::new);
+        Sources key = new Sources(sources.toArray(DependencyManagement[]::new), request.isLocationTracking());
+        MergedImports imports = cache.get(key);
+        if (imports == null) {
+            imports = doMerge(sources, request.isLocationTracking());
+            if (cache.size() < MAX_CACHED_IMPORTS) {
+                cache.putIfAbsent(key, imports);
+            }
+        }
+        return imports;
+    }
+
+    private MergedImports doMerge(List<? extends DependencyManagement> sources, boolean locationTracking) {
+        Map<String, Dependency> index = new LinkedHashMap<>();
+        List<Conflict> conflicts = new ArrayList<>();
+        for (DependencyManagement source : sources) {
+            for (Dependency dependency : source.getDependencies()) {
+                String key = dependency.getManagementKey();
+                Dependency present = index.putIfAbsent(key, dependency);
+                if (present != null && !equals(dependency, present)) {
+                    conflicts.add(new Conflict(
+                            key,
+                            "Ignored POM import for: " + toString(dependency) + " as already imported "
+                                    + toString(present) + ". Add the conflicting managed dependency directly "
+                                    + "to the dependencyManagement section of the POM."));
+                }
+                if (present == null && locationTracking) {
+                    index.put(key, updateWithImportedFrom(dependency, source));
+                }
+            }
+        }
+        return new MergedImports(
+                Collections.unmodifiableMap(index), List.copyOf(index.values()), List.copyOf(conflicts));
+    }
+
+    /**
+     * The imported sections, compared by identity as the models of the imported BOMs are cached for the session,
+     * as well as the sections filtered by the exclusions of an import and the empty sections.
+     */
+    private record Sources(DependencyManagement[] sources, boolean locationTracking) {
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Sources other)
+                    || locationTracking != other.locationTracking
+                    || sources.length != other.sources.length) {
+                return false;
+            }
+            for (int i = 0; i < sources.length; i++) {
+                if (sources[i] != other.sources[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Boolean.hashCode(locationTracking);
+            for (DependencyManagement source : sources) {
+                hash = 31 * hash + System.identityHashCode(source);
+            }
+            return hash;
+        }
+    }
+
+    /**
+     * A managed dependency of an import ignored because of a different one with the same key in a previous import.
+     */
+    private record Conflict(String key, String message) {}
+
+    /**
+     * The merged imported sections.
+     *
+     * @param index the managed dependencies by management key, in import order
+     * @param dependencies the values of the index
+     * @param conflicts the managed dependencies ignored because of a previous import
+     */
+    private record MergedImports(
+            Map<String, Dependency> index, List<Dependency> dependencies, List<Conflict> conflicts) {}
+
+    static final class ImportCache extends ConcurrentHashMap<Sources, MergedImports> {}
+
     private String toString(Dependency dependency) {
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder
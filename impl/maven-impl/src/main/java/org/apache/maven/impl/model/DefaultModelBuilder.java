@@ -33,6 +33,7 @@
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -62,6 +63,8 @@
 import org.apache.maven.api.di.Singleton;
 import org.apache.maven.api.feature.Features;
 import org.apache.maven.api.model.Activation;
+import org.apache.maven.api.model.Build;
+import org.apache.maven.api.model.BuildBase;
 import org.apache.maven.api.model.Dependency;
 import org.apache.maven.api.model.DependencyManagement;
 import org.apache.maven.api.model.DeploymentRepository;
@@ -71,7 +74,9 @@
 import org.apache.maven.api.model.Mixin;
 import org.apache.maven.api.model.Model;
 import org.apache.maven.api.model.Parent;
+import org.apache.maven.api.model.PluginManagement;
 import org.apache.maven.api.model.Profile;
+import org.apache.maven.api.model.Reporting;
 import org.apache.maven.api.model.Repository;
 import org.apache.maven.api.services.BuilderProblem;
 import org.apache.maven.api.services.BuilderProblem.Severity;
@@ -119,7 +124,9 @@
 import org.apache.maven.impl.InternalSession;
 import org.apache.maven.impl.RequestTraceHelper;
 import org.apache.maven.impl.cache.Cache;
+import org.apache.maven.impl.metrics.SessionMetrics;
 import org.apache.maven.impl.util.PhasingExecutor;
+import org.apache.maven.impl.util.VirtualThreads;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -138,6 +145,10 @@ public class DefaultModelBuilder implements ModelBuilder {
     private static final String FILE = "file";
     private static final String IMPORT = "import";
     private static final String PARENT = "parent";
+    private static final String RAW_DESCRIPTOR = "raw-descriptor";
+    private static final String PARENT_DESCRIPTOR = "parent-descriptor";
+    private static final PluginManagement EMPTY_PLUGIN_MANAGEMENT = PluginManagement.newInstance(false);
+    private static final DependencyManagement EMPTY_DEPENDENCY_MANAGEMENT = DependencyManagement.newInstance(false);
     private static final String MODEL = "model";
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
@@ -226,6 +237,7 @@ protected class ModelBuilderSessionImpl implements ModelBuilderSession {
         @Override
         public ModelBuilderResult build(ModelBuilderRequest request) throws ModelBuilderException {
             RequestTraceHelper.ResolverTrace trace = RequestTraceHelper.enter(request.getSession(), request);
+            long start = System.nanoTime();
             try {
                 // Create or derive a session based on the request
                 ModelBuilderSessionState session;
@@ -257,6 +269,12 @@ public ModelBuilderResult build(ModelBuilderRequest request) throws ModelBuilder
                         logger.debug("Failed to clear REQUEST_SCOPED cache for request: {}", request, e);
                     }
                 }
+                SessionMetrics.of(request.getSession())
+                        .timer(
+                                "maven_model_build",
+                                "Duration of model building requests",
+                                Map.of("type", request.getRequestType().name().toLowerCase(Locale.ROOT)))
+                        .record(System.nanoTime() - start);
                 RequestTraceHelper.exit(trace);
             }
         }
@@ -268,6 +286,7 @@ protected class ModelBuilderSessionState implements ModelProblemCollector {
         final DefaultModelBuilderResult result;
         final Graph dag;
         final Map<GAKey, Set<ModelSource>> mappedSources;
+        final ProfileActivationCache activationCache;
 
         String source;
         Model sourceModel;
@@ -296,6 +315,7 @@ List<RemoteRepository> getExternalRepositories() {
                     new DefaultModelBuilderResult(request, ProblemCollector.create(request.getSession())),
                     new Graph(),
                     new ConcurrentHashMap<>(64),
+                    new ProfileActivationCache(),
                     List.of(),
                     repos(request),
                     repos(request),
@@ -316,6 +336,7 @@ private ModelBuilderSessionState(
                 DefaultModelBuilderResult result,
                 Graph dag,
                 Map<GAKey, Set<ModelSource>> mappedSources,
+                ProfileActivationCache activationCache,
                 List<RemoteRepository> pomRepositories,
                 List<RemoteRepository> externalRepositories,
                 List<RemoteRepository> repositories,
@@ -325,6 +346,7 @@ private ModelBuilderSessionState(
             this.result = result;
             this.dag = dag;
             this.mappedSources = mappedSources;
+            this.activationCache = activationCache;
             this.pomRepositories = pomRepositories;
             this.externalRepositories = externalRepositories;
             this.repositories = repositories;
@@ -376,6 +398,7 @@ ModelBuilderSessionState derive(ModelBuilderRequest request, DefaultModelBuilder
                     result,
                     dag,
                     mappedSources,
+                    activationCache,
                     pomRepositories,
                     derivedExtRepos,
                     derivedRepos,
@@ -391,6 +414,10 @@ public String toString() {
         }
 
         PhasingExecutor createExecutor() {
+            if (VirtualThreads.isEnabled(request.getUserProperties(), request.getSystemProperties())) {
+                // loading parents and imports is mostly I/O, the carrier pool bounds the CPU-bound parts
+                return new PhasingExecutor(VirtualThreads.newExecutor("ModelBuilder-"));
+            }
             return new PhasingExecutor(Executors.newFixedThreadPool(getParallelism()));
         }
 
@@ -779,7 +806,8 @@ private Map<String, String> getPropertiesWithProfiles(Model model, Map<String, S
 
             try {
                 // Create a profile activation context for this model with base properties available
-                DefaultProfileActivationContext profileContext = getProfileActivationContext(request, model);
+                DefaultProfileActivationContext profileContext =
+                        getProfileActivationContext(request, model, activationCache);
 
                 // Activate profiles and merge their properties
                 List<Profile> activeProfiles = getActiveProfiles(model.getProfiles(), profileContext);
@@ -883,6 +911,10 @@ private void buildBuildPom() throws ModelBuilderException {
             } else if (hasErrors()) {
                 throw newModelBuilderException();
             }
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("Profile activation: {}", activationCache);
+            }
         }
 
         /**
@@ -1015,7 +1047,7 @@ void buildEffectiveModel(Collection<String> importIds) throws ModelBuilderExcept
             resultModel = pluginManagementInjector.injectManagement(resultModel, request, this);
 
             // lifecycle bindings injection
-            if (request.getRequestType() != ModelBuilderRequest.RequestType.CONSUMER_DEPENDENCY) {
+            if (!isDependencyRequest()) {
                 org.apache.maven.api.services.ModelTransformer lifecycleBindingsInjector =
                         request.getLifecycleBindingsInjector();
                 if (lifecycleBindingsInjector != null) {
@@ -1031,7 +1063,7 @@ void buildEffectiveModel(Collection<String> importIds) throws ModelBuilderExcept
 
             resultModel = modelNormalizer.injectDefaultValues(resultModel, request, this);
 
-            if (request.getRequestType() != ModelBuilderRequest.RequestType.CONSUMER_DEPENDENCY) {
+            if (!isDependencyRequest()) {
                 // plugins configuration
                 resultModel = pluginConfigurationExpander.expandPluginConfiguration(resultModel, request, this);
             }
@@ -1113,6 +1145,9 @@ Model readParent(
                     superModelVersion = MODEL_VERSION_4_0_0;
                 }
                 parentModel = getSuperModel(superModelVersion);
+                if (isDescriptorRequest()) {
+                    parentModel = toDescriptorModel(parentModel);
+                }
             }
 
             return parentModel;
@@ -1365,7 +1400,10 @@ Model resolveAndReadParentExternally(
             }
 
             ModelBuilderRequest lenientRequest = ModelBuilderRequest.builder(request)
-                    .requestType(ModelBuilderRequest.RequestType.CONSUMER_PARENT)
+                    .requestType(
+                            isDescriptorRequest()
+                                    ? ModelBuilderRequest.RequestType.CONSUMER_DESCRIPTOR
+                                    : ModelBuilderRequest.RequestType.CONSUMER_PARENT)
                     .source(modelSource)
                     .build();
 
@@ -1404,7 +1442,8 @@ Model activateFileModel(Model inputModel) throws ModelBuilderException {
             setRootModel(inputModel);
 
             // profile activation
-            DefaultProfileActivationContext profileActivationContext = getProfileActivationContext(request, inputModel);
+            DefaultProfileActivationContext profileActivationContext =
+                    getProfileActivationContext(request, inputModel, activationCache);
 
             setSource("(external profiles)");
             List<Profile> activeExternalProfiles = getActiveProfiles(request.getProfiles(), profileActivationContext);
@@ -1451,7 +1490,7 @@ private Model readEffectiveModel() throws ModelBuilderException {
 
             // profile activation
             DefaultProfileActivationContext profileActivationContext =
-                    getProfileActivationContext(request, activatedFileModel);
+                    getProfileActivationContext(request, activatedFileModel, activationCache);
 
             List<Profile> activeExternalProfiles = result.getActiveExternalProfiles();
 
@@ -1917,7 +1956,9 @@ Map<String, String> merge(Map<String, String> properties, Map<String, String> us
         Model readRawModel() throws ModelBuilderException {
             // ensure file model is available
             readFileModel();
-            Model model = cache(request.getSource(), RAW, this::doReadRawModel);
+            Model model = isDescriptorRequest()
+                    ? cache(request.getSource(), RAW_DESCRIPTOR, () -> toDescriptorModel(doReadRawModel()))
+                    : cache(request.getSource(), RAW, this::doReadRawModel);
             // set the raw model in the result outside the cache
             result.setRawModel(model);
             return model;
@@ -1958,7 +1999,10 @@ private record ParentModelWithProfiles(Model model, List<Profile> activatedProfi
         Model readAsParentModel(DefaultProfileActivationContext profileActivationContext, Set<String> parentChain)
                 throws ModelBuilderException {
             Map<DefaultProfileActivationContext.Record, ParentModelWithProfiles> parentsPerContext =
-                    cache(request.getSource(), PARENT, ConcurrentHashMap::new);
+                    cache(
+                            request.getSource(),
+                            isDescriptorRequest() ? PARENT_DESCRIPTOR : PARENT,
+                            ConcurrentHashMap::new);
 
             for (Map.Entry<DefaultProfileActivationContext.Record, ParentModelWithProfiles> e :
                     parentsPerContext.entrySet()) {
@@ -1969,7 +2013,7 @@ Model readAsParentModel(DefaultProfileActivationContext profileActivationContext
                     // conditions and recorded some keys in ctx, but we also need to ensure all
                     // the keys from the cached record are recorded in the current context.
                     if (profileActivationContext.record != null) {
-                        replayRecordIntoContext(e.getKey(), profileActivationContext);
+                        profileActivationContext.replay(e.getKey());
                     }
                     // Add the activated profiles from cache to the result
                     // Use ModelProblemUtils.toId() to get groupId:artifactId:version format (without packaging)
@@ -1986,7 +2030,7 @@ Model readAsParentModel(DefaultProfileActivationContext profileActivationContext
             DefaultProfileActivationContext ctx = profileActivationContext.start();
             ParentModelWithProfiles modelWithProfiles = doReadAsParentModel(ctx, parentChain);
             DefaultProfileActivationContext.Record record = ctx.stop();
-            replayRecordIntoContext(record, profileActivationContext);
+            profileActivationContext.replay(record);
 
             parentsPerContext.put(record, modelWithProfiles);
             // Use ModelProblemUtils.toId() to get groupId:artifactId:version format (without packaging)
@@ -2147,18 +2191,25 @@ private DependencyManagement loadDependencyManagement(Dependency dependency, Col
                     () -> doLoadDependencyManagement(dependency, groupId, artifactId, version, importIds));
             DependencyManagement importMgmt = importModel != null ? importModel.getDependencyManagement() : null;
             if (importMgmt == null) {
-                importMgmt = DependencyManagement.newInstance();
+                importMgmt = EMPTY_DEPENDENCY_MANAGEMENT;
             }
 
             // [MNG-5600] Dependency management import should support exclusions.
             List<Exclusion> exclusions = dependency.getExclusions();
-            if (importMgmt != null && !exclusions.isEmpty()) {
-                // Dependency excluded from import.
-                List<Dependency> dependencies = importMgmt.getDependencies().stream()
-                        .filter(candidate -> exclusions.stream().noneMatch(exclusion -> match(exclusion, candidate)))
-                        .map(candidate -> addExclusions(candidate, exclusions))
-                        .collect(Collectors.toList());
-                importMgmt = importMgmt.withDependencies(dependencies);
+            if (!exclusions.isEmpty()) {
+                // The filtered section is shared by all modules importing the same POM with the same exclusions,
+                // so that the importer can reuse the merge computed for the first of them.
+                DependencyManagement unfiltered = importMgmt;
+                importMgmt = cache(
+                        repositories,
+                        groupId,
+                        artifactId,
+                        version,
+                        null,
+                        IMPORT + exclusions.stream()
+                                .map(exclusion -> exclusion.getGroupId() + ':' + exclusion.getArtifactId())
+                                .collect(Collectors.joining(",", "-excluding:", "")),
+                        () -> excludeDependencies(unfiltered, exclusions));
             }
 
             return importMgmt;
@@ -2284,46 +2335,19 @@ boolean isBuildRequest() {
                     || request.getRequestType() == ModelBuilderRequest.RequestType.BUILD_CONSUMER;
         }
 
-        boolean isBuildRequestWithActivation() {
-            return request.getRequestType() != ModelBuilderRequest.RequestType.BUILD_CONSUMER;
+        boolean isDependencyRequest() {
+            return request.getRequestType() == ModelBuilderRequest.RequestType.CONSUMER_DEPENDENCY
+                    || request.getRequestType() == ModelBuilderRequest.RequestType.CONSUMER_DESCRIPTOR;
         }
 
-        /**
-         * Replays the keys from a cached record into the current recording context.
-         * This ensures that when there's a cache hit, all the keys that were originally
-         * accessed during the cached computation are recorded in the current context.
-         */
-        private void replayRecordIntoContext(
-                DefaultProfileActivationContext.Record cachedRecord, DefaultProfileActivationContext targetContext) {
-            if (targetContext.record == null) {
-                return; // Target context is not recording
-            }
-
-            // Replay all the recorded keys from the cached record into the target context's record
-            // We need to access the mutable maps in the target context's record
-            DefaultProfileActivationContext.Record targetRecord = targetContext.record;
-
-            // Replay active profiles
-            cachedRecord.usedActiveProfiles.forEach(targetRecord.usedActiveProfiles::putIfAbsent);
-
-            // Replay inactive profiles
-            cachedRecord.usedInactiveProfiles.forEach(targetRecord.usedInactiveProfiles::putIfAbsent);
-
-            // Replay system properties
-            cachedRecord.usedSystemProperties.forEach(targetRecord.usedSystemProperties::putIfAbsent);
-
-            // Replay user properties
-            cachedRecord.usedUserProperties.forEach(targetRecord.usedUserProperties::putIfAbsent);
-
-            // Replay model properties
-            cachedRecord.usedModelProperties.forEach(targetRecord.usedModelProperties::putIfAbsent);
-
-            // Replay model infos
-            cachedRecord.usedModelInfos.forEach(targetRecord.usedModelInfos::putIfAbsent);
+        boolean isDescriptorRequest() {
+            return request.getRequestType() == ModelBuilderRequest.RequestType.CONSUMER_DESCRIPTOR;
+        }
 
-            // Replay exists checks
-            cachedRecord.usedExists.forEach(targetRecord.usedExists::putIfAbsent);
+        boolean isBuildRequestWithActivation() {
+            return request.getRequestType() != ModelBuilderRequest.RequestType.BUILD_CONSUMER;
         }
+
     }
 
     @SuppressWarnings("deprecation")
@@ -2387,16 +2411,18 @@ static String getVersion(Model model) {
         return version;
     }
 
-    private DefaultProfileActivationContext getProfileActivationContext(ModelBuilderRequest request, Model model) {
+    private DefaultProfileActivationContext getProfileActivationContext(
+            ModelBuilderRequest request, Model model, ProfileActivationCache activationCache) {
         return new DefaultProfileActivationContext(
-                pathTranslator,
-                rootLocator,
-                interpolator,
-                request.getActiveProfileIds(),
-                request.getInactiveProfileIds(),
-                request.getSystemProperties(),
-                request.getUserProperties(),
-                model);
+                        pathTranslator,
+                        rootLocator,
+                        interpolator,
+                        request.getActiveProfileIds(),
+                        request.getInactiveProfileIds(),
+                        request.getSystemProperties(),
+                        request.getUserProperties(),
+                        model)
+                .setActivationCache(activationCache);
     }
 
     private List<Activation> getProfileActivations(Model model) {
@@ -2453,10 +2479,66 @@ private boolean rawChildVersionReferencesParent(String rawChildModelVersion) {
                 || rawChildModelVersion.equals("${project.parent.version}");
     }
 
+    /**
+     * Drops the plugins of a model and of its profiles, which are not used by artifact descriptors, so that they are
+     * neither inherited, injected nor interpolated. The other values of the build and reporting sections, such as
+     * the build directory or final name, are kept as they can be used in properties or system paths.
+     * The generated builders cannot reset a field to {@code null}, so empty sections are used instead.
+     */
+    static Model toDescriptorModel(Model model) {
+        Model.Builder builder = Model.newBuilder(model, true);
+        Build build = model.getBuild();
+        if (build != null) {
+            builder.build(Build.newBuilder(build, true)
+                    .plugins(List.of())
+                    .pluginManagement(build.getPluginManagement() != null ? EMPTY_PLUGIN_MANAGEMENT : null)
+                    .extensions(List.of())
+                    .build());
+        }
+        Reporting reporting = model.getReporting();
+        if (reporting != null) {
+            builder.reporting(Reporting.newBuilder(reporting, true).plugins(List.of()).build());
+        }
+        if (!model.getProfiles().isEmpty()) {
+            builder.profiles(model.getProfiles().stream()
+                    .map(DefaultModelBuilder::toDescriptorProfile)
+                    .toList());
+        }
+        return builder.build();
+    }
+
+    private static Profile toDescriptorProfile(Profile profile) {
+        BuildBase build = profile.getBuild();
+        Reporting reporting = profile.getReporting();
+        if (build == null && reporting == null) {
+            return profile;
+        }
+        Profile.Builder builder = Profile.newBuilder(profile, true);
+        if (build != null) {
+            builder.build(BuildBase.newBuilder(build, true)
+                    .plugins(List.of())
+                    .pluginManagement(build.getPluginManagement() != null ? EMPTY_PLUGIN_MANAGEMENT : null)
+                    .build());
+        }
+        if (reporting != null) {
+            builder.reporting(Reporting.newBuilder(reporting, true).plugins(List.of()).build());
+        }
+        return builder.build();
+    }
+
     private Model getSuperModel(String modelVersion) {
         return superPomProvider.getSuperPom(modelVersion);
     }
 
+    private DependencyManagement excludeDependencies(DependencyManagement importMgmt, List<Exclusion> exclusions) {
+        // Dependency excluded from import.
+        List<Dependency> dependencies = importMgmt.getDependencies().stream()
+                .filter(candidate -> exclusions.stream().noneMatch(exclusion -> match(exclusion, candidate)))
+                .map(candidate -> addExclusions(candidate, exclusions))
+                .collect(Collectors.toList());
+        return importMgmt.withDependencies(dependencies);
+    }
+
     private static org.apache.maven.api.model.Dependency addExclusions(
             org.apache.maven.api.model.Dependency candidate, List<Exclusion> exclusions) {
         return candidate.withExclusions(Stream.concat(candidate.getExclusions().stream(), exclusions.stream())
@@ -336,6 +336,20 @@ public static String getStatistics(Class<?> objectType) {
                 objectType.getSimpleName(), total, hitCount, missCount, hitRatio * 100);
     }
 
+    /**
+     * Get the number of pooled objects reused, for all object types.
+     */
+    public static long getCacheHits() {
+        return CACHE_HITS.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    /**
+     * Get the number of objects added to the pools, for all object types.
+     */
+    public static long getCacheMisses() {
+        return CACHE_MISSES.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
     /**
      * Get statistics for all pooled object types.
      */
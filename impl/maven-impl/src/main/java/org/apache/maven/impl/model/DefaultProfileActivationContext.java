@@ -169,6 +169,7 @@ private boolean matchesExists(Map<ExistRequest, Boolean> exists, DefaultProfileA
     private Map<String, String> systemProperties = Collections.emptyMap();
     private Map<String, String> userProperties = Collections.emptyMap();
     private Model model;
+    private ProfileActivationCache activationCache;
     final Record record;
 
     public DefaultProfileActivationContext(
@@ -225,15 +226,16 @@ private DefaultProfileActivationContext(
 
     DefaultProfileActivationContext start() {
         return new DefaultProfileActivationContext(
-                pathTranslator,
-                rootLocator,
-                interpolator,
-                activeProfileIds,
-                inactiveProfileIds,
-                systemProperties,
-                userProperties,
-                model,
-                new Record());
+                        pathTranslator,
+                        rootLocator,
+                        interpolator,
+                        activeProfileIds,
+                        inactiveProfileIds,
+                        systemProperties,
+                        userProperties,
+                        model,
+                        new Record())
+                .setActivationCache(activationCache);
     }
 
     Record stop() {
@@ -244,6 +246,39 @@ Record stop() {
         return new Record(record); // Return immutable copy for thread-safe caching
     }
 
+    /**
+     * Replays the keys from a cached record into this context, if it is recording.
+     * This ensures that when there's a cache hit, all the keys that were originally
+     * accessed during the cached computation are recorded in this context.
+     */
+    void replay(Record cachedRecord) {
+        if (record == null) {
+            return; // This context is not recording
+        }
+        cachedRecord.usedActiveProfiles.forEach(record.usedActiveProfiles::putIfAbsent);
+        cachedRecord.usedInactiveProfiles.forEach(record.usedInactiveProfiles::putIfAbsent);
+        cachedRecord.usedSystemProperties.forEach(record.usedSystemProperties::putIfAbsent);
+        cachedRecord.usedUserProperties.forEach(record.usedUserProperties::putIfAbsent);
+        cachedRecord.usedModelProperties.forEach(record.usedModelProperties::putIfAbsent);
+        cachedRecord.usedModelInfos.forEach(record.usedModelInfos::putIfAbsent);
+        cachedRecord.usedExists.forEach(record.usedExists::putIfAbsent);
+    }
+
+    ProfileActivationCache getActivationCache() {
+        return activationCache;
+    }
+
+    /**
+     * Sets the cache used to memoize profile activation and file existence checks across the models of a session.
+     *
+     * @param activationCache The cache, may be {@code null}.
+     * @return This context, never {@code null}.
+     */
+    DefaultProfileActivationContext setActivationCache(ProfileActivationCache activationCache) {
+        this.activationCache = activationCache;
+        return this;
+    }
+
     @Override
     public boolean isProfileActive(String profileId) {
         if (record != null) {
@@ -428,10 +463,10 @@ private boolean doExists(String path, boolean enableGlob) throws ModelBuilderExc
             glob = "";
         }
         Path fixedPath = Paths.get(fixed);
-        return doExists(fixedPath, glob);
+        return activationCache != null ? activationCache.exists(fixedPath, glob) : doExists(fixedPath, glob);
     }
 
-    private static Boolean doExists(Path fixedPath, String glob) {
+    static Boolean doExists(Path fixedPath, String glob) {
         if (fixedPath == null || !Files.exists(fixedPath)) {
             return false;
         }
@@ -33,6 +33,7 @@
 import org.apache.maven.api.services.model.ProfileActivationContext;
 import org.apache.maven.api.services.model.ProfileActivator;
 import org.apache.maven.api.services.model.ProfileSelector;
+import org.apache.maven.impl.model.profile.PropertyProfileActivator;
 
 /**
  * Calculates the active profiles among a given collection of profiles.
@@ -92,6 +93,32 @@ public List<Profile> getActiveProfiles(
     }
 
     private boolean isActive(Profile profile, ProfileActivationContext context, ModelProblemCollector problems) {
+        Activation activation = profile.getActivation();
+        if (activation != null
+                && context instanceof DefaultProfileActivationContext defaultContext
+                && defaultContext.getActivationCache() != null
+                && isMemoizable()) {
+            return defaultContext
+                    .getActivationCache()
+                    .isActive(activation, defaultContext, problems, ctx -> doIsActive(profile, ctx, problems));
+        }
+        return doIsActive(profile, context, problems);
+    }
+
+    /**
+     * Activation results can only be reused if all the activators depend solely on the profile activation and on
+     * the values recorded by the context, which is the case for the built-in activators.
+     */
+    private boolean isMemoizable() {
+        for (ProfileActivator activator : activators) {
+            if (activator.getClass().getPackage() != PropertyProfileActivator.class.getPackage()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean doIsActive(Profile profile, ProfileActivationContext context, ModelProblemCollector problems) {
         boolean isActive = false;
         for (ProfileActivator activator : activators) {
             if (activator.presentInConfig(profile, context, problems)) {
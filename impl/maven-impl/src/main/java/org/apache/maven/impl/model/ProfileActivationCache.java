@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.model;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.apache.maven.api.model.Activation;
+import org.apache.maven.api.model.ActivationFile;
+import org.apache.maven.api.model.ActivationOS;
+import org.apache.maven.api.model.ActivationProperty;
+import org.apache.maven.api.services.ModelProblemCollector;
+
+/**
+ * Memoizes profile activation for the duration of a model builder session.
+ * <p>
+ * Activations are compared by value, so that an activation inherited by many models, or repeated across profiles,
+ * is evaluated once per distinct set of inputs. The inputs are captured with a
+ * {@link DefaultProfileActivationContext.Record}, the same way parent models are cached: a previous result is reused
+ * when the profiles, properties, model infos and files it depended on still have the same values.
+ * File existence checks are shared by all the models of the session, so that each path or glob is probed once.
+ */
+final class ProfileActivationCache {
+
+    /**
+     * Maximum number of results kept per activation. Activations depending on per-model values, such as
+     * {@code ${project.basedir}}, get a new record for each model: past this limit they are simply evaluated.
+     */
+    static final int MAX_RESULTS = 32;
+
+    /**
+     * The value of an {@link Activation}, as the generated model classes use identity equality.
+     * {@code activeByDefault} is not part of it, as it is not handled by activators.
+     */
+    record ActivationKey(
+            String jdk,
+            String osName,
+            String osFamily,
+            String osArch,
+            String osVersion,
+            String propertyName,
+            String propertyValue,
+            String fileMissing,
+            String fileExists,
+            String packaging,
+            String condition) {
+
+        static ActivationKey of(Activation activation) {
+            ActivationOS os = activation.getOs();
+            ActivationProperty property = activation.getProperty();
+            ActivationFile file = activation.getFile();
+            return new ActivationKey(
+                    activation.getJdk(),
+                    os != null ? os.getName() : null,
+                    os != null ? os.getFamily() : null,
+                    os != null ? os.getArch() : null,
+                    os != null ? os.getVersion() : null,
+                    property != null ? property.getName() : null,
+                    property != null ? property.getValue() : null,
+                    file != null ? file.getMissing() : null,
+                    file != null ? file.getExists() : null,
+                    activation.getPackaging(),
+                    activation.getCondition());
+        }
+    }
+
+    record Result(DefaultProfileActivationContext.Record record, boolean active) {}
+
+    record ExistsKey(Path fixedPath, String glob) {}
+
+    private final Map<ActivationKey, List<Result>> activations = new ConcurrentHashMap<>();
+    private final Map<ExistsKey, Boolean> exists = new ConcurrentHashMap<>();
+
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder fileChecks = new LongAdder();
+    private final LongAdder fileHits = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    /**
+     * Checks whether the given activation is active in the given context, reusing a previous result if its inputs
+     * match. Results are only remembered when the evaluation did not report any problem, so that problems are
+     * reported for each model.
+     *
+     * @param activation the activation to check
+     * @param context the context of the model being built
+     * @param problems the problem collector
+     * @param evaluator evaluates the activation in a recording context derived from {@code context}
+     * @return {@code true} if the activation is active
+     */
+    boolean isActive(
+            Activation activation,
+            DefaultProfileActivationContext context,
+            ModelProblemCollector problems,
+            Predicate<DefaultProfileActivationContext> evaluator) {
+        long start = System.nanoTime();
+        try {
+            evaluations.increment();
+            List<Result> results =
+                    activations.computeIfAbsent(ActivationKey.of(activation), k -> new CopyOnWriteArrayList<>());
+            for (Result result : results) {
+                if (result.record().matches(context)) {
+                    hits.increment();
+                    context.replay(result.record());
+                    return result.active();
+                }
+            }
+
+            int reported = problems.getProblemCollector().totalProblemsReported();
+            DefaultProfileActivationContext recording = context.start();
+            boolean active = evaluator.test(recording);
+            DefaultProfileActivationContext.Record record = recording.stop();
+            context.replay(record);
+            if (reported == problems.getProblemCollector().totalProblemsReported() && results.size() < MAX_RESULTS) {
+                results.add(new Result(record, active));
+            }
+            return active;
+        } finally {
+            nanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Checks whether the given path exists, or contains a file matching the given glob.
+     */
+    boolean exists(Path fixedPath, String glob) {
+        fileChecks.increment();
+        ExistsKey key = new ExistsKey(fixedPath, glob);
+        Boolean result = exists.get(key);
+        if (result != null) {
+            fileHits.increment();
+            return result;
+        }
+        // not using computeIfAbsent, walking a directory tree should not block other keys
+        result = DefaultProfileActivationContext.doExists(fixedPath, glob);
+        Boolean previous = exists.putIfAbsent(key, result);
+        return previous != null ? previous : result;
+    }
+
+    long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public String toString() {
+        return evaluations.sum() + " activation(s) checked in " + TimeUnit.NANOSECONDS.toMillis(nanos.sum())
+                + " ms, " + hits.sum() + " memoized for " + activations.size() + " distinct activation(s), "
+                + fileChecks.sum() + " file check(s), " + fileHits.sum() + " memoized";
+    }
+}
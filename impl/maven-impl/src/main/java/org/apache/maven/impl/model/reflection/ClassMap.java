@@ -18,10 +18,16 @@
  */
 package org.apache.maven.impl.model.reflection;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A cache of introspection information for a specific class instance.
@@ -35,6 +41,16 @@ private static final class CacheMiss {}
 
     private static final Object OBJECT = new Object();
 
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final Accessor NO_ACCESSOR = new Accessor(null, null);
+
+    /**
+     * A resolved property accessor: a no-arg public method along with a handle to invoke it, if accessible
+     * through a method handle. A {@code null} method denotes a property without accessor.
+     */
+    record Accessor(Method method, MethodHandle handle) {}
+
     /**
      * Class passed into the constructor used to as
      * the basis for the Method map.
@@ -49,6 +65,12 @@ private static final class CacheMiss {}
 
     private MethodMap methodMap = new MethodMap();
 
+    /**
+     * Cache of property accessors, keyed by property name. Unlike the method cache, it is lock-free, as it is
+     * hit for each segment of each evaluated expression.
+     */
+    private final ConcurrentMap<String, Accessor> accessorCache = new ConcurrentHashMap<>();
+
     /**
      * Standard constructor
      * @param clazz The class.
@@ -106,6 +128,41 @@ public Method findMethod(String name, Object... params) throws MethodMap.Ambiguo
         return (Method) cacheEntry;
     }
 
+    /**
+     * Find the accessor of a property, i.e. the first no-arg method named after one of the given prefixes
+     * followed by the capitalized property name.
+     *
+     * @param property the property name, not empty
+     * @param prefixes the accessor prefixes, in order of preference
+     * @return the accessor, never {@code null}, with a {@code null} method if the property has no accessor
+     * @throws MethodMap.AmbiguousException in case of duplicate methods.
+     */
+    Accessor findAccessor(String property, List<String> prefixes) throws MethodMap.AmbiguousException {
+        Accessor accessor = accessorCache.get(property);
+        if (accessor == null) {
+            accessor = NO_ACCESSOR;
+            String methodBase = Character.toTitleCase(property.charAt(0)) + property.substring(1);
+            for (String prefix : prefixes) {
+                Method method = findMethod(prefix + methodBase);
+                if (method != null) {
+                    accessor = new Accessor(method, unreflect(method));
+                    break;
+                }
+            }
+            accessorCache.put(property, accessor);
+        }
+        return accessor;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(ACCESSOR_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            // use reflection, which will report the problem if any
+            return null;
+        }
+    }
+
     /**
      * Populate the Map of direct hits. These
      * are taken from all the public methods
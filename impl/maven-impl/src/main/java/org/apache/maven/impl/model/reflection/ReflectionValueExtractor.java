@@ -18,15 +18,15 @@
  */
 package org.apache.maven.impl.model.reflection;
 
-import java.lang.ref.Reference;
-import java.lang.ref.WeakReference;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.maven.api.annotations.Nonnull;
 import org.apache.maven.api.annotations.Nullable;
@@ -37,6 +37,10 @@
  * <p>
  * In addition to usual getters using {@code getXxx} or {@code isXxx} suffixes, accessors
  * using {@code asXxx} or {@code toXxx} prefixes are also supported.
+ * <p>
+ * Expressions are parsed once into a chain of segments which is cached, and property accessors are resolved
+ * once per class and invoked through method handles, so that evaluating the same expressions over and over,
+ * possibly from many threads, does not contend on any lock.
  */
 public class ReflectionValueExtractor {
     private static final Object[] OBJECT_ARGS = new Object[0];
@@ -44,11 +48,31 @@ public class ReflectionValueExtractor {
     private static final List<String> ACCESSOR_PREFIXES = List.of("get", "is", "to", "as");
 
     /**
-     * Use a WeakHashMap here, so the keys (Class objects) can be garbage collected.
-     * This approach prevents permgen space overflows due to retention of discarded
-     * classloaders.
+     * Use a ClassValue here, so that the class maps are associated with the classes themselves
+     * and can be garbage collected along with them. This approach prevents the retention of
+     * discarded classloaders without requiring any synchronization.
+     */
+    private static final ClassValue<ClassMap> CLASS_MAPS = new ClassValue<>() {
+        @Override
+        protected ClassMap computeValue(Class<?> type) {
+            return new ClassMap(type);
+        }
+    };
+
+    /**
+     * Maximum number of parsed expressions kept in each cache. Expressions usually come from a small set
+     * of mojo parameters and POM elements, so this is only a safeguard against unbounded growth.
      */
-    private static final Map<Class<?>, WeakReference<ClassMap>> CLASS_MAPS = new WeakHashMap<>();
+    private static final int MAX_CACHED_EXPRESSIONS = 4096;
+
+    /**
+     * Marker for expressions which always evaluate to {@code null}.
+     */
+    private static final Segment[] NULL_EXPRESSION = new Segment[0];
+
+    private static final ConcurrentMap<String, Segment[]> EXPRESSIONS = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<String, Segment[]> TRIMMED_EXPRESSIONS = new ConcurrentHashMap<>();
 
     static final int EOF = -1;
 
@@ -62,6 +86,15 @@ public class ReflectionValueExtractor {
 
     static final char MAPPED_END = ')';
 
+    /**
+     * A parsed segment of an expression. The {@code from} and {@code to} positions are only used for error messages.
+     *
+     * @param type one of {@link #PROPERTY_START}, {@link #INDEXED_START} or {@link #MAPPED_START}, or {@link #EOF}
+     *             if the expression cannot be parsed from there
+     * @param token the property name, index or key, or {@code null} if missing
+     */
+    record Segment(int type, String token, int from, int to) {}
+
     static class Tokenizer {
         final String expression;
 
@@ -161,15 +194,63 @@ public static Object evaluate(@Nonnull String expression, @Nullable Object root)
      */
     public static Object evaluate(@Nonnull String expression, @Nullable Object root, boolean trimRootToken)
             throws IntrospectionException {
-        Object value = root;
+        Segment[] segments = getSegments(expression, trimRootToken);
+        if (segments == NULL_EXPRESSION) {
+            return null;
+        }
 
         // ----------------------------------------------------------------------
         // Walk the dots and retrieve the ultimate value desired from the
         // MavenProject instance.
         // ----------------------------------------------------------------------
 
-        if (expression == null || expression.isEmpty() || !Character.isJavaIdentifierStart(expression.charAt(0))) {
-            return null;
+        Object value = root;
+        for (int i = 0; value != null && i < segments.length; i++) {
+            Segment segment = segments[i];
+            switch (segment.type()) {
+                case INDEXED_START:
+                    value = getIndexedValue(expression, segment.from(), segment.to(), value, segment.token());
+                    break;
+                case MAPPED_START:
+                    value = getMappedValue(expression, segment.from(), segment.to(), value, segment.token());
+                    break;
+                case PROPERTY_START:
+                    value = getPropertyValue(value, segment.token());
+                    break;
+                default:
+                    // could not parse expression
+                    return null;
+            }
+        }
+
+        if (value instanceof Optional<?> optional) {
+            value = optional.orElse(null);
+        }
+        return value;
+    }
+
+    private static Segment[] getSegments(String expression, boolean trimRootToken) {
+        if (expression == null) {
+            return NULL_EXPRESSION;
+        }
+        ConcurrentMap<String, Segment[]> cache = trimRootToken ? TRIMMED_EXPRESSIONS : EXPRESSIONS;
+        Segment[] segments = cache.get(expression);
+        if (segments == null) {
+            segments = parse(expression, trimRootToken);
+            if (cache.size() < MAX_CACHED_EXPRESSIONS) {
+                cache.put(expression, segments);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Parses the expression into segments, or {@link #NULL_EXPRESSION} if it always evaluates to {@code null}.
+     * The evaluation stops at the first {@code null} value, so segments following a missing token are irrelevant.
+     */
+    static Segment[] parse(String expression, boolean trimRootToken) {
+        if (expression.isEmpty() || !Character.isJavaIdentifierStart(expression.charAt(0))) {
+            return NULL_EXPRESSION;
         }
 
         boolean hasDots = expression.indexOf(PROPERTY_START) >= 0;
@@ -179,45 +260,35 @@ public static Object evaluate(@Nonnull String expression, @Nullable Object root,
             tokenizer = new Tokenizer(expression);
             tokenizer.nextPropertyName();
             if (tokenizer.getPosition() == EOF) {
-                return null;
+                return NULL_EXPRESSION;
             }
         } else {
             tokenizer = new Tokenizer("." + expression);
         }
 
+        List<Segment> segments = new ArrayList<>();
         int propertyPosition = tokenizer.getPosition();
-        while (value != null && tokenizer.peekChar() != EOF) {
-            switch (tokenizer.skipChar()) {
+        while (tokenizer.peekChar() != EOF) {
+            int type = tokenizer.skipChar();
+            switch (type) {
                 case INDEXED_START:
-                    value = getIndexedValue(
-                            expression,
-                            propertyPosition,
-                            tokenizer.getPosition(),
-                            value,
-                            tokenizer.nextToken(INDEXED_END));
-                    break;
                 case MAPPED_START:
-                    value = getMappedValue(
-                            expression,
-                            propertyPosition,
-                            tokenizer.getPosition(),
-                            value,
-                            tokenizer.nextToken(MAPPED_END));
+                    int to = tokenizer.getPosition();
+                    String token = tokenizer.nextToken(type == INDEXED_START ? INDEXED_END : MAPPED_END);
+                    segments.add(new Segment(type, token, propertyPosition, to));
                     break;
                 case PROPERTY_START:
                     propertyPosition = tokenizer.getPosition();
-                    value = getPropertyValue(value, tokenizer.nextPropertyName());
+                    segments.add(
+                            new Segment(type, tokenizer.nextPropertyName(), propertyPosition, propertyPosition));
                     break;
                 default:
                     // could not parse expression
-                    return null;
+                    segments.add(new Segment(EOF, null, propertyPosition, propertyPosition));
+                    return segments.toArray(new Segment[0]);
             }
         }
-
-        if (value instanceof Optional<?> optional) {
-            value = optional.orElse(null);
-        }
-        return value;
+        return segments.toArray(new Segment[0]);
     }
 
     private static Object getMappedValue(
@@ -269,14 +340,12 @@ private static Object getPropertyValue(Object value, String property) throws Int
             return null;
         }
 
-        ClassMap classMap = getClassMap(value.getClass());
-        String methodBase = Character.toTitleCase(property.charAt(0)) + property.substring(1);
         try {
-            for (String prefix : ACCESSOR_PREFIXES) {
-                Method method = classMap.findMethod(prefix + methodBase);
-                if (method != null) {
-                    return method.invoke(value, OBJECT_ARGS);
-                }
+            ClassMap.Accessor accessor = CLASS_MAPS.get(value.getClass()).findAccessor(property, ACCESSOR_PREFIXES);
+            if (accessor.handle() != null) {
+                return invoke(accessor.handle(), value);
+            } else if (accessor.method() != null) {
+                return accessor.method().invoke(value, OBJECT_ARGS);
             }
             return null;
         } catch (InvocationTargetException e) {
@@ -286,16 +355,12 @@ private static Object getPropertyValue(Object value, String property) throws Int
         }
     }
 
-    private static ClassMap getClassMap(Class<?> clazz) {
-        Reference<ClassMap> ref = CLASS_MAPS.get(clazz);
-        ClassMap classMap = ref != null ? ref.get() : null;
-
-        if (classMap == null) {
-            classMap = new ClassMap(clazz);
-
-            CLASS_MAPS.put(clazz, new WeakReference<>(classMap));
+    private static Object invoke(MethodHandle handle, Object value) throws IntrospectionException {
+        try {
+            return handle.invokeExact(value);
+        } catch (Throwable t) {
+            // same as the InvocationTargetException thrown by reflection
+            throw new IntrospectionException(t);
         }
-
-        return classMap;
     }
 }
@@ -206,7 +206,7 @@ private Model loadPom(
                 ModelBuilderRequest modelRequest = ModelBuilderRequest.builder()
                         .session(iSession)
                         .trace(RequestTraceHelper.toMaven(request.getRequestContext(), trace))
-                        .requestType(ModelBuilderRequest.RequestType.CONSUMER_DEPENDENCY)
+                        .requestType(ModelBuilderRequest.RequestType.CONSUMER_DESCRIPTOR)
                         .source(Sources.resolvedSource(pomArtifact.getPath(), gav))
                         // This merge is on purpose because otherwise user properties would override model
                         // properties in dependencies the user does not know. See MNG-7563 for details.
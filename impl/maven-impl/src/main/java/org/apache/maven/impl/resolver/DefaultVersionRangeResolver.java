@@ -69,6 +69,15 @@ public class DefaultVersionRangeResolver implements VersionRangeResolver {
 
     private static final String MAVEN_METADATA_XML = "maven-metadata.xml";
 
+    /**
+     * Only the versions are read from the metadata, the other elements are skipped by the reader.
+     */
+    static final MetadataStaxReader.FieldFilter VERSIONS_ONLY = (className, tagName) -> switch (className) {
+        case "Metadata" -> "versioning".equals(tagName);
+        case "Versioning" -> "versions".equals(tagName);
+        default -> true;
+    };
+
     private final MetadataResolver metadataResolver;
     private final SyncContextFactory syncContextFactory;
     private final RepositoryEventDispatcher repositoryEventDispatcher;
@@ -231,8 +240,9 @@ private Versioning readVersions(
 
                     if (metadata.getPath() != null && Files.exists(metadata.getPath())) {
                         try (InputStream in = Files.newInputStream(metadata.getPath())) {
-                            versioning =
-                                    new MetadataStaxReader().read(in, false).getVersioning();
+                            MetadataStaxReader reader = new MetadataStaxReader();
+                            reader.setFieldFilter(VERSIONS_ONLY);
+                            versioning = reader.read(in, false).getVersioning();
                         }
                     }
                 }
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.util;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jdk.jfr.Recording;
+import org.apache.maven.api.Constants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Access to virtual threads, used to run I/O bound build steps without holding a platform thread while blocked.
+ * <p>
+ * Maven is compiled against Java 17, so the virtual thread API is looked up reflectively. When it is not available
+ * (i.e. when running on a JVM older than 21), {@link #isAvailable()} returns {@code false} and callers are expected to
+ * fall back to their usual platform thread pools.
+ *
+ * @since 4.1.0
+ */
+public final class VirtualThreads {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final AtomicBoolean WARNED = new AtomicBoolean();
+
+    private static final AtomicBoolean RECORDING_PINNED = new AtomicBoolean();
+
+    private static final MethodHandle OF_VIRTUAL;
+
+    private static final MethodHandle NAME;
+
+    private static final MethodHandle FACTORY;
+
+    private static final MethodHandle EXECUTOR;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle factory = null;
+        MethodHandle executor = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            Class<?> virtualBuilder = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(virtualBuilder))
+                    .asType(MethodType.methodType(Object.class));
+            name = lookup.findVirtual(
+                            virtualBuilder, "name", MethodType.methodType(virtualBuilder, String.class, long.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, String.class, long.class));
+            factory = lookup.findVirtual(builder, "factory", MethodType.methodType(ThreadFactory.class))
+                    .asType(MethodType.methodType(ThreadFactory.class, Object.class));
+            executor = lookup.findStatic(
+                    Executors.class,
+                    "newThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        EXECUTOR = executor;
+    }
+
+    private VirtualThreads() {}
+
+    /**
+     * Checks whether virtual threads are supported by the running JVM.
+     *
+     * @return {@code true} if virtual threads can be created
+     */
+    public static boolean isAvailable() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Checks whether virtual threads have been requested through the {@value Constants#MAVEN_VIRTUAL_THREADS}
+     * property and are supported by the running JVM. A warning is logged when they have been requested but are not
+     * supported.
+     *
+     * @param properties the properties to look up, usually the user properties followed by the system properties
+     * @return {@code true} if virtual threads should be used
+     */
+    @SafeVarargs
+    public static boolean isEnabled(Map<String, String>... properties) {
+        for (Map<String, String> props : properties) {
+            String value = props != null ? props.get(Constants.MAVEN_VIRTUAL_THREADS) : null;
+            if (value != null) {
+                return isEnabled(Boolean.parseBoolean(value));
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same as {@link #isEnabled(Map[])} for {@link Properties}.
+     *
+     * @param properties the properties to look up, usually the user properties followed by the system properties
+     * @return {@code true} if virtual threads should be used
+     */
+    public static boolean isEnabled(Properties... properties) {
+        for (Properties props : properties) {
+            String value = props != null ? props.getProperty(Constants.MAVEN_VIRTUAL_THREADS) : null;
+            if (value != null) {
+                return isEnabled(Boolean.parseBoolean(value));
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEnabled(boolean requested) {
+        if (requested && !isAvailable()) {
+            if (WARNED.compareAndSet(false, true)) {
+                LOGGER.warn(
+                        "Virtual threads have been requested with {} but are not supported by Java {}, "
+                                + "using platform threads instead",
+                        Constants.MAVEN_VIRTUAL_THREADS,
+                        Runtime.version().feature());
+            }
+            return false;
+        }
+        return requested;
+    }
+
+    /**
+     * Creates a factory of virtual threads named {@code prefix + n}, with n starting at 0.
+     *
+     * @param prefix the thread name prefix
+     * @return the thread factory
+     * @throws UnsupportedOperationException if virtual threads are not available
+     */
+    public static ThreadFactory newThreadFactory(String prefix) {
+        if (!isAvailable()) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM");
+        }
+        try {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(), prefix, 0L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task.
+     * <p>
+     * When debug logging is enabled, this also starts recording the virtual threads pinned to their carrier thread,
+     * see {@link #recordPinnedThreads()}.
+     *
+     * @param prefix the thread name prefix
+     * @return the executor
+     * @throws UnsupportedOperationException if virtual threads are not available
+     */
+    public static ExecutorService newExecutor(String prefix) {
+        ThreadFactory factory = newThreadFactory(prefix);
+        if (LOGGER.isDebugEnabled()) {
+            recordPinnedThreads();
+        }
+        try {
+            return (ExecutorService) EXECUTOR.invoke(factory);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Starts recording the virtual threads pinned to their carrier thread for more than 20 ms (for example while
+     * blocking inside a {@code synchronized} block), with the stack trace of the pinning code. Such stack traces
+     * point to the code preventing build steps from scaling on virtual threads.
+     * <p>
+     * The JFR {@code jdk.VirtualThreadPinned} events are recorded for the life of the JVM and written, when it exits,
+     * to a file whose location is logged at debug level. They can be printed with
+     * {@code jfr print --events jdk.VirtualThreadPinned <file>}. Events are not streamed into the build output, as
+     * JFR event streams keep the JVM alive.
+     *
+     * @return the file the events will be written to, or {@code null} if the recording was already started or JFR is
+     * not available
+     */
+    static Path recordPinnedThreads() {
+        if (!RECORDING_PINNED.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            Path file = PinnedThreads.record();
+            LOGGER.debug(
+                    "Recording virtual threads pinned to their carrier thread to {}, print them with: "
+                            + "jfr print --events jdk.VirtualThreadPinned {}",
+                    file,
+                    file);
+            return file;
+        } catch (IOException | RuntimeException | LinkageError e) {
+            // JFR is disabled or not part of the runtime image
+            LOGGER.debug("Cannot record virtual threads pinned to their carrier thread", e);
+            return null;
+        }
+    }
+
+    /**
+     * Holds the JFR code, so that the {@code jdk.jfr} module is only needed when recording pinned threads.
+     */
+    private static final class PinnedThreads {
+        static Path record() throws IOException {
+            Path file = Files.createTempFile("maven-pinned-threads-", ".jfr");
+            Recording recording = new Recording();
+            recording.setName("maven-pinned-threads");
+            recording.enable("jdk.VirtualThreadPinned").withStackTrace().withThreshold(Duration.ofMillis(20));
+            recording.setToDisk(true);
+            recording.setDestination(file);
+            recording.setDumpOnExit(true);
+            recording.start();
+            return file;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.apache.maven.api.Constants;
+import org.apache.maven.api.ProducedArtifact;
+import org.apache.maven.api.services.ArtifactInstallerRequest;
+import org.apache.maven.impl.standalone.ApiRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DefaultArtifactInstallerTest {
+
+    @TempDir
+    Path tempDir;
+
+    Path localRepo;
+    InternalSession session;
+    ProducedArtifact jar;
+    ProducedArtifact pom;
+
+    @BeforeEach
+    void setup() throws IOException {
+        localRepo = tempDir.resolve("repo");
+        session = InternalSession.from(ApiRunner.createSession(null, localRepo));
+        jar = session.createProducedArtifact("org.test", "lib", "1.0", "jar");
+        session.setArtifactPath(jar, Files.writeString(tempDir.resolve("lib.jar"), "classes"));
+        pom = session.createProducedArtifact("org.test", "lib", "1.0", "pom");
+        session.setArtifactPath(pom, Files.writeString(tempDir.resolve("pom.xml"), "<project/>"));
+    }
+
+    @Test
+    void testDefaultModeCopies() throws Exception {
+        new DefaultArtifactInstaller(session.getRepositorySystem())
+                .install(ArtifactInstallerRequest.build(session, List.of(jar, pom)));
+
+        assertCopied("lib-1.0.jar", "lib.jar");
+        assertCopied("lib-1.0.pom", "pom.xml");
+        assertTrue(Files.exists(localRepo.resolve("org/test/lib/maven-metadata-local.xml")));
+    }
+
+    @Test
+    void testLinkModeLinksArtifacts() throws Exception {
+        new DefaultArtifactInstaller(session.getRepositorySystem())
+                .install(ArtifactInstallerRequest.build(linkMode(), List.of(jar, pom)));
+
+        assertTrue(Files.isSameFile(tempDir.resolve("lib.jar"), localRepo.resolve("org/test/lib/1.0/lib-1.0.jar")));
+        // POM files are always copied, and the installation is still recorded by the resolver
+        assertCopied("lib-1.0.pom", "pom.xml");
+        assertTrue(Files.exists(localRepo.resolve("org/test/lib/maven-metadata-local.xml")));
+        assertNoTemporaryFiles();
+    }
+
+    @Test
+    void testLinkModeCopiesAcrossFileSystems() throws Exception {
+        DefaultArtifactInstaller installer = new DefaultArtifactInstaller(session.getRepositorySystem()) {
+            @Override
+            void createLink(Path link, Path existing) throws IOException {
+                throw new FileSystemException(link.toString(), existing.toString(), "Invalid cross-device link");
+            }
+        };
+        installer.install(ArtifactInstallerRequest.build(linkMode(), List.of(jar, pom)));
+
+        assertCopied("lib-1.0.jar", "lib.jar");
+        assertCopied("lib-1.0.pom", "pom.xml");
+        assertTrue(Files.exists(localRepo.resolve("org/test/lib/maven-metadata-local.xml")));
+        assertNoTemporaryFiles();
+    }
+
+    @Test
+    void testLinkModeCopiesWhenLinksAreNotSupported() throws Exception {
+        DefaultArtifactInstaller installer = new DefaultArtifactInstaller(session.getRepositorySystem()) {
+            @Override
+            void createLink(Path link, Path existing) {
+                throw new UnsupportedOperationException("links are not supported");
+            }
+        };
+        installer.install(ArtifactInstallerRequest.build(linkMode(), List.of(jar, pom)));
+
+        assertCopied("lib-1.0.jar", "lib.jar");
+        assertCopied("lib-1.0.pom", "pom.xml");
+        assertNoTemporaryFiles();
+    }
+
+    /**
+     * Returns a session installing in link mode, delegating to the real session.
+     */
+    private InternalSession linkMode() {
+        InternalSession linking = mock(InternalSession.class);
+        when(linking.getUserProperties()).thenReturn(Map.of(Constants.MAVEN_INSTALL_MODE, "link"));
+        when(linking.getSession()).thenReturn(session.getSession());
+        when(linking.getData()).thenReturn(session.getData());
+        when(linking.toArtifacts(any())).thenAnswer(i -> session.toArtifacts(i.getArgument(0)));
+        return linking;
+    }
+
+    private void assertCopied(String installed, String source) throws IOException {
+        Path target = localRepo.resolve("org/test/lib/1.0").resolve(installed);
+        assertTrue(Files.isRegularFile(target), target.toString());
+        assertFalse(Files.isSameFile(tempDir.resolve(source), target), target.toString());
+        assertEquals(Files.readString(tempDir.resolve(source)), Files.readString(target));
+    }
+
+    private void assertNoTemporaryFiles() throws IOException {
+        try (Stream<Path> files = Files.list(localRepo.resolve("org/test/lib/1.0"))) {
+            assertEquals(List.of(), files.filter(f -> f.toString().endsWith(".link")).toList());
+        }
+    }
+}
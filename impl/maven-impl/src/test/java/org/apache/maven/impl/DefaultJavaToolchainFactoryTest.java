@@ -32,7 +32,10 @@
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DefaultJavaToolchainFactoryTest {
@@ -94,4 +97,33 @@ void properToolchainShouldReturnJavaToolchain() {
         assertEquals(javaHome, toolchain.getJavaHome());
         assertEquals(javaVersion, toolchain.getJavaVersion().toString());
     }
+
+    @Test
+    void requirementsAndToolsAreMemoized() {
+        String javaHome = System.getProperty("java.home");
+        ToolchainModel toolchainModel = ToolchainModel.newBuilder()
+                .provides(Map.of("version", "17.0.2", "vendor", "openjdk"))
+                .configuration(XmlNode.newBuilder()
+                        .name("configuration")
+                        .children(List.of(XmlNode.newInstance("jdkHome", javaHome)))
+                        .build())
+                .build();
+
+        JavaToolchain toolchain = factory.createToolchain(toolchainModel);
+        assertTrue(toolchain.matchesRequirements(Map.of("version", "[17,18)", "vendor", "OpenJDK")));
+        assertTrue(toolchain.matchesRequirements(Map.of("version", "[17,18)")));
+        assertFalse(toolchain.matchesRequirements(Map.of("version", "[21,)")));
+        assertFalse(toolchain.matchesRequirements(Map.of("version", "[17")));
+        assertFalse(toolchain.matchesRequirements(Map.of("vendor", "oracle")));
+        assertFalse(toolchain.matchesRequirements(Map.of("arch", "x64")));
+        assertSame(
+                factory.parseVersionConstraint("[17,18)").orElseThrow(),
+                factory.parseVersionConstraint("[17,18)").orElseThrow());
+        assertTrue(factory.parseVersionConstraint("[17").isEmpty());
+
+        String java = toolchain.findTool("java");
+        assertNotNull(java);
+        assertSame(java, toolchain.findTool("java"));
+        assertNull(toolchain.findTool("not-a-tool"));
+    }
 }
@@ -25,6 +25,8 @@
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.maven.api.services.PathMatcherFactory;
 import org.junit.jupiter.api.Test;
@@ -236,6 +238,37 @@ public void testDeriveDirectoryMatcher(@TempDir Path tempDir) throws IOException
                 || !dirMatcher4.matches(subDir)); // Always true, just testing it doesn't throw
     }
 
+    @Test
+    public void testScan(@TempDir Path tempDir) throws IOException {
+        Path srcDir = Files.createDirectories(tempDir.resolve("src/main/java/org/example"));
+        Path targetDir = Files.createDirectories(tempDir.resolve("target/classes"));
+        Path gitDir = Files.createDirectories(tempDir.resolve(".git"));
+        Files.createFile(srcDir.resolve("Main.java"));
+        Files.createFile(srcDir.resolve("Other.java"));
+        Files.createFile(srcDir.resolve("notes.txt"));
+        Files.createFile(targetDir.resolve("Generated.java"));
+        Files.createFile(gitDir.resolve("Ignored.java"));
+        Files.createFile(tempDir.resolve("Root.java"));
+        Set<Path> expected =
+                Set.of(srcDir.resolve("Main.java"), srcDir.resolve("Other.java"), tempDir.resolve("Root.java"));
+
+        PathMatcher compiled = factory.createPathMatcher(tempDir, List.of("**/*.java"), List.of("target/**"), true);
+        try (Stream<Path> files = factory.scan(tempDir, compiled)) {
+            assertEquals(expected, files.collect(Collectors.toSet()));
+        }
+
+        // Same selection with a matcher which is not compiled, relative to another directory.
+        PathMatcher glob = factory.createPathMatcher(
+                tempDir.getParent(), List.of("glob:**/*.java"), List.of("glob:**/{target,.git}/**"), false);
+        try (Stream<Path> files = factory.scan(tempDir, glob)) {
+            assertEquals(expected, files.collect(Collectors.toSet()));
+        }
+
+        try (Stream<Path> files = factory.scan(tempDir.resolve("missing"), compiled)) {
+            assertEquals(0, files.count());
+        }
+    }
+
     /**
      * Verifies that the directory matcher accepts the {@code "foo"} directory (at root)
      * when using the {@code "**​/*foo*​/**"} include pattern.
@@ -18,10 +18,12 @@
  */
 package org.apache.maven.impl;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.apache.maven.api.Project;
 import org.apache.maven.api.Session;
@@ -30,6 +32,7 @@
 import org.apache.maven.api.services.Lookup;
 import org.apache.maven.api.services.ToolchainFactory;
 import org.apache.maven.api.toolchain.ToolchainModel;
+import org.apache.maven.api.xml.XmlNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,10 +40,14 @@
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -84,6 +91,69 @@ void getToolchainsWithValidTypeAndRequirements() {
         assertEquals(mockToolchain, result.get(0));
     }
 
+    @Test
+    void getToolchainsIsMemoizedForTheSession() {
+        Map<Object, Object> values = new HashMap<>();
+        SessionData data = mock(SessionData.class);
+        when(session.getData()).thenReturn(data);
+        when(data.computeIfAbsent(any(), any()))
+                .thenAnswer(invocation -> values.computeIfAbsent(
+                        invocation.getArgument(0), k -> ((Supplier<?>) invocation.getArgument(1)).get()));
+        toolchainModel = ToolchainModel.newBuilder().type("jdk").build();
+        when(session.getToolchains()).thenReturn(List.of(toolchainModel));
+        when(jdkFactory.createToolchain(toolchainModel)).thenReturn(mockToolchain);
+        when(jdkFactory.createDefaultToolchain()).thenReturn(Optional.empty());
+        when(mockToolchain.matchesRequirements(Map.of("version", "11"))).thenReturn(true);
+        when(mockToolchain.matchesRequirements(Map.of("version", "17"))).thenReturn(false);
+
+        List<Toolchain> result = manager.getToolchains(session, "jdk", Map.of("version", "11"));
+        assertEquals(List.of(mockToolchain), result);
+        assertSame(result, manager.getToolchains(session, "jdk", new HashMap<>(Map.of("version", "11"))));
+        assertEquals(List.of(), manager.getToolchains(session, "jdk", Map.of("version", "17")));
+        assertEquals(List.of(mockToolchain), manager.getToolchains(session, "jdk", null));
+
+        verify(jdkFactory, times(1)).createToolchain(toolchainModel);
+        verify(jdkFactory, times(1)).createDefaultToolchain();
+        verify(mockToolchain, times(1)).matchesRequirements(Map.of("version", "11"));
+    }
+
+    @Test
+    void toolchainsWithTheSameProvidesAreNotShared() {
+        Map<Object, Object> values = new HashMap<>();
+        SessionData data = mock(SessionData.class);
+        when(session.getData()).thenReturn(data);
+        when(data.computeIfAbsent(any(), any()))
+                .thenAnswer(invocation -> values.computeIfAbsent(
+                        invocation.getArgument(0), k -> ((Supplier<?>) invocation.getArgument(1)).get()));
+        when(data.get(any())).thenAnswer(invocation -> values.get(invocation.getArgument(0)));
+        when(session.getService(Lookup.class)).thenReturn(lookup);
+        when(lookup.lookupOptional(Project.class)).thenReturn(Optional.of(project));
+        ToolchainModel first = jdk("/opt/jdk-17.0.1");
+        ToolchainModel second = jdk("/opt/jdk-17.0.2");
+        assertEquals(first, second);
+        Toolchain firstToolchain = mock(Toolchain.class);
+        Toolchain secondToolchain = mock(Toolchain.class);
+        when(secondToolchain.getType()).thenReturn("jdk");
+        when(secondToolchain.getModel()).thenReturn(second);
+        when(session.getToolchains()).thenReturn(List.of(first, second));
+        when(jdkFactory.createToolchain(same(first))).thenReturn(firstToolchain);
+        when(jdkFactory.createToolchain(same(second))).thenReturn(secondToolchain);
+        when(jdkFactory.createDefaultToolchain()).thenReturn(Optional.empty());
+
+        assertEquals(List.of(firstToolchain, secondToolchain), manager.getToolchains(session, "jdk", null));
+
+        manager.storeToolchainToBuildContext(session, secondToolchain);
+        assertEquals(Optional.of(secondToolchain), manager.getToolchainFromBuildContext(session, "jdk"));
+    }
+
+    private static ToolchainModel jdk(String jdkHome) {
+        return ToolchainModel.newBuilder()
+                .type("jdk")
+                .provides(Map.of("version", "17"))
+                .configuration(XmlNode.newInstance("configuration", List.of(XmlNode.newInstance("jdkHome", jdkHome))))
+                .build();
+    }
+
     @Test
     void getToolchainsWithInvalidType() {
         List<Toolchain> result = manager.getToolchains(session, "invalid", null);
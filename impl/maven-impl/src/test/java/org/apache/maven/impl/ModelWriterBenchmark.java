@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.model.Build;
+import org.apache.maven.api.model.Dependency;
+import org.apache.maven.api.model.DependencyManagement;
+import org.apache.maven.api.model.Exclusion;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.model.Plugin;
+import org.apache.maven.api.model.PluginExecution;
+import org.apache.maven.api.services.xml.XmlWriterRequest;
+import org.apache.maven.api.xml.XmlNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark writing large models, such as effective or consumer POMs, with {@link DefaultModelXmlFactory}.
+ * {@code writer} writes the model to a {@link StringWriter}, {@code stream} encodes it directly to an output stream,
+ * and {@code concurrentStream} writes models from several threads, as when installing the POMs of parallel builds.
+ * Running it on the previous revision gives the figures of the previous writer.
+ *
+ * To run this benchmark:
+ * mvn test-compile -pl impl/maven-impl and run the main method of this class.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelWriterBenchmark {
+
+    @Param({"100", "2000"})
+    private int dependencies;
+
+    private final DefaultModelXmlFactory factory = new DefaultModelXmlFactory();
+
+    private Model model;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<Dependency> managed = new ArrayList<>();
+        for (int i = 0; i < dependencies; i++) {
+            managed.add(Dependency.newBuilder()
+                    .groupId("org.example.group" + i % 50)
+                    .artifactId("artifact-" + i)
+                    .version("1." + i + ".0")
+                    .scope(i % 3 == 0 ? "test" : null)
+                    .exclusions(List.of(Exclusion.newBuilder()
+                            .groupId("org.excluded")
+                            .artifactId("excluded-" + i)
+                            .build()))
+                    .build());
+        }
+        List<Plugin> plugins = new ArrayList<>();
+        for (int i = 0; i < dependencies / 20; i++) {
+            XmlNode configuration = XmlNode.newInstance(
+                    "configuration",
+                    List.of(
+                            XmlNode.newInstance("release", "17"),
+                            XmlNode.newInstance("encoding", "UTF-8"),
+                            XmlNode.newInstance(
+                                    "compilerArgs",
+                                    List.of(
+                                            XmlNode.newInstance("arg", "-Xlint:all"),
+                                            XmlNode.newInstance("arg", "-parameters")))));
+            plugins.add(Plugin.newBuilder()
+                    .groupId("org.example.plugins")
+                    .artifactId("plugin-" + i)
+                    .version("3." + i)
+                    .configuration(configuration)
+                    .executions(List.of(PluginExecution.newBuilder()
+                            .id("default-" + i)
+                            .phase("process-classes")
+                            .goals(List.of("run"))
+                            .build()))
+                    .build());
+        }
+        Map<String, String> properties = new LinkedHashMap<>();
+        for (int i = 0; i < dependencies / 10; i++) {
+            properties.put("property." + i, "value with <markup> & entities " + i);
+        }
+        model = Model.newBuilder()
+                .modelVersion("4.0.0")
+                .groupId("org.example")
+                .artifactId("large")
+                .version("1.0-SNAPSHOT")
+                .packaging("pom")
+                .properties(properties)
+                .dependencyManagement(DependencyManagement.newBuilder()
+                        .dependencies(managed)
+                        .build())
+                .dependencies(managed.subList(0, dependencies / 4))
+                .build(Build.newBuilder().plugins(plugins).build())
+                .build();
+    }
+
+    @Benchmark
+    public int writer() {
+        StringWriter writer = new StringWriter();
+        factory.write(XmlWriterRequest.<Model>builder()
+                .writer(writer)
+                .content(model)
+                .build());
+        return writer.getBuffer().length();
+    }
+
+    @Benchmark
+    public int stream() {
+        return writeToStream();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int concurrentStream() {
+        return writeToStream();
+    }
+
+    private int writeToStream() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream(64 * 1024);
+        factory.write(XmlWriterRequest.<Model>builder()
+                .outputStream(stream)
+                .content(model)
+                .build());
+        return stream.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(ModelWriterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opts).run();
+    }
+}
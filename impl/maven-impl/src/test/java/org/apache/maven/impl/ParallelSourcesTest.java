@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.services.BuilderProblem;
+import org.apache.maven.api.services.ProblemCollector;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelSourcesTest {
+
+    @Test
+    void testResultsAndProblemsAreInOrder() {
+        CountDownLatch last = new CountDownLatch(1);
+        ProblemCollector<BuilderProblem> problems = ProblemCollector.create(100);
+
+        List<String> results = ParallelSources.read(
+                problems,
+                List.of(
+                        p -> {
+                            await(last);
+                            report(p, "first", BuilderProblem.Severity.WARNING);
+                            return "first";
+                        },
+                        p -> {
+                            report(p, "second", BuilderProblem.Severity.WARNING);
+                            report(p, "second error", BuilderProblem.Severity.ERROR);
+                            assertEquals(1, p.problemsReportedFor(BuilderProblem.Severity.ERROR));
+                            return "second";
+                        },
+                        p -> {
+                            report(p, "third", BuilderProblem.Severity.WARNING);
+                            last.countDown();
+                            return "third";
+                        }));
+
+        assertEquals(List.of("first", "second", "third"), results);
+        assertEquals(
+                List.of("first", "second", "third"),
+                problems.problems(BuilderProblem.Severity.WARNING)
+                        .map(BuilderProblem::getMessage)
+                        .toList());
+        assertTrue(problems.hasErrorProblems());
+    }
+
+    @Test
+    void testFailureIsRethrownAfterReportingProblems() {
+        IllegalStateException failure = new IllegalStateException("failed");
+        ProblemCollector<BuilderProblem> problems = ProblemCollector.create(100);
+
+        IllegalStateException thrown = assertThrows(
+                IllegalStateException.class,
+                () -> ParallelSources.read(
+                        problems,
+                        List.of(
+                                p -> {
+                                    report(p, "first", BuilderProblem.Severity.WARNING);
+                                    return "first";
+                                },
+                                p -> {
+                                    throw failure;
+                                })));
+
+        assertSame(failure, thrown);
+        assertEquals(1, problems.totalProblemsReported());
+    }
+
+    private static void report(
+            ProblemCollector<BuilderProblem> problems, String message, BuilderProblem.Severity severity) {
+        problems.reportProblem(new DefaultBuilderProblem("source", -1, -1, null, message, severity));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
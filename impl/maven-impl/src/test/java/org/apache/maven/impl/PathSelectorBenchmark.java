@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark comparing the include/exclude patterns compiled by {@link PatternAutomaton} with the matchers of
+ * the file system, on a synthetic source tree of {@code modules * 25 * 20} Java files, with resources, build outputs
+ * and SCM directories. {@code match} tests all the paths of the tree, {@code walk} selects the files of the tree
+ * with {@link Files#walk} as plugins usually do, and {@code scan} selects them with
+ * {@link DefaultPathMatcherFactory#scan(Path, PathMatcher)}.
+ *
+ * To run this benchmark:
+ * mvn test-compile -pl impl/maven-impl and run the main method of this class.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathSelectorBenchmark {
+
+    private static final List<String> INCLUDES = List.of("**/*.java", "**/*.properties");
+
+    private static final List<String> EXCLUDES = List.of("**/target/**", "**/generated/**");
+
+    @Param({"4", "20"})
+    private int modules;
+
+    @Param({"false", "true"})
+    private boolean compiled;
+
+    private Path directory;
+    private List<Path> paths;
+    private PathMatcher matcher;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("path-selector");
+        for (int m = 0; m < modules; m++) {
+            Path module = directory.resolve("module-" + m);
+            for (int p = 0; p < 25; p++) {
+                Path sources = Files.createDirectories(module.resolve("src/main/java/org/example/pkg" + p));
+                for (int f = 0; f < 20; f++) {
+                    Files.createFile(sources.resolve("Class" + f + ".java"));
+                }
+                Files.createFile(sources.resolve("package.html"));
+                Path resources = Files.createDirectories(module.resolve("src/main/resources/org/example/pkg" + p));
+                Files.createFile(resources.resolve("messages.properties"));
+                Path classes = Files.createDirectories(module.resolve("target/classes/org/example/pkg" + p));
+                Path objects = Files.createDirectories(module.resolve(".git/objects/" + p));
+                for (int f = 0; f < 20; f++) {
+                    Files.createFile(classes.resolve("Class" + f + ".class"));
+                    Files.createFile(objects.resolve("object" + f));
+                }
+            }
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            paths = files.toList();
+        }
+        matcher = PathSelector.of(directory, INCLUDES, EXCLUDES, true, compiled);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public long match() {
+        return paths.stream().filter(matcher::matches).count();
+    }
+
+    @Benchmark
+    public long walk() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(matcher::matches).count();
+        }
+    }
+
+    @Benchmark
+    public long scan() throws IOException {
+        try (Stream<Path> files = new DefaultPathMatcherFactory().scan(directory, matcher)) {
+            return files.count();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(PathSelectorBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opts).run();
+    }
+}
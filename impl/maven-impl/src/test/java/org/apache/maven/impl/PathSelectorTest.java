@@ -22,6 +22,7 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -29,6 +30,7 @@
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -164,6 +166,56 @@ public void testBraceAlternationOnlyWithExplicitGlob(@TempDir Path directory) th
         assertTrue(explicitGlob.matches(testFile));
     }
 
+    /**
+     * Verifies that the patterns compiled into an automaton select the same paths as the matchers of the file system,
+     * and that the directories skipped by the automaton do not contain selected paths.
+     */
+    @Test
+    public void testCompiledPatternsAreEquivalent() {
+        Path base = Path.of("base");
+        List<String> names = List.of(
+                "src", "main", "java", "foo", "Foo.java", "a.txt", ".git", "CVS", "test", "generated", "foo{bar}.txt");
+        List<List<String>> patterns = List.of(
+                List.of(),
+                List.of("**/*.java"),
+                List.of("*.txt", "src/**"),
+                List.of("**/test/**", "foo/**/Foo.java"),
+                List.of("src/*/java/**", "**/*foo*/**"),
+                List.of("?.txt", "**/generated/**"),
+                List.of("foo{bar}.txt", "src/"));
+        List<Path> paths = new ArrayList<>();
+        paths.add(base);
+        for (String first : names) {
+            paths.add(base.resolve(first));
+            for (String second : names) {
+                paths.add(base.resolve(first).resolve(second));
+                for (String third : List.of("java", "Foo.java", "a.txt")) {
+                    paths.add(base.resolve(first).resolve(second).resolve(third));
+                }
+            }
+        }
+        for (List<String> includes : patterns) {
+            for (List<String> excludes : patterns) {
+                for (boolean useDefaultExcludes : new boolean[] {false, true}) {
+                    PathMatcher compiled = PathSelector.of(base, includes, excludes, useDefaultExcludes, true);
+                    PathMatcher globs = PathSelector.of(base, includes, excludes, useDefaultExcludes, false);
+                    PathMatcher directories = compiled instanceof PathSelector selector
+                            ? selector.createDirectoryMatcher()
+                            : PathSelector.INCLUDES_ALL;
+                    for (Path path : paths) {
+                        String message = includes + " " + excludes + " " + useDefaultExcludes + " " + path;
+                        assertEquals(globs.matches(path), compiled.matches(path), message);
+                        if (globs.matches(path)) {
+                            for (Path parent = path.getParent(); parent != null; parent = parent.getParent()) {
+                                assertTrue(directories.matches(parent), message);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Regression test for <a href="https://github.com/apache/maven/pull/12617">#12617</a>.
      * Verifies that when the base directory path itself contains a segment matching a {@code **} pattern,
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.metrics;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.services.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionMetricsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testMetricsAreIdentifiedByNameAndLabels() {
+        SessionMetrics metrics = new SessionMetrics();
+        MetricsRegistry.Counter counter = metrics.counter("maven_test", "Test", Map.of("a", "1"));
+        counter.increment();
+        counter.add(2);
+
+        assertSame(counter, metrics.counter("maven_test", "Test", Map.of("a", "1")));
+        assertEquals(3, metrics.counter("maven_test", "Test", Map.of("a", "1")).count());
+        assertEquals(0, metrics.counter("maven_test", "Test", Map.of("a", "2")).count());
+        assertEquals(2, metrics.getMetrics().size());
+
+        assertThrows(IllegalArgumentException.class, () -> metrics.timer("maven_test", "Test"));
+        assertThrows(IllegalArgumentException.class, () -> metrics.counter("maven-test", "Test"));
+        assertThrows(IllegalArgumentException.class, () -> counter.add(-1));
+    }
+
+    @Test
+    void testTimer() {
+        SessionMetrics metrics = new SessionMetrics();
+        MetricsRegistry.Timer timer = metrics.timer("maven_timer", "Test");
+        timer.record(TimeUnit.MILLISECONDS.toNanos(1));
+        timer.record(TimeUnit.MILLISECONDS.toNanos(3));
+        timer.record(TimeUnit.SECONDS.toNanos(120));
+        assertEquals("result", timer.record(() -> "result"));
+
+        assertEquals(4, timer.count());
+        assertEquals(Duration.ofSeconds(120), timer.max());
+        assertTrue(timer.total().compareTo(Duration.ofMillis(120004)) >= 0);
+        assertEquals(2, timer.histogram().get(Duration.ofMillis(1)));
+        assertEquals(3, timer.histogram().get(Duration.ofMillis(5)));
+        assertEquals(3, timer.histogram().get(Duration.ofMillis(60000)));
+    }
+
+    @Test
+    void testOpenMetrics() {
+        SessionMetrics metrics = new SessionMetrics();
+        metrics.counter("maven_transfers", "Transfers", Map.of("type", "get")).add(2);
+        metrics.gauge("maven_cache_hits", "Hits", () -> 7);
+        metrics.timer("maven_mojo_execution", "Mojos", Map.of("goal", "compile"))
+                .record(TimeUnit.MILLISECONDS.toNanos(2));
+
+        String text = MetricsExporter.toOpenMetrics(metrics.getMetrics());
+        List<String> lines = text.lines().toList();
+        assertTrue(lines.contains("# TYPE maven_transfers counter"), text);
+        assertTrue(lines.contains("maven_transfers_total{type=\"get\"} 2"), text);
+        assertTrue(lines.contains("# TYPE maven_cache_hits gauge"), text);
+        assertTrue(lines.contains("maven_cache_hits 7"), text);
+        assertTrue(lines.contains("# TYPE maven_mojo_execution_seconds histogram"), text);
+        assertTrue(lines.contains("maven_mojo_execution_seconds_bucket{goal=\"compile\",le=\"0.001\"} 0"), text);
+        assertTrue(lines.contains("maven_mojo_execution_seconds_bucket{goal=\"compile\",le=\"0.005\"} 1"), text);
+        assertTrue(lines.contains("maven_mojo_execution_seconds_bucket{goal=\"compile\",le=\"+Inf\"} 1"), text);
+        assertTrue(lines.contains("maven_mojo_execution_seconds_count{goal=\"compile\"} 1"), text);
+        assertTrue(lines.contains("maven_mojo_execution_seconds_sum{goal=\"compile\"} 0.002"), text);
+        assertEquals("# EOF", lines.get(lines.size() - 1));
+    }
+
+    @Test
+    void testExport() throws Exception {
+        SessionMetrics metrics = new SessionMetrics();
+        metrics.counter("maven_test", "Quotes \" and \\ backslashes", Map.of("name", "a\"b")).increment();
+
+        Path directory = tempDir.resolve("metrics");
+        MetricsExporter.export(metrics.getMetrics(), directory);
+
+        String json = Files.readString(directory.resolve(MetricsExporter.JSON_FILE));
+        assertTrue(
+                json.contains("{\"name\": \"maven_test\", \"type\": \"counter\", "
+                        + "\"description\": \"Quotes \\\" and \\\\ backslashes\", "
+                        + "\"labels\": {\"name\": \"a\\\"b\"}, \"value\": 1}"),
+                json);
+        String text = Files.readString(directory.resolve(MetricsExporter.OPEN_METRICS_FILE));
+        assertTrue(text.contains("maven_test_total{name=\"a\\\"b\"} 1"), text);
+    }
+}
@@ -18,14 +18,25 @@
  */
 package org.apache.maven.impl.model;
 
+import java.nio.file.Path;
+import java.util.List;
+
+import org.apache.maven.api.Session;
 import org.apache.maven.api.model.Dependency;
 import org.apache.maven.api.model.DependencyManagement;
 import org.apache.maven.api.model.InputLocation;
 import org.apache.maven.api.model.InputSource;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.services.ModelBuilderRequest;
+import org.apache.maven.api.services.Sources;
+import org.apache.maven.impl.model.profile.SimpleProblemCollector;
+import org.apache.maven.impl.standalone.ApiRunner;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class DefaultDependencyManagementImporterTest {
     @Test
@@ -138,4 +149,71 @@ public void testUpdateWithImportedFromMultiLevelAlreadyFoundInDifferentSourceImp
                 actualImportedFrom,
                 "Expected importedFrom to be " + expectedImportedFrom + " but was " + actualImportedFrom);
     }
+
+    @Test
+    void testImportsAreMergedOncePerSession() {
+        ModelBuilderRequest request = newRequest(ApiRunner.createSession());
+        List<DependencyManagement> boms = List.of(
+                DependencyManagement.newBuilder()
+                        .dependencies(List.of(dependency("a", "1"), dependency("b", "1")))
+                        .build(),
+                DependencyManagement.newBuilder()
+                        .dependencies(List.of(dependency("b", "2"), dependency("c", "2")))
+                        .build());
+        DefaultDependencyManagementImporter importer = new DefaultDependencyManagementImporter();
+
+        SimpleProblemCollector problems = new SimpleProblemCollector();
+        Model first = importer.importManagement(Model.newInstance(), boms, request, problems);
+        assertEquals(List.of("a:1", "b:1", "c:2"), versions(first));
+        assertEquals(1, problems.getWarnings().size(), problems.getWarnings().toString());
+
+        // a managed dependency declared by the model takes precedence, and hides the conflict between the imports
+        problems = new SimpleProblemCollector();
+        Model target = Model.newBuilder()
+                .dependencyManagement(DependencyManagement.newBuilder()
+                        .dependencies(List.of(dependency("b", "3")))
+                        .build())
+                .build();
+        Model model = importer.importManagement(target, boms, request, problems);
+        assertEquals(List.of("b:3", "a:1", "c:2"), versions(model));
+        assertEquals(0, problems.getWarnings().size(), problems.getWarnings().toString());
+
+        // the merged list computed by the first import is reused as is
+        problems = new SimpleProblemCollector();
+        model = importer.importManagement(Model.newInstance(), boms, request, problems);
+        assertSame(
+                first.getDependencyManagement().getDependencies(),
+                model.getDependencyManagement().getDependencies());
+        assertEquals(1, problems.getWarnings().size(), problems.getWarnings().toString());
+
+        // but not by another session
+        model = importer.importManagement(
+                Model.newInstance(), boms, newRequest(ApiRunner.createSession()), new SimpleProblemCollector());
+        assertNotSame(
+                first.getDependencyManagement().getDependencies(),
+                model.getDependencyManagement().getDependencies());
+        assertEquals(versions(first), versions(model));
+    }
+
+    private static ModelBuilderRequest newRequest(Session session) {
+        return ModelBuilderRequest.builder()
+                .session(session)
+                .requestType(ModelBuilderRequest.RequestType.BUILD_PROJECT)
+                .source(Sources.buildSource(Path.of("pom.xml")))
+                .build();
+    }
+
+    private static Dependency dependency(String artifactId, String version) {
+        return Dependency.newBuilder()
+                .groupId("g")
+                .artifactId(artifactId)
+                .version(version)
+                .build();
+    }
+
+    private static List<String> versions(Model model) {
+        return model.getDependencyManagement().getDependencies().stream()
+                .map(d -> d.getArtifactId() + ":" + d.getVersion())
+                .toList();
+    }
 }
@@ -18,7 +18,9 @@
  */
 package org.apache.maven.impl.model;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -40,6 +42,7 @@
 import org.apache.maven.api.model.Model;
 import org.apache.maven.api.model.Profile;
 import org.apache.maven.api.model.Repository;
+import org.apache.maven.api.services.BuilderProblem;
 import org.apache.maven.api.services.ModelBuilder;
 import org.apache.maven.api.services.ModelBuilderRequest;
 import org.apache.maven.api.services.ModelBuilderResult;
@@ -48,6 +51,7 @@
 import org.apache.maven.impl.standalone.ApiRunner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -261,6 +265,52 @@ public void testDuplicateProfileIdsRetainActivations() {
         assertEquals("enabled", profiles.get(1).getActivation().getProperty().getValue());
     }
 
+    @Test
+    public void testDescriptorRequestSkipsBuildSections() {
+        ModelSource source = Sources.resolvedSource(getPom("descriptor"), "org.apache.maven.test:descriptor:1.0.0");
+        ModelBuilder.ModelBuilderSession mbs = builder.newSession();
+
+        Model descriptor = mbs.build(ModelBuilderRequest.builder()
+                        .session(session)
+                        .requestType(ModelBuilderRequest.RequestType.CONSUMER_DESCRIPTOR)
+                        .source(source)
+                        .build())
+                .getEffectiveModel();
+        assertEquals(
+                List.of("lib:1.2.3", "profile-lib:1.2.3"),
+                descriptor.getDependencies().stream()
+                        .map(d -> d.getArtifactId() + ":" + d.getVersion())
+                        .toList());
+        assertTrue(descriptor.getBuild() == null
+                || descriptor.getBuild().getPlugins().isEmpty()
+                        && (descriptor.getBuild().getPluginManagement() == null
+                                || descriptor.getBuild().getPluginManagement().getPlugins().isEmpty()));
+        assertTrue(descriptor.getReporting() == null
+                || descriptor.getReporting().getPlugins().isEmpty());
+
+        // the full model read by the same session is not affected
+        Model full = mbs.build(ModelBuilderRequest.builder()
+                        .session(session)
+                        .requestType(ModelBuilderRequest.RequestType.CONSUMER_DEPENDENCY)
+                        .source(source)
+                        .build())
+                .getEffectiveModel();
+        assertEquals(descriptor.getDependencies().size(), full.getDependencies().size());
+        assertEquals(
+                List.of("build-plugin", "profile-plugin"),
+                full.getBuild().getPlugins().stream()
+                        .map(p -> p.getArtifactId())
+                        .toList());
+
+        // the build directories of the super POM are still available for interpolation
+        String libFile = descriptor.getProperties().get("lib.file");
+        assertTrue(libFile.endsWith("descriptor-1.0.0.jar") && !libFile.contains("${"), libFile);
+        assertEquals(full.getProperties().get("lib.file"), descriptor.getProperties().get("lib.file"));
+        assertEquals(full.getProperties().get("lib.classes"), descriptor.getProperties().get("lib.classes"));
+        assertEquals(full.getBuild().getDirectory(), descriptor.getBuild().getDirectory());
+        assertEquals(full.getBuild().getFinalName(), descriptor.getBuild().getFinalName());
+    }
+
     @Test
     public void testRepositoryUrlInterpolationWithProfiles() {
         // Test case 1: Default properties should be used
@@ -600,6 +650,105 @@ public void testBomDependencyManagementVersionInference() {
                 "1.0-SNAPSHOT", managedDep.getVersion(), "Version should be inferred from the reactor sibling module");
     }
 
+    @Test
+    void testImportsWithExclusionsAreMergedOncePerSession(@TempDir Path tempDir) throws IOException {
+        Path localRepo = tempDir.resolve("repo");
+        writeBom(localRepo, "bom-a", "<dependency><groupId>org.test</groupId><artifactId>lib</artifactId>"
+                + "<version>1</version></dependency><dependency><groupId>org.test</groupId>"
+                + "<artifactId>excluded</artifactId><version>1</version></dependency>");
+        writeBom(localRepo, "bom-b", "<dependency><groupId>org.test</groupId><artifactId>lib</artifactId>"
+                + "<version>2</version></dependency>");
+        Files.createDirectories(tempDir.resolve(".mvn"));
+        Session session = ApiRunner.createSession(null, localRepo);
+        ModelBuilder builder = session.getService(ModelBuilder.class);
+
+        List<List<String>> warnings = new ArrayList<>();
+        for (String module : List.of("module-one", "module-two")) {
+            Path pom = tempDir.resolve(module).resolve("pom.xml");
+            Files.createDirectories(pom.getParent());
+            Files.writeString(pom, """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>org.test</groupId>
+                    <artifactId>%s</artifactId>
+                    <version>1.0</version>
+                    <dependencyManagement>
+                        <dependencies>
+                            <dependency>
+                                <groupId>org.test</groupId>
+                                <artifactId>bom-a</artifactId>
+                                <version>1.0</version>
+                                <type>pom</type>
+                                <scope>import</scope>
+                                <exclusions>
+                                    <exclusion>
+                                        <groupId>org.test</groupId>
+                                        <artifactId>excluded</artifactId>
+                                    </exclusion>
+                                </exclusions>
+                            </dependency>
+                            <dependency>
+                                <groupId>org.test</groupId>
+                                <artifactId>bom-b</artifactId>
+                                <version>1.0</version>
+                                <type>pom</type>
+                                <scope>import</scope>
+                            </dependency>
+                        </dependencies>
+                    </dependencyManagement>
+                </project>
+                """.formatted(module));
+            ModelBuilderRequest request = ModelBuilderRequest.builder()
+                    .session(session)
+                    .requestType(ModelBuilderRequest.RequestType.BUILD_PROJECT)
+                    .source(Sources.buildSource(pom))
+                    .build();
+            ModelBuilderResult result = builder.newSession().build(request);
+
+            List<Dependency> managed = result.getEffectiveModel().getDependencyManagement().getDependencies();
+            assertEquals(
+                    List.of("lib:1"),
+                    managed.stream()
+                            .map(d -> d.getArtifactId() + ":" + d.getVersion())
+                            .toList());
+            assertEquals(
+                    List.of("org.test:excluded"),
+                    managed.get(0).getExclusions().stream()
+                            .map(e -> e.getGroupId() + ":" + e.getArtifactId())
+                            .toList());
+            warnings.add(result.getProblemCollector()
+                    .problems()
+                    .filter(p -> p.getSeverity() == BuilderProblem.Severity.WARNING)
+                    .map(BuilderProblem::getMessage)
+                    .filter(m -> m.contains("Ignored POM import"))
+                    .toList());
+        }
+
+        // the second module imports the same sections, so the merge of the first one is reused
+        assertEquals(1, session.getData().get(DefaultDependencyManagementImporter.KEY).size());
+        assertEquals(1, warnings.get(0).size(), warnings.toString());
+        assertEquals(warnings.get(0), warnings.get(1));
+    }
+
+    private static void writeBom(Path localRepo, String artifactId, String dependencies) throws IOException {
+        Path pom = localRepo.resolve("org/test/" + artifactId + "/1.0/" + artifactId + "-1.0.pom");
+        Files.createDirectories(pom.getParent());
+        Files.writeString(pom, """
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+                <modelVersion>4.0.0</modelVersion>
+                <groupId>org.test</groupId>
+                <artifactId>%s</artifactId>
+                <version>1.0</version>
+                <packaging>pom</packaging>
+                <dependencyManagement>
+                    <dependencies>
+                        %s
+                    </dependencies>
+                </dependencyManagement>
+            </project>
+            """.formatted(artifactId, dependencies));
+    }
+
     private Path getPom(String name) {
         return Paths.get("src/test/resources/poms/factory/" + name + ".xml").toAbsolutePath();
     }
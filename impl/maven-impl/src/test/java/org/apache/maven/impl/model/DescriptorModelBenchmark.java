@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.model;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.api.Session;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.services.ModelBuilder;
+import org.apache.maven.api.services.ModelBuilderRequest;
+import org.apache.maven.api.services.ModelSource;
+import org.apache.maven.api.services.Sources;
+import org.apache.maven.impl.standalone.ApiRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark comparing the CPU time and allocations of building a dependency POM as a full consumer model
+ * ({@code dependency}) and as an artifact descriptor ({@code descriptor}), which skips the plugins of the POM and
+ * of the super POM. A new model builder session is used for each model, as for a dependency read for the first time.
+ *
+ * To run this benchmark:
+ * mvn test-compile -pl impl/maven-impl and run the main method of this class.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DescriptorModelBenchmark {
+
+    private Session session;
+    private ModelBuilder builder;
+    private ModelSource source;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        session = ApiRunner.createSession();
+        builder = session.getService(ModelBuilder.class);
+        Path pom = Paths.get("src/test/resources/poms/factory/descriptor.xml").toAbsolutePath();
+        source = Sources.resolvedSource(pom, "org.apache.maven.test:descriptor:1.0.0");
+    }
+
+    @Benchmark
+    public Model dependency() {
+        return build(ModelBuilderRequest.RequestType.CONSUMER_DEPENDENCY);
+    }
+
+    @Benchmark
+    public Model descriptor() {
+        return build(ModelBuilderRequest.RequestType.CONSUMER_DESCRIPTOR);
+    }
+
+    private Model build(ModelBuilderRequest.RequestType requestType) {
+        return builder.newSession()
+                .build(ModelBuilderRequest.builder()
+                        .session(session)
+                        .requestType(requestType)
+                        .source(source)
+                        .build())
+                .getEffectiveModel();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(DescriptorModelBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opts).run();
+    }
+}
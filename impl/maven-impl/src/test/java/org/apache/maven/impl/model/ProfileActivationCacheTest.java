@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.model;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.api.model.Activation;
+import org.apache.maven.api.model.ActivationFile;
+import org.apache.maven.api.model.ActivationProperty;
+import org.apache.maven.api.model.Model;
+import org.apache.maven.api.model.Profile;
+import org.apache.maven.impl.model.profile.FileProfileActivator;
+import org.apache.maven.impl.model.profile.PropertyProfileActivator;
+import org.apache.maven.impl.model.profile.SimpleProblemCollector;
+import org.apache.maven.impl.model.rootlocator.DefaultRootLocator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProfileActivationCacheTest {
+
+    private final DefaultProfileSelector selector = new DefaultProfileSelector(
+            List.of(new PropertyProfileActivator(), new FileProfileActivator()));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testIdenticalActivationsAreEvaluatedOnce() {
+        ProfileActivationCache cache = new ProfileActivationCache();
+        List<Profile> profiles = List.of(propertyProfile("a", "foo", "bar"), propertyProfile("b", "foo", "bar"));
+
+        List<Profile> active = selector.getActiveProfiles(
+                profiles, newContext(cache, Map.of("foo", "bar"), Model.newInstance()), new SimpleProblemCollector());
+
+        assertEquals(profiles, active);
+        assertEquals(2, cache.getEvaluations());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void testMemoizedResultDependsOnProperties() {
+        ProfileActivationCache cache = new ProfileActivationCache();
+        List<Profile> profiles = List.of(propertyProfile("a", "foo", "bar"));
+
+        assertEquals(
+                profiles,
+                selector.getActiveProfiles(
+                        profiles,
+                        newContext(cache, Map.of("foo", "bar"), Model.newInstance()),
+                        new SimpleProblemCollector()));
+        assertEquals(
+                List.of(),
+                selector.getActiveProfiles(
+                        profiles,
+                        newContext(cache, Map.of("foo", "baz"), Model.newInstance()),
+                        new SimpleProblemCollector()));
+        assertEquals(
+                profiles,
+                selector.getActiveProfiles(
+                        profiles,
+                        newContext(cache, Map.of("foo", "bar"), Model.newInstance()),
+                        new SimpleProblemCollector()));
+        assertEquals(3, cache.getEvaluations());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    void testMemoizedResultIsReplayedIntoRecordingContext() {
+        ProfileActivationCache cache = new ProfileActivationCache();
+        List<Profile> profiles = List.of(propertyProfile("a", "foo", "bar"));
+        selector.getActiveProfiles(
+                profiles, newContext(cache, Map.of("foo", "bar"), Model.newInstance()), new SimpleProblemCollector());
+
+        DefaultProfileActivationContext recording =
+                newContext(cache, Map.of("foo", "bar"), Model.newInstance()).start();
+        selector.getActiveProfiles(profiles, recording, new SimpleProblemCollector());
+
+        assertEquals(1, cache.getHits());
+        assertEquals("bar", recording.stop().usedUserProperties.get("foo"));
+    }
+
+    @Test
+    void testFileChecksAreShared() throws Exception {
+        ProfileActivationCache cache = new ProfileActivationCache();
+        Path file = tempDir.resolve("marker.txt");
+        Profile profile = Profile.newBuilder()
+                .id("file")
+                .activation(Activation.newBuilder()
+                        .file(ActivationFile.newBuilder()
+                                .exists("${project.basedir}/marker.txt")
+                                .build())
+                        .build())
+                .build();
+        Model model = Model.newBuilder().pomFile(tempDir.resolve("pom.xml")).build();
+
+        assertEquals(
+                List.of(),
+                selector.getActiveProfiles(
+                        List.of(profile), newContext(cache, Map.of(), model), new SimpleProblemCollector()));
+
+        // the result of the existence check is kept for the session
+        Files.createFile(file);
+        assertEquals(
+                List.of(),
+                selector.getActiveProfiles(
+                        List.of(profile), newContext(cache, Map.of(), model), new SimpleProblemCollector()));
+        assertEquals(
+                List.of(profile),
+                selector.getActiveProfiles(
+                        List.of(profile),
+                        newContext(new ProfileActivationCache(), Map.of(), model),
+                        new SimpleProblemCollector()));
+        assertTrue(cache.toString().contains("1 memoized for 1 distinct activation(s)"), cache.toString());
+    }
+
+    @Test
+    void testNoCache() {
+        DefaultProfileActivationContext context = newContext(null, Map.of("foo", "bar"), Model.newInstance());
+        List<Profile> profiles = List.of(propertyProfile("a", "foo", "bar"));
+
+        assertEquals(profiles, selector.getActiveProfiles(profiles, context, new SimpleProblemCollector()));
+        assertNull(context.getActivationCache());
+    }
+
+    private static Profile propertyProfile(String id, String name, String value) {
+        return Profile.newBuilder()
+                .id(id)
+                .activation(Activation.newBuilder()
+                        .property(ActivationProperty.newBuilder()
+                                .name(name)
+                                .value(value)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    private static DefaultProfileActivationContext newContext(
+            ProfileActivationCache cache, Map<String, String> userProperties, Model model) {
+        return new DefaultProfileActivationContext(
+                        new DefaultPathTranslator(),
+                        new DefaultRootLocator(),
+                        new DefaultInterpolator(),
+                        List.of(),
+                        List.of(),
+                        Map.of(),
+                        userProperties,
+                        model)
+                .setActivationCache(cache);
+    }
+}
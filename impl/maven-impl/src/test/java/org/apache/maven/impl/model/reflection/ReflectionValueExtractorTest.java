@@ -45,6 +45,7 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * ReflectionValueExtractorTest class.
@@ -571,4 +572,37 @@ public void testRootPropertyRegression() throws Exception {
         Object evalued = ReflectionValueExtractor.evaluate("description", project);
         assertNotNull(evalued);
     }
+
+    /**
+     * <p>testRepeatedEvaluationOverDifferentRoots.</p>
+     *
+     * @throws Exception if any.
+     */
+    @Test
+    public void testRepeatedEvaluationOverDifferentRoots() throws Exception {
+        Project other = new Project();
+        other.setArtifactId("other-artifact");
+
+        assertEquals("maven-core", ReflectionValueExtractor.evaluate("project.artifactId", project));
+        assertEquals("other-artifact", ReflectionValueExtractor.evaluate("project.artifactId", other));
+        assertEquals("maven-core", ReflectionValueExtractor.evaluate("project.artifactId", project));
+        assertNull(ReflectionValueExtractor.evaluate("project.artifactId", null));
+        assertNull(ReflectionValueExtractor.evaluate("project.artifactId", new ValueHolder("value")));
+    }
+
+    /**
+     * <p>testFailingAccessor.</p>
+     */
+    @Test
+    public void testFailingAccessor() {
+        IntrospectionException e = assertThrows(
+                IntrospectionException.class, () -> ReflectionValueExtractor.evaluate("h.failing", new Failing()));
+        assertEquals("failing accessor", e.getCause().getMessage());
+    }
+
+    public static class Failing {
+        public String getFailing() {
+            throw new IllegalStateException("failing accessor");
+        }
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.resolver;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.apache.maven.api.metadata.Metadata;
+import org.apache.maven.metadata.v4.MetadataStaxReader;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultVersionRangeResolverTest {
+
+    private static final String METADATA = """
+            <metadata>
+              <groupId>g</groupId>
+              <artifactId>a</artifactId>
+              <versioning>
+                <latest>1.1-SNAPSHOT</latest>
+                <release>1.0</release>
+                <versions>
+                  <version>1.0</version>
+                  <version>1.1-SNAPSHOT</version>
+                </versions>
+                <lastUpdated>20240101000000</lastUpdated>
+                <snapshotVersions>
+                  <snapshotVersion>
+                    <extension>jar</extension>
+                    <value>1.1-20240101.000000-1</value>
+                  </snapshotVersion>
+                </snapshotVersions>
+              </versioning>
+              <plugins>
+                <plugin>
+                  <name>Plugin</name>
+                  <prefix>p</prefix>
+                  <artifactId>p-maven-plugin</artifactId>
+                </plugin>
+              </plugins>
+            </metadata>
+            """;
+
+    @Test
+    void testOnlyVersionsAreRead() throws Exception {
+        MetadataStaxReader reader = new MetadataStaxReader();
+        reader.setFieldFilter(DefaultVersionRangeResolver.VERSIONS_ONLY);
+
+        Metadata metadata = reader.read(new StringReader(METADATA), false);
+
+        assertEquals(List.of("1.0", "1.1-SNAPSHOT"), metadata.getVersioning().getVersions());
+        assertNull(metadata.getGroupId());
+        assertNull(metadata.getVersioning().getLatest());
+        assertNull(metadata.getVersioning().getRelease());
+        assertNull(metadata.getVersioning().getLastUpdated());
+        assertTrue(metadata.getVersioning().getSnapshotVersions().isEmpty());
+        assertTrue(metadata.getPlugins().isEmpty());
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.impl.util;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.maven.api.Constants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadsTest {
+
+    @Test
+    void testAvailability() {
+        assertEquals(Runtime.version().feature() >= 21, VirtualThreads.isAvailable());
+    }
+
+    @Test
+    void testEnabled() {
+        boolean available = VirtualThreads.isAvailable();
+        assertFalse(VirtualThreads.isEnabled(Map.of(), Map.of()));
+        assertEquals(available, VirtualThreads.isEnabled(Map.of(), Map.of(Constants.MAVEN_VIRTUAL_THREADS, "true")));
+        assertFalse(VirtualThreads.isEnabled(
+                Map.of(Constants.MAVEN_VIRTUAL_THREADS, "false"), Map.of(Constants.MAVEN_VIRTUAL_THREADS, "true")));
+
+        Properties props = new Properties();
+        props.setProperty(Constants.MAVEN_VIRTUAL_THREADS, "true");
+        assertEquals(available, VirtualThreads.isEnabled(null, props));
+    }
+
+    @Test
+    void testExecutor() throws Exception {
+        if (!VirtualThreads.isAvailable()) {
+            assertThrows(UnsupportedOperationException.class, () -> VirtualThreads.newExecutor("test-"));
+            return;
+        }
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        try (PhasingExecutor executor = new PhasingExecutor(VirtualThreads.newExecutor("test-"))) {
+            executor.execute(() -> thread.set(Thread.currentThread()));
+        }
+        assertTrue(thread.get().getName().startsWith("test-"));
+        assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread.get()));
+    }
+
+    @Test
+    void testRecordPinnedThreadsOnce() {
+        Path file = VirtualThreads.recordPinnedThreads();
+        if (file != null) {
+            assertTrue(Files.isRegularFile(file));
+        }
+        assertNull(VirtualThreads.recordPinnedThreads());
+    }
+}
@@ -30,6 +30,7 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -281,6 +282,58 @@ void testLocationReportingForListElements() throws Exception {
         assertEquals(5, module3Location.getColumnNumber(), "Module 3 should start at column 5");
     }
 
+    @Test
+    void testFieldFilterSkipsSections() throws Exception {
+        String xml = "<project>\n"
+                + "  <modelVersion>4.0.0</modelVersion>\n"
+                + "  <build>\n"
+                + "    <plugins>\n"
+                + "      <plugin>\n"
+                + "        <artifactId>maven-test-plugin</artifactId>\n"
+                + "        <configuration><unknown><deep/></unknown></configuration>\n"
+                + "      </plugin>\n"
+                + "    </plugins>\n"
+                + "  </build>\n"
+                + "  <dependencies>\n"
+                + "    <dependency>\n"
+                + "      <artifactId>junit</artifactId>\n"
+                + "      <notes>not part of the model</notes>\n"
+                + "    </dependency>\n"
+                + "  </dependencies>\n"
+                + "  <properties>\n"
+                + "    <foo>bar</foo>\n"
+                + "  </properties>\n"
+                + "</project>";
+
+        MavenStaxReader reader = new MavenStaxReader();
+        reader.setAddLocationInformation(true);
+        reader.setFieldFilter((className, tagName) ->
+                !("Model".equals(className) && "build".equals(tagName))
+                        && !("Dependency".equals(className) && "notes".equals(tagName)));
+        Model model = reader.read(new StringReader(xml), true, InputSource.of("test.xml"));
+
+        assertNull(model.getBuild());
+        assertNull(model.getLocation("build"));
+        assertEquals("junit", model.getDependencies().get(0).getArtifactId());
+        assertEquals("bar", model.getProperties().get("foo"));
+        // the parser is positioned after the skipped element
+        assertEquals(11, model.getLocation("dependencies").getLineNumber());
+    }
+
+    @Test
+    void testFieldFilterStillDetectsDuplicates() {
+        String xml = "<project>\n"
+                + "  <build/>\n"
+                + "  <build/>\n"
+                + "</project>";
+
+        MavenStaxReader reader = new MavenStaxReader();
+        reader.setFieldFilter((className, tagName) -> !"build".equals(tagName));
+        XMLStreamException ex =
+                assertThrows(XMLStreamException.class, () -> reader.read(new StringReader(xml), true, null));
+        assertTrue(ex.getMessage().contains("Duplicated tag: 'build'"));
+    }
+
     private Model fromXml(String xml) throws XMLStreamException {
         MavenStaxReader reader = new MavenStaxReader();
         return reader.read(new StringReader(xml), true, null);
@@ -165,11 +165,8 @@ private XmlNode doBuild(
     @Override
     public void doWrite(XmlNode node, Writer writer) throws IOException {
         try {
-            XMLOutputFactory factory = new com.ctc.wstx.stax.WstxOutputFactory();
-            factory.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, false);
-            factory.setProperty(com.ctc.wstx.api.WstxOutputProperties.P_USE_DOUBLE_QUOTES_IN_XML_DECL, true);
-            factory.setProperty(com.ctc.wstx.api.WstxOutputProperties.P_ADD_SPACE_AFTER_EMPTY_ELEM, true);
-            XMLStreamWriter serializer = new IndentingXMLStreamWriter(factory.createXMLStreamWriter(writer));
+            XMLStreamWriter serializer =
+                    new IndentingXMLStreamWriter(OutputFactoryHolder.XML_OUTPUT_FACTORY.createXMLStreamWriter(writer));
             writeNode(serializer, node);
             serializer.close();
         } catch (XMLStreamException e) {
@@ -503,8 +500,28 @@ private static boolean matchesKeys(@Nonnull XmlNode node1, @Nonnull XmlNode node
         return true;
     }
 
+    /**
+     * The output factory, shared by all the writes as it is thread safe once configured.
+     */
+    static class OutputFactoryHolder {
+        static final XMLOutputFactory XML_OUTPUT_FACTORY;
+
+        static {
+            XMLOutputFactory factory = new com.ctc.wstx.stax.WstxOutputFactory();
+            factory.setProperty(XMLOutputFactory.IS_REPAIRING_NAMESPACES, false);
+            factory.setProperty(com.ctc.wstx.api.WstxOutputProperties.P_USE_DOUBLE_QUOTES_IN_XML_DECL, true);
+            factory.setProperty(com.ctc.wstx.api.WstxOutputProperties.P_ADD_SPACE_AFTER_EMPTY_ELEM, true);
+            XML_OUTPUT_FACTORY = factory;
+        }
+    }
+
     static class IndentingXMLStreamWriter extends StreamWriterDelegate {
 
+        /**
+         * A new line followed by the indentation of the first levels, written as a single slice.
+         */
+        private static final char[] INDENT = ("\n" + "  ".repeat(32)).toCharArray();
+
         int depth = 0;
         boolean hasChildren = false;
         boolean anew = true;
@@ -594,10 +611,12 @@ public void writeEndElement() throws XMLStreamException {
         }
 
         private void indent() throws XMLStreamException {
-            if (!anew) {
-                super.writeCharacters("\n");
+            int start = anew ? 1 : 0;
+            int end = Math.min(1 + 2 * depth, INDENT.length);
+            if (end > start) {
+                super.writeCharacters(INDENT, start, end - start);
             }
-            for (int i = 0; i < depth; i++) {
+            for (int i = (INDENT.length - 1) / 2; i < depth; i++) {
                 super.writeCharacters("  ");
             }
         }
@@ -883,6 +883,25 @@ void testWriteWithNamespaceDeclarationsAndPrefixedAttributes() throws Exception
         assertNotNull(reRead);
     }
 
+    @Test
+    void testWriteIndentsDeeplyNestedNodes() throws Exception {
+        XmlNode node = XmlNode.newInstance("leaf", "value");
+        for (int i = 39; i >= 0; i--) {
+            node = XmlNode.newInstance("level" + i, List.of(node));
+        }
+
+        StringWriter writer = new StringWriter();
+        XmlService.write(node, writer);
+        String[] lines = writer.toString().split("\n");
+
+        assertEquals(81, lines.length);
+        assertEquals("<level0>", lines[0]);
+        assertEquals("  <level1>", lines[1]);
+        assertEquals("  ".repeat(40) + "<leaf>value</leaf>", lines[40]);
+        assertEquals("  ".repeat(33) + "</level33>", lines[47]);
+        assertEquals("</level0>", lines[80]);
+    }
+
     @Test
     void testWriteStripsOrphanedPrefixOnAttributes() throws Exception {
         XmlNode node = XmlNode.newBuilder()